@@ -0,0 +1,78 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardGenerator;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardPruner;
+import java.util.Random;
+
+/**
+ * This class provides the fixed, reproducible boards the benchmarks run on.
+ * The boards are generated from fixed random seeds, so that every run of 
+ * every benchmark sees the same boards.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class BenchmarkFixtures {
+    
+    private BenchmarkFixtures() {
+        
+    }
+    
+    /**
+     * Returns the random seed of the fixture boards of width/height 
+     * {@code widthHeight}. The seeds are picked so that the random generator
+     * finishes quickly.
+     * 
+     * @param widthHeight the width/height of the board.
+     * @return the random seed.
+     */
+    static long getRandomSeed(final int widthHeight) {
+        switch (widthHeight) {
+            case 9:
+                return 1L;
+                
+            case 16:
+                return 4L;
+                
+            case 25:
+                return 1L;
+                
+            default:
+                throw new IllegalArgumentException(
+                        String.format("No fixture for widthHeight(%d)", 
+                                      widthHeight));
+        }
+    }
+    
+    /**
+     * Returns the fixture full board of width/height {@code widthHeight}.
+     * 
+     * @param widthHeight the width/height of the board.
+     * @return a complete, valid board.
+     */
+    static SudokuBoard getFullBoard(final int widthHeight) {
+        return new RandomSudokuBoardGenerator(
+                widthHeight, 
+                new Random(getRandomSeed(widthHeight)))
+                .generateRandomSudokuBoard();
+    }
+    
+    /**
+     * Returns the fixture puzzle of width/height {@code widthHeight}. Half 
+     * of the cells of the full board are pruned.
+     * 
+     * @param widthHeight the width/height of the board.
+     * @return the puzzle.
+     */
+    static SudokuBoard getPuzzle(final int widthHeight) {
+        final SudokuBoard board = getFullBoard(widthHeight);
+        
+        RandomSudokuBoardPruner.prune(
+                board,
+                widthHeight * widthHeight / 2,
+                new Random(getRandomSeed(widthHeight)));
+        
+        return board;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the benchmarks with the GC profiler attached, so that the
+ * allocation rate and the allocated bytes per operation are reported next to
+ * the timings. Accepts the usual JMH command line options, for example:
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar SolverBenchmark -p widthHeight=16
+ * </pre>
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class BenchmarkRunner {
+    
+    public static void main(final String[] args) 
+            throws CommandLineOptionException, RunnerException {
+        
+        final CommandLineOptions commandLineOptions = 
+                new CommandLineOptions(args);
+        
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
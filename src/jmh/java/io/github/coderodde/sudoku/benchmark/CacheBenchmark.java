@@ -0,0 +1,73 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.CachingSudokuSolver;
+import io.github.coderodde.sudoku.ParallelSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.SudokuCanonicalizer;
+import io.github.coderodde.sudoku.misc.SudokuTransformation;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link SudokuCanonicalizer} and the hit path of 
+ * {@link CachingSudokuSolver} on a symmetric copy of a cached puzzle.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CacheBenchmark {
+    
+    @Param({"9", "16"})
+    public int widthHeight;
+    
+    /**
+     * The symmetric copy of the cached puzzle.
+     */
+    private SudokuBoard symmetricPuzzle;
+    
+    /**
+     * The cache holding the solution of the puzzle.
+     */
+    private CachingSudokuSolver cache;
+    
+    @Setup
+    public void setup() {
+        final SudokuBoard puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+        
+        cache = new CachingSudokuSolver(new ParallelSudokuSolver(), 1024);
+        cache.solve(puzzle, 16, 2, SearchOptions.getDefault());
+        
+        symmetricPuzzle = 
+                SudokuTransformation.random(widthHeight, 
+                                            new SplittableRandom(1L))
+                                    .apply(puzzle);
+    }
+    
+    @Benchmark
+    public SudokuTransformation canonicalize() {
+        return SudokuCanonicalizer.canonicalize(symmetricPuzzle);
+    }
+    
+    @Benchmark
+    public SudokuBoard solveCached() {
+        return cache.solve(symmetricPuzzle, 16, 2, SearchOptions.getDefault());
+    }
+}
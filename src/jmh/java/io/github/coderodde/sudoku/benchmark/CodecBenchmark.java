@@ -0,0 +1,82 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.io.SudokuBoardCodec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link SudokuBoardCodec} on heap and direct buffers.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+    
+    @Param({"9", "16", "25"})
+    public int widthHeight;
+    
+    @Param({"false", "true"})
+    public boolean direct;
+    
+    /**
+     * The puzzle to encode.
+     */
+    private SudokuBoard puzzle;
+    
+    /**
+     * The buffer to encode to.
+     */
+    private ByteBuffer encodeBuffer;
+    
+    /**
+     * The buffer holding the encoded puzzle.
+     */
+    private ByteBuffer decodeBuffer;
+    
+    @Setup
+    public void setup() {
+        final int size = SudokuBoardCodec.getEncodedSize(widthHeight);
+        
+        puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+        encodeBuffer = direct ? 
+                       ByteBuffer.allocateDirect(size) : 
+                       ByteBuffer.allocate(size);
+        decodeBuffer = direct ? 
+                       ByteBuffer.allocateDirect(size) : 
+                       ByteBuffer.allocate(size);
+        
+        SudokuBoardCodec.encode(puzzle, decodeBuffer);
+        decodeBuffer.flip();
+    }
+    
+    @Benchmark
+    public ByteBuffer encode() {
+        encodeBuffer.clear();
+        SudokuBoardCodec.encode(puzzle, encodeBuffer);
+        return encodeBuffer;
+    }
+    
+    @Benchmark
+    public SudokuBoard decode() {
+        decodeBuffer.rewind();
+        return SudokuBoardCodec.decode(decodeBuffer);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.MinimalPuzzleGenerator;
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardGenerator;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardPruner;
+import io.github.coderodde.sudoku.misc.TransformingSudokuBoardGenerator;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link RandomSudokuBoardGenerator}, 
+ * {@link TransformingSudokuBoardGenerator}, {@link RandomSudokuBoardPruner}
+ * and {@link MinimalPuzzleGenerator}. Each invocation reseeds its random 
+ * number generator, so that every invocation does the same work. The generator is
+ * not benchmarked on the boards of width/height 25, since its running time 
+ * varies by orders of magnitude between the seeds.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GeneratorBenchmark {
+    
+    @Param({"9", "16"})
+    public int widthHeight;
+    
+    /**
+     * The full board to prune.
+     */
+    private SudokuBoard fullBoard;
+    
+    /**
+     * The minimal puzzle generator.
+     */
+    private MinimalPuzzleGenerator minimalPuzzleGenerator;
+    
+    /**
+     * The transformation-based full board generator.
+     */
+    private TransformingSudokuBoardGenerator transformingGenerator;
+    
+    @Setup
+    public void setup() {
+        fullBoard = BenchmarkFixtures.getFullBoard(widthHeight);
+        transformingGenerator = 
+                new TransformingSudokuBoardGenerator(widthHeight);
+        minimalPuzzleGenerator = new MinimalPuzzleGenerator();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        minimalPuzzleGenerator.close();
+    }
+    
+    @Benchmark
+    public SudokuBoard generate() {
+        return new RandomSudokuBoardGenerator(
+                widthHeight, 
+                new Random(BenchmarkFixtures.getRandomSeed(widthHeight)))
+                .generateRandomSudokuBoard();
+    }
+    
+    @Benchmark
+    public SudokuBoard generateByTransformation() {
+        return transformingGenerator.generate(
+                new SplittableRandom(widthHeight));
+    }
+    
+    /**
+     * Prunes half of the cells of a copy of the full board. Includes the cost
+     * of the copy.
+     * 
+     * @return the pruned board.
+     */
+    @Benchmark
+    public SudokuBoard prune() {
+        final SudokuBoard board = new SudokuBoard(fullBoard);
+        
+        RandomSudokuBoardPruner.prune(board, 
+                                      widthHeight * widthHeight / 2, 
+                                      new Random(widthHeight));
+        return board;
+    }
+    
+    @Benchmark
+    public SudokuBoard generateMinimal() {
+        return minimalPuzzleGenerator.generateMinimal(fullBoard, 
+                                                      new Random(widthHeight));
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.ParallelSudokuSolver;
+import io.github.coderodde.sudoku.PortfolioStrategy;
+import io.github.coderodde.sudoku.SolveResult;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the portfolio solve racing all the strategies 
+ * against each strategy running alone. The sample time mode reports the 
+ * latency percentiles, which is where the race is expected to pay off.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PortfolioBenchmark {
+    
+    @Param({"9", "16", "25"})
+    public int widthHeight;
+    
+    @Param({"ALL", 
+            "RANDOM_ORDER", 
+            "MINIMUM_REMAINING_VALUES", 
+            "PROPAGATION", 
+            "DANCING_LINKS"})
+    public String strategy;
+    
+    /**
+     * The puzzle to solve.
+     */
+    private SudokuBoard puzzle;
+    
+    /**
+     * The strategies to race.
+     */
+    private Collection<PortfolioStrategy> strategies;
+    
+    /**
+     * The solver.
+     */
+    private final ParallelSudokuSolver solver = new ParallelSudokuSolver();
+    
+    @Setup
+    public void setup() {
+        puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+        strategies = strategy.equals("ALL") ?
+                     EnumSet.allOf(PortfolioStrategy.class) :
+                     EnumSet.of(PortfolioStrategy.valueOf(strategy));
+    }
+    
+    @Benchmark
+    public SolveResult solvePortfolio() {
+        return solver.solvePortfolio(puzzle, strategies, null, null);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.ParallelSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the restart policies of the randomized search on a 
+ * single worker. The sample time mode reports the latency percentiles, whose
+ * tail the restarts are meant to cut.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RestartBenchmark {
+    
+    @Param({"16", "25"})
+    public int widthHeight;
+    
+    @Param({"NONE", "LUBY", "GEOMETRIC"})
+    public SearchOptions.RestartPolicy restartPolicy;
+    
+    @Param({"false", "true"})
+    public boolean valueHints;
+    
+    /**
+     * The puzzle to solve.
+     */
+    private SudokuBoard puzzle;
+    
+    /**
+     * The search options.
+     */
+    private SearchOptions options;
+    
+    /**
+     * The solver.
+     */
+    private final ParallelSudokuSolver solver = new ParallelSudokuSolver();
+    
+    @Setup
+    public void setup() {
+        puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+        options = SearchOptions.getDefault()
+                               .withCellOrder(
+                                   SearchOptions.CellOrder
+                                                .MINIMUM_REMAINING_VALUES)
+                               .withPropagation(true)
+                               .withRestarts(
+                                   restartPolicy, 
+                                   SearchOptions.DEFAULT_RESTART_SCALE)
+                               .withValueHints(valueHints);
+    }
+    
+    @Benchmark
+    public SudokuBoard solve() {
+        return solver.solve(new SudokuBoard(puzzle), 1, 1, options);
+    }
+}
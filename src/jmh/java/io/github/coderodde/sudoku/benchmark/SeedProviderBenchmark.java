@@ -0,0 +1,63 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.FrontierSudokuBoardSeedProvider;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardSeedProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link RandomSudokuBoardSeedProvider#computeSeeds(
+ * SudokuBoard, int)} and {@link FrontierSudokuBoardSeedProvider#computeSeeds(
+ * SudokuBoard, int)}.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SeedProviderBenchmark {
+    
+    @Param({"9", "16", "25"})
+    public int widthHeight;
+    
+    @Param({"16", "256"})
+    public int numberOfSeeds;
+    
+    /**
+     * The puzzle to seed.
+     */
+    private SudokuBoard puzzle;
+    
+    @Setup
+    public void setup() {
+        puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+    }
+    
+    @Benchmark
+    public List<SudokuBoard> computeSeeds() {
+        return RandomSudokuBoardSeedProvider.computeSeeds(puzzle, 
+                                                          numberOfSeeds);
+    }
+    
+    @Benchmark
+    public List<SudokuBoard> computeFrontierSeeds() {
+        return FrontierSudokuBoardSeedProvider.computeSeeds(puzzle, 
+                                                            numberOfSeeds);
+    }
+}
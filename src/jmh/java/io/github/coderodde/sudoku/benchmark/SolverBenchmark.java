@@ -0,0 +1,80 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.ExecutionMode;
+import io.github.coderodde.sudoku.ParallelSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link ParallelSudokuSolver#solve(SudokuBoard, int, 
+ * int, SearchOptions)} across the board sizes, the thread counts and the 
+ * numbers of seeds, on both the platform and the virtual threads. The sample
+ * time mode reports the latency percentiles. The search uses the minimum 
+ * remaining values cell order with propagation, since the row-major order 
+ * does not finish the larger fixtures in a predictable time.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SolverBenchmark {
+    
+    /**
+     * The search options.
+     */
+    private static final SearchOptions OPTIONS = 
+            SearchOptions.getDefault()
+                         .withCellOrder(
+                            SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES)
+                         .withPropagation(true);
+    
+    @Param({"9", "16", "25"})
+    public int widthHeight;
+    
+    @Param({"1", "2", "4"})
+    public int numberOfThreads;
+    
+    @Param({"1", "16", "256"})
+    public int numberOfSeeds;
+    
+    @Param({"PLATFORM_THREADS", "VIRTUAL_THREADS"})
+    public ExecutionMode executionMode;
+    
+    /**
+     * The puzzle to solve.
+     */
+    private SudokuBoard puzzle;
+    
+    /**
+     * The solver.
+     */
+    private ParallelSudokuSolver solver;
+    
+    @Setup
+    public void setup() {
+        puzzle = BenchmarkFixtures.getPuzzle(widthHeight);
+        solver = new ParallelSudokuSolver(executionMode);
+    }
+    
+    @Benchmark
+    public SudokuBoard solve() {
+        return solver.solve(puzzle, numberOfSeeds, numberOfThreads, OPTIONS);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.coderodde.sudoku.benchmark;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks {@link SudokuBoardVerifier#isValid(SudokuBoard)} and
+ * {@link SudokuBoardVerifier#canPlace(SudokuBoard, int, int, int)} on the full
+ * boards, which are the worst case since no early exit happens.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VerifierBenchmark {
+    
+    @Param({"9", "16", "25"})
+    public int widthHeight;
+    
+    /**
+     * The board to verify.
+     */
+    private SudokuBoard fullBoard;
+    
+    @Setup
+    public void setup() {
+        fullBoard = BenchmarkFixtures.getFullBoard(widthHeight);
+    }
+    
+    @Benchmark
+    public boolean isValid() {
+        return SudokuBoardVerifier.isValid(fullBoard);
+    }
+    
+    @Benchmark
+    public boolean canPlace() {
+        return SudokuBoardVerifier.canPlace(fullBoard, 
+                                            widthHeight / 2, 
+                                            widthHeight / 2, 
+                                            fullBoard.get(widthHeight / 2, 
+                                                          widthHeight / 2));
+    }
+}
@@ -0,0 +1,597 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import io.github.coderodde.sudoku.misc.SudokuGeometry;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements the sequential backtracking search over a single 
+ * board. Each instance owns its search state and is meant to be used by a 
+ * single worker at a time. The search is iterative: each branching level 
+ * keeps its cell index, its remaining candidate bitmask and its trail mark in 
+ * a preallocated decision stack, so that the search neither recurses nor 
+ * allocates. If the shared thread state collects {@link SolverStatistics}, 
+ * the search counts its nodes and backtracks locally and flushes them to the
+ * statistics of the calling thread every 
+ * {@link #STATISTICS_FLUSH_INTERVAL} nodes.
+ * <p>
+ * If the options ask for restarts, each attempt of the search may expand 
+ * only as many nodes as the restart policy allows. Once an attempt reaches 
+ * its limit, the search undoes its assignments back to the root, reseeds its
+ * random number generator and starts over.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class BacktrackingSearch {
+    
+    /**
+     * The number of the nodes between two consecutive statistics flushes. 
+     * Must be a power of two.
+     */
+    static final long STATISTICS_FLUSH_INTERVAL = 1024L;
+    
+    /**
+     * The constraint state of this search.
+     */
+    private final SearchState state;
+    
+    /**
+     * The cell index tables.
+     */
+    private final SudokuGeometry geometry;
+    
+    /**
+     * The search options.
+     */
+    private final SearchOptions options;
+
+    /**
+     * The shared thread state. Used for communicating that a solution is 
+     * found, or that the search is stopped, and all the workers must exit.
+     */
+    private final SharedThreadState sharedThreadState;
+
+    /**
+     * The random number generator.
+     */
+    private final Random random = new Random();
+    
+    /**
+     * The scratch array for the least constraining value scores.
+     */
+    private final int[] scores;
+    
+    /**
+     * Maps each level of the decision stack to the cell it branches on.
+     */
+    private final int[] levelCells;
+    
+    /**
+     * Maps each level of the decision stack to its untried candidate values.
+     */
+    private final long[] levelCandidates;
+    
+    /**
+     * Maps each level of the decision stack to the trail size before its 
+     * assignment.
+     */
+    private final int[] levelTrailMarks;
+    
+    /**
+     * The least constraining value scores of each level of the decision 
+     * stack, or {@code null} if the value order is random.
+     */
+    private final int[] levelScores;
+    
+    /**
+     * Maps each cell to the value last assigned to it, or {@code 0} if none,
+     * or {@code null} if the value hints are off.
+     */
+    private final int[] valueHints;
+    
+    /**
+     * Whether the search restarts as specified by the options.
+     */
+    private final boolean restarting;
+    
+    /**
+     * The solution count shared by all the workers of a counting search, or 
+     * {@code null} if the search stops at the first solution.
+     */
+    private LongAdder solutionTotal;
+    
+    /**
+     * The solution count at which a counting search stops.
+     */
+    private long solutionLimit;
+    
+    /**
+     * The number of the solutions found by this worker in the current 
+     * counting search.
+     */
+    private long solutionCount;
+    
+    /**
+     * The number of the branchings above the root of this search. Added to 
+     * the reported depths.
+     */
+    private int baseDepth;
+    
+    /**
+     * The statistics of the calling thread, or {@code null} if not 
+     * collected.
+     */
+    private SolverStatistics.WorkerStatistics workerStatistics;
+    
+    /**
+     * The number of the nodes expanded since the last statistics flush.
+     */
+    private long nodes;
+    
+    /**
+     * The number of the backtracks since the last statistics flush.
+     */
+    private long backtracks;
+    
+    /**
+     * The number of the restarts since the last statistics flush.
+     */
+    private long restarts;
+    
+    /**
+     * The deepest level reached since the last statistics flush.
+     */
+    private int maximumDepth;
+    
+    /**
+     * The {@link System#nanoTime()} of the last statistics flush.
+     */
+    private long flushTime;
+    
+    /**
+     * Constructs this search.
+     * 
+     * @param widthHeight       the width/height of the sudoku boards.
+     * @param options           the search options.
+     * @param sharedThreadState the shared thread state.
+     */
+    BacktrackingSearch(final int widthHeight,
+                       final SearchOptions options,
+                       final SharedThreadState sharedThreadState) {
+        this.state = 
+                new SearchState(
+                        widthHeight, 
+                        options.getCellOrder() == 
+                        SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES);
+        
+        this.geometry = state.getGeometry();
+        this.options = options;
+        this.sharedThreadState = sharedThreadState;
+        this.scores = new int[widthHeight + 1];
+        
+        // Each level assigns at least one cell, so the number of the empty 
+        // cells bounds the depth:
+        final int cellCount = geometry.getCellCount();
+        
+        this.levelCells = new int[cellCount];
+        this.levelCandidates = new long[cellCount];
+        this.levelTrailMarks = new int[cellCount];
+        this.levelScores = 
+                options.getValueOrder() == 
+                SearchOptions.ValueOrder.LEAST_CONSTRAINING ?
+                new int[cellCount * (widthHeight + 1)] :
+                null;
+        
+        this.valueHints = 
+                options.isValueHintingEnabled() ? new int[cellCount] : null;
+        
+        // The deterministic value order would repeat the same attempt:
+        this.restarting = 
+                options.getRestartPolicy() != 
+                SearchOptions.RestartPolicy.NONE
+                && options.getValueOrder() == SearchOptions.ValueOrder.RANDOM;
+    }
+    
+    /**
+     * Loads {@code board}, which becomes modified, as the board under 
+     * investigation. If the propagation is on, propagates the loaded board.
+     * 
+     * @param board the board to load.
+     * 
+     * @return {@code false} if {@code board} breaks the rules of sudoku or
+     *         the propagation finds a contradiction.
+     */
+    boolean load(final SudokuBoard board) {
+        if (valueHints != null) {
+            // The hints of the previous board don't apply:
+            Arrays.fill(valueHints, 0);
+        }
+        
+        if (!state.load(board)) {
+            return false;
+        }
+        
+        return !options.isPropagationEnabled() || state.propagate();
+    }
+    
+    /**
+     * Searches for a solution of {@code board}, which becomes modified. On
+     * success, {@code board} is published via the shared thread state.
+     * 
+     * @param board the board to solve.
+     * 
+     * @return {@code true} if a solution was found by any worker.
+     */
+    boolean search(final SudokuBoard board) {
+        if (!load(board)) {
+            return false;
+        }
+        
+        return solveImpl(0);
+    }
+    
+    /**
+     * Counts the solutions of {@code board}, which becomes modified. Adds 
+     * each solution found to {@code solutionTotal}, and stops all the 
+     * workers as soon as the total reaches {@code solutionLimit}. Nothing is 
+     * published via the shared thread state.
+     * 
+     * @param board         the board whose solutions to count.
+     * @param solutionTotal the solution count shared by all the workers.
+     * @param solutionLimit the solution count at which to stop.
+     * 
+     * @return the number of the solutions found by this search.
+     */
+    long countSolutions(final SudokuBoard board,
+                        final LongAdder solutionTotal,
+                        final long solutionLimit) {
+        this.solutionTotal = solutionTotal;
+        this.solutionLimit = solutionLimit;
+        this.solutionCount = 0L;
+        
+        try {
+            if (load(board)) {
+                solveImpl(0);
+            }
+            
+            return solutionCount;
+        } finally {
+            this.solutionTotal = null;
+        }
+    }
+    
+    /**
+     * Searches for a solution of the loaded board starting from the cell 
+     * {@code cellIndex}.
+     * 
+     * @param cellIndex the index of the cell to process next.
+     * 
+     * @return {@code true} if a solution was found by any worker.
+     */
+    boolean search(final int cellIndex) {
+        return solveImpl(cellIndex);
+    }
+    
+    /**
+     * Selects the empty cell to branch on next.
+     * 
+     * @param cellIndex the index of the cell to process next in row-major 
+     *                  order.
+     * 
+     * @return the index of the selected cell, or the cell count if the board 
+     *         is complete.
+     */
+    int selectCell(final int cellIndex) {
+        switch (options.getCellOrder()) {
+            case MINIMUM_REMAINING_VALUES:
+                return state.selectMinimumRemainingValuesCell();
+                
+            default:
+                return state.selectRowMajorCell(cellIndex);
+        }
+    }
+    
+    /**
+     * Writes the candidate values of the cell {@code cellIndex} to 
+     * {@code cellValues} in the order they should be tried.
+     * 
+     * @param cellIndex  the index of the cell.
+     * @param candidates the candidate bitmask of the cell.
+     * @param cellValues the output array.
+     * 
+     * @return the number of the candidate values written.
+     */
+    int orderCellValues(final int cellIndex, 
+                        long candidates, 
+                        final int[] cellValues) {
+        int count = 0;
+        
+        while (candidates != 0L) {
+            cellValues[count++] = Long.numberOfTrailingZeros(candidates) + 1;
+            candidates &= candidates - 1L;
+        }
+        
+        switch (options.getValueOrder()) {
+            case LEAST_CONSTRAINING:
+                state.computeConstrainingScores(cellIndex, scores, 0);
+                
+                // Insertion sort by ascending score:
+                for (int i = 1; i < count; ++i) {
+                    final int cellValue = cellValues[i];
+                    int j = i - 1;
+                    
+                    while (j >= 0 && scores[cellValues[j]] > scores[cellValue]) {
+                        cellValues[j + 1] = cellValues[j];
+                        --j;
+                    }
+                    
+                    cellValues[j + 1] = cellValue;
+                }
+                
+                break;
+                
+            default:
+                // Fisher-Yates shuffle of the candidate values:
+                for (int i = count - 1; i > 0; --i) {
+                    final int j = random.nextInt(i + 1);
+                    final int tmp = cellValues[j];
+                    cellValues[j] = cellValues[i];
+                    cellValues[i] = tmp;
+                }
+        }
+        
+        return count;
+    }
+    
+    SearchState getState() {
+        return state;
+    }
+    
+    /**
+     * Sets the number of the branchings above the root of this search.
+     * 
+     * @param baseDepth the base depth.
+     */
+    void setBaseDepth(final int baseDepth) {
+        this.baseDepth = baseDepth;
+    }
+    
+    /**
+     * Runs the search loop, collecting the statistics if requested.
+     * 
+     * @param cellIndex the index of the cell to process next in row-major 
+     *                  order.
+     * 
+     * @return {@code true} if a solution was found by any worker.
+     */
+    private boolean solveImpl(final int cellIndex) {
+        final SolverStatistics statistics = sharedThreadState.getStatistics();
+        
+        if (statistics == null) {
+            workerStatistics = null;
+            return searchLoop(cellIndex);
+        }
+        
+        workerStatistics = statistics.getCurrentWorkerStatistics();
+        nodes = 0L;
+        backtracks = 0L;
+        restarts = 0L;
+        maximumDepth = 0;
+        flushTime = System.nanoTime();
+        
+        try {
+            return searchLoop(cellIndex);
+        } finally {
+            flushStatistics();
+            workerStatistics = null;
+        }
+    }
+    
+    /**
+     * Adds the locally accumulated counts to the statistics of the calling 
+     * thread and clears them.
+     */
+    private void flushStatistics() {
+        final long now = System.nanoTime();
+        
+        workerStatistics.add(nodes, backtracks, now - flushTime);
+        workerStatistics.addRestarts(restarts);
+        workerStatistics.updateMaximumDepth(baseDepth + maximumDepth);
+        
+        nodes = 0L;
+        backtracks = 0L;
+        restarts = 0L;
+        maximumDepth = 0;
+        flushTime = now;
+    }
+    
+    /**
+     * The actual solution method.
+     * 
+     * @param cellIndex the index of the cell to process next in row-major 
+     *                  order.
+     * 
+     * @return {@code true} if a solution was found by any worker.
+     */
+    private boolean searchLoop(final int cellIndex) {
+        final int cellCount = geometry.getCellCount();
+        
+        // A counting search must not revisit the solutions it has counted:
+        final boolean restartable = restarting && solutionTotal == null;
+        final int rootTrailMark = state.getTrailSize();
+        int nextCellIndex = cellIndex;
+        int depth = 0;
+        int attempt = 0;
+        long attemptNodes = 0L;
+        long attemptNodeLimit = 
+                restartable ? options.getNodeLimit(0) : Long.MAX_VALUE;
+        
+        while (true) {
+            if (sharedThreadState.isStopped()) {
+                // Once here, some worker has found a solution, or the search
+                // is cancelled:
+                return sharedThreadState.getSolution() != null;
+            }
+            
+            if (attemptNodes >= attemptNodeLimit) {
+                // Once here, the attempt is out of nodes. Start over from the
+                // root with a fresh random number sequence, keeping the 
+                // value hints:
+                state.undoTo(rootTrailMark);
+                random.setSeed(ThreadLocalRandom.current().nextLong());
+                nextCellIndex = cellIndex;
+                depth = 0;
+                attemptNodes = 0L;
+                attemptNodeLimit = options.getNodeLimit(++attempt);
+                ++restarts;
+            }
+            
+            // BEGIN: Open a new level.
+            final int selectedCellIndex = selectCell(nextCellIndex);
+            
+            if (selectedCellIndex == cellCount) {
+                if (solutionTotal == null) {
+                    // Once here, we have a solution. Record it and exit with 
+                    // true:
+                    sharedThreadState.publishSolution(state.getBoard());
+                    return true;
+                }
+                
+                ++solutionCount;
+                solutionTotal.increment();
+                
+                if (solutionTotal.sum() >= solutionLimit) {
+                    // Once here, the workers have counted enough:
+                    sharedThreadState.stop();
+                    return false;
+                }
+                
+                // Once here, backtrack for the next solution.
+            } else {
+                // A single AND/NOT over the row, column and minisquare masks:
+                final long candidates = 
+                        state.getCandidates(selectedCellIndex);
+
+                if (candidates != 0L) {
+                    levelCells[depth] = selectedCellIndex;
+                    levelCandidates[depth] = candidates;
+                    levelTrailMarks[depth] = state.getTrailSize();
+                
+                    if (levelScores != null) {
+                        state.computeConstrainingScores(
+                                selectedCellIndex,
+                                levelScores, 
+                                depth * (geometry.getWidthHeight() + 1));
+                    }
+                
+                    ++depth;
+                    
+                    if (depth > maximumDepth) {
+                        maximumDepth = depth;
+                    }
+                }
+            }
+            // END: Open a new level.
+            
+            // BEGIN: Assign the next untried value of the deepest level that
+            //        has one, backtracking the exhausted levels.
+            boolean assigned = false;
+            
+            while (depth > 0) {
+                final int level = depth - 1;
+                
+                // Undo the previous assignment along with the propagated ones:
+                state.undoTo(levelTrailMarks[level]);
+                
+                if (levelCandidates[level] == 0L) {
+                    // Once here, the level is exhausted. Backtrack a little:
+                    --depth;
+                    ++backtracks;
+                    continue;
+                }
+                
+                final int cellValue = pickCellValue(level);
+                levelCandidates[level] &= ~BitmaskFilters.bit(cellValue);
+                state.assign(levelCells[level], cellValue);
+                
+                if (valueHints != null) {
+                    valueHints[levelCells[level]] = cellValue;
+                }
+                
+                ++attemptNodes;
+                
+                if ((++nodes & (STATISTICS_FLUSH_INTERVAL - 1L)) == 0L 
+                        && workerStatistics != null) {
+                    flushStatistics();
+                }
+                
+                if (!options.isPropagationEnabled() || state.propagate()) {
+                    nextCellIndex = levelCells[level] + 1;
+                    assigned = true;
+                    break;
+                }
+            }
+            // END: Assign the next untried value.
+            
+            if (!assigned) {
+                // Once here, the entire search space is exhausted:
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Picks the next cell value to try from the untried candidates of the 
+     * level {@code level}.
+     * 
+     * @param level the level of the decision stack.
+     * 
+     * @return the cell value to try.
+     */
+    private int pickCellValue(final int level) {
+        long candidates = levelCandidates[level];
+        
+        if (levelScores != null) {
+            // Pick the least constraining candidate:
+            final int offset = level * (geometry.getWidthHeight() + 1);
+            int bestCellValue = 0;
+            int bestScore = Integer.MAX_VALUE;
+            
+            while (candidates != 0L) {
+                final int cellValue = 
+                        Long.numberOfTrailingZeros(candidates) + 1;
+                
+                candidates &= candidates - 1L;
+                
+                if (levelScores[offset + cellValue] < bestScore) {
+                    bestScore = levelScores[offset + cellValue];
+                    bestCellValue = cellValue;
+                }
+            }
+            
+            return bestCellValue;
+        }
+        
+        if (valueHints != null) {
+            final int hint = valueHints[levelCells[level]];
+            
+            if (hint != 0 && (candidates & BitmaskFilters.bit(hint)) != 0L) {
+                // Once here, retry the value of the previous visit first:
+                return hint;
+            }
+        }
+        
+        // Pick a uniformly random candidate:
+        for (int skip = random.nextInt(Long.bitCount(candidates)); 
+                skip > 0; 
+                --skip) {
+            candidates &= candidates - 1L;
+        }
+        
+        return Long.numberOfTrailingZeros(candidates) + 1;
+    }
+}
@@ -0,0 +1,397 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements a high-throughput solver for large numbers of 
+ * independent sudoku puzzles. Unlike {@link ParallelSudokuSolver}, which 
+ * spreads a single puzzle over several threads, this solver solves each
+ * puzzle sequentially in a single worker thread, and runs as many puzzles
+ * concurrently as there are workers. The search states are pooled and 
+ * reused between the puzzles, and no seeds are generated. The input puzzles
+ * are never modified.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class BatchSudokuSolver implements AutoCloseable {
+    
+    /**
+     * The number of the puzzles in flight per worker thread.
+     */
+    private static final int PUZZLES_IN_FLIGHT_PER_THREAD = 4;
+    
+    /**
+     * This interface defines the callback for the solutions reported in 
+     * completion order.
+     */
+    @FunctionalInterface
+    public interface SolutionListener {
+        
+        /**
+         * Called once per input puzzle.
+         * 
+         * @param index    the index of the puzzle in the input.
+         * @param puzzle   the input puzzle.
+         * @param solution the solution, or {@code null} if the puzzle is 
+         *                 invalid, unsupported or has no solution.
+         */
+        void onSolution(long index, SudokuBoard puzzle, SudokuBoard solution);
+    }
+    
+    /**
+     * The worker thread pool, or the virtual thread per task executor.
+     */
+    private final ExecutorService executor;
+    
+    /**
+     * The maximum number of the puzzles submitted but not yet consumed.
+     */
+    private final int puzzlesInFlight;
+    
+    /**
+     * The search options.
+     */
+    private final SearchOptions options;
+    
+    /**
+     * Maps each board width/height to the idle workers for it.
+     */
+    private final ConcurrentMap<Integer, Queue<Worker>> idleWorkers = 
+            new ConcurrentHashMap<>();
+    
+    /**
+     * Constructs this batch solver with a worker per available processor and
+     * the default search options.
+     */
+    public BatchSudokuSolver() {
+        this(Runtime.getRuntime().availableProcessors(),
+             SearchOptions.getDefault());
+    }
+    
+    /**
+     * Constructs this batch solver running on platform threads.
+     * 
+     * @param numberOfThreads the number of the worker threads.
+     * @param options         the search options.
+     */
+    public BatchSudokuSolver(final int numberOfThreads,
+                             final SearchOptions options) {
+        this(numberOfThreads, options, ExecutionMode.PLATFORM_THREADS);
+    }
+    
+    /**
+     * Constructs this batch solver. With {@link ExecutionMode#PLATFORM_THREADS}
+     * the puzzles are solved by a fixed pool of {@code numberOfThreads} 
+     * threads. With {@link ExecutionMode#VIRTUAL_THREADS} each puzzle is 
+     * solved in its own virtual thread, and {@code numberOfThreads} only 
+     * bounds the number of the puzzles in flight.
+     * 
+     * @param numberOfThreads the number of the worker threads.
+     * @param options         the search options.
+     * @param executionMode   the kind of the worker threads.
+     */
+    public BatchSudokuSolver(final int numberOfThreads,
+                             final SearchOptions options,
+                             final ExecutionMode executionMode) {
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfThreads(%d) < 1", 
+                                  numberOfThreads));
+        }
+        
+        switch (Objects.requireNonNull(executionMode, "executionMode")) {
+            case VIRTUAL_THREADS:
+                this.executor = executionMode.newThreadPerTaskExecutor();
+                break;
+                
+            default:
+                this.executor = Executors.newFixedThreadPool(numberOfThreads);
+        }
+        
+        this.puzzlesInFlight = numberOfThreads * PUZZLES_IN_FLIGHT_PER_THREAD;
+        this.options = Objects.requireNonNull(options, "options");
+    }
+    
+    /**
+     * Solves all the input puzzles.
+     * 
+     * @param puzzles the puzzles to solve.
+     * 
+     * @return the list of the solutions in input order. Contains 
+     *         {@code null} for each puzzle that is invalid, unsupported or 
+     *         has no solution.
+     */
+    public List<SudokuBoard> solveAll(final Iterable<SudokuBoard> puzzles) {
+        final List<SudokuBoard> solutions = new ArrayList<>();
+        final Iterator<SudokuBoard> iterator = 
+                new OrderedSolutionIterator(puzzles.iterator());
+        
+        while (iterator.hasNext()) {
+            solutions.add(iterator.next());
+        }
+        
+        return solutions;
+    }
+    
+    /**
+     * Lazily solves the input puzzles. At most a bounded number of the 
+     * puzzles is pulled from {@code puzzles} ahead of the consumer, so that
+     * arbitrarily long streams are solved in constant memory.
+     * 
+     * @param puzzles the puzzles to solve.
+     * 
+     * @return the sequential stream of the solutions in input order. 
+     *         Contains {@code null} for each puzzle that is invalid, 
+     *         unsupported or has no solution.
+     */
+    public Stream<SudokuBoard> solveAll(final Stream<SudokuBoard> puzzles) {
+        final Iterator<SudokuBoard> iterator = 
+                new OrderedSolutionIterator(puzzles.iterator());
+        
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, 
+                                                    Spliterator.ORDERED),
+                false)
+                .onClose(puzzles::close);
+    }
+    
+    /**
+     * Solves all the input puzzles and reports the solutions in completion
+     * order. The listener is called from the calling thread.
+     * 
+     * @param puzzles  the puzzles to solve.
+     * @param listener the solution listener.
+     */
+    public void solveAll(final Iterable<SudokuBoard> puzzles,
+                         final SolutionListener listener) {
+        final ExecutorCompletionService<IndexedSolution> completionService =
+                new ExecutorCompletionService<>(executor);
+        
+        final Iterator<SudokuBoard> iterator = puzzles.iterator();
+        long index = 0;
+        int inFlight = 0;
+        
+        while (iterator.hasNext() || inFlight > 0) {
+            while (inFlight < puzzlesInFlight && iterator.hasNext()) {
+                final SudokuBoard puzzle = iterator.next();
+                final long puzzleIndex = index++;
+                
+                completionService.submit(
+                        () -> new IndexedSolution(puzzleIndex,
+                                                  puzzle,
+                                                  solveOne(puzzle)));
+                ++inFlight;
+            }
+            
+            final IndexedSolution indexedSolution = 
+                    getResult(takeUninterruptibly(completionService));
+            
+            --inFlight;
+            listener.onSolution(indexedSolution.index,
+                                indexedSolution.puzzle,
+                                indexedSolution.solution);
+        }
+    }
+    
+    /**
+     * Solves {@code puzzle} in a worker thread without waiting for it. The
+     * puzzles submitted this way share the worker threads with each other 
+     * and with the running batches, so that a slow puzzle holds only its own
+     * worker.
+     * 
+     * @param puzzle the puzzle to solve.
+     * 
+     * @return the future of the solution, which is {@code null} if the 
+     *         puzzle is invalid, unsupported or has no solution.
+     * @throws RejectedExecutionException if this solver is closed.
+     */
+    public CompletableFuture<SudokuBoard> solveAsync(
+            final SudokuBoard puzzle) {
+        
+        Objects.requireNonNull(puzzle, "puzzle");
+        return CompletableFuture.supplyAsync(() -> solveOne(puzzle), 
+                                             executor);
+    }
+    
+    /**
+     * Shuts down the worker threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Solves a single puzzle in the calling worker thread. Borrows an idle 
+     * worker, so that at most as many workers are ever created as there are
+     * puzzles in flight.
+     * 
+     * @param puzzle the puzzle to solve.
+     * 
+     * @return the solution, or {@code null} if there is none.
+     */
+    private SudokuBoard solveOne(final SudokuBoard puzzle) {
+        final int widthHeight = puzzle.getWidthHeight();
+        
+        if (widthHeight > BitmaskFilters.MAXIMUM_WIDTH_HEIGHT) {
+            return null;
+        }
+        
+        final Queue<Worker> workers = 
+                idleWorkers.computeIfAbsent(
+                        widthHeight,
+                        n -> new ConcurrentLinkedQueue<>());
+        
+        Worker worker = workers.poll();
+        
+        if (worker == null) {
+            worker = new Worker(widthHeight, options);
+        }
+        
+        try {
+            return worker.solve(new SudokuBoard(puzzle));
+        } finally {
+            workers.offer(worker);
+        }
+    }
+    
+    private static <T> Future<T> takeUninterruptibly(
+            final ExecutorCompletionService<T> completionService) {
+        try {
+            return completionService.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+    }
+    
+    private static <T> T getResult(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (final ExecutionException ex) {
+            throw new CompletionException(ex.getCause());
+        }
+    }
+    
+    /**
+     * This static inner class holds the reusable search state for a 
+     * particular board width/height. Used by a single thread at a time.
+     */
+    private static final class Worker {
+        
+        /**
+         * The private shared thread state of this worker.
+         */
+        private final SharedThreadState sharedThreadState = 
+                new SharedThreadState();
+        
+        /**
+         * The search of this worker.
+         */
+        private final BacktrackingSearch search;
+        
+        Worker(final int widthHeight, final SearchOptions options) {
+            this.search = new BacktrackingSearch(widthHeight,
+                                                 options,
+                                                 sharedThreadState);
+        }
+        
+        SudokuBoard solve(final SudokuBoard board) {
+            sharedThreadState.reset();
+            return search.search(board) ? 
+                   sharedThreadState.getSolution() : 
+                   null;
+        }
+    }
+    
+    /**
+     * This static inner class holds a solution along with its puzzle.
+     */
+    private static final class IndexedSolution {
+        
+        private final long index;
+        private final SudokuBoard puzzle;
+        private final SudokuBoard solution;
+        
+        IndexedSolution(final long index,
+                        final SudokuBoard puzzle,
+                        final SudokuBoard solution) {
+            this.index = index;
+            this.puzzle = puzzle;
+            this.solution = solution;
+        }
+    }
+    
+    /**
+     * This inner class implements the iterator over the solutions in input
+     * order. Keeps a bounded window of the submitted puzzles.
+     */
+    private final class OrderedSolutionIterator 
+            implements Iterator<SudokuBoard> {
+        
+        /**
+         * The iterator over the input puzzles.
+         */
+        private final Iterator<SudokuBoard> puzzles;
+        
+        /**
+         * The solutions in flight in input order.
+         */
+        private final ArrayDeque<Future<SudokuBoard>> window = 
+                new ArrayDeque<>();
+        
+        OrderedSolutionIterator(final Iterator<SudokuBoard> puzzles) {
+            this.puzzles = puzzles;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            fillWindow();
+            return !window.isEmpty();
+        }
+        
+        @Override
+        public SudokuBoard next() {
+            fillWindow();
+            
+            if (window.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            
+            return getResult(window.removeFirst());
+        }
+        
+        private void fillWindow() {
+            while (window.size() < puzzlesInFlight && puzzles.hasNext()) {
+                final SudokuBoard puzzle = puzzles.next();
+                window.addLast(executor.submit(() -> solveOne(puzzle)));
+            }
+        }
+    }
+}
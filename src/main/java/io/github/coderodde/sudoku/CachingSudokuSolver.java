@@ -0,0 +1,330 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import io.github.coderodde.sudoku.misc.SudokuCanonicalizer;
+import io.github.coderodde.sudoku.misc.SudokuTransformation;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a solution cache in front of a
+ * {@link ParallelSudokuSolver}. Each input board is mapped to its canonical
+ * form by {@link SudokuCanonicalizer}, so that the relabeled, transposed or
+ * row/column/band/stack permuted copies of a cached puzzle hit the same
+ * entry. The cached canonical solution is mapped back through the inverse of
+ * the canonicalizing transformation.
+ * <p>
+ * The cache is split into shards, each of which is a {@link LinkedHashMap}
+ * in access order guarded by its own lock, and evicts its least recently
+ * used entry once it holds more than its share of the capacity. Only the
+ * solved boards are cached. Two threads missing the same puzzle at the same
+ * time both solve it.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class CachingSudokuSolver {
+
+    /**
+     * The default number of the shards.
+     */
+    private static final int DEFAULT_NUMBER_OF_SHARDS = 16;
+
+    /**
+     * The solver to delegate the misses to.
+     */
+    private final ParallelSudokuSolver solver;
+
+    /**
+     * The shards of the cache.
+     */
+    private final Shard[] shards;
+
+    /**
+     * The number of the cache hits.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * The number of the cache misses.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The number of the evicted entries.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs this cache with the default number of shards.
+     *
+     * @param solver   the solver to delegate the misses to.
+     * @param capacity the maximum number of the cached solutions.
+     */
+    public CachingSudokuSolver(final ParallelSudokuSolver solver,
+                               final int capacity) {
+        this(solver,
+             capacity,
+             Math.min(DEFAULT_NUMBER_OF_SHARDS, Math.max(1, capacity)));
+    }
+
+    /**
+     * Constructs this cache.
+     *
+     * @param solver         the solver to delegate the misses to.
+     * @param capacity       the maximum number of the cached solutions.
+     * @param numberOfShards the number of the independently locked shards.
+     */
+    public CachingSudokuSolver(final ParallelSudokuSolver solver,
+                               final int capacity,
+                               final int numberOfShards) {
+        this.solver = Objects.requireNonNull(solver, "solver");
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("capacity(%d) < 1", capacity));
+        }
+
+        if (numberOfShards < 1) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfShards(%d) < 1", numberOfShards));
+        }
+
+        if (numberOfShards > capacity) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfShards(%d) > capacity(%d)",
+                                  numberOfShards,
+                                  capacity));
+        }
+
+        this.shards = new Shard[numberOfShards];
+
+        // Spread the capacity over the shards as evenly as possible:
+        for (int i = 0; i < numberOfShards; ++i) {
+            shards[i] = new Shard(capacity / numberOfShards
+                                + (i < capacity % numberOfShards ? 1 : 0));
+        }
+    }
+
+    /**
+     * Solves the input sudoku, consulting the cache first.
+     *
+     * @param sudokuBoard        the sudoku board to solve. Remains intact.
+     * @param numberOfSeeds      the number of seeds on a miss.
+     * @param numberOfProcessors the number of processors to use on a miss.
+     * @param options            the search options.
+     * @return a solved board, or {@code null} if there is no solution or the
+     *         calling thread was interrupted.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options) {
+        return solve(sudokuBoard,
+                     numberOfSeeds,
+                     numberOfProcessors,
+                     options,
+                     null,
+                     null).getSolution();
+    }
+
+    /**
+     * Solves the input sudoku, consulting the cache first. On a miss, the
+     * canonical form is solved via
+     * {@link ParallelSudokuSolver#solve(SudokuBoard, int, int, SearchOptions,
+     * Duration, CancellationToken)}, and its solution is cached. On a hit,
+     * the result carries empty statistics.
+     *
+     * @param sudokuBoard        the sudoku board to solve. Remains intact.
+     * @param numberOfSeeds      the number of seeds on a miss.
+     * @param numberOfProcessors the number of processors to use on a miss.
+     * @param options            the search options.
+     * @param timeout            the maximum time to search, or {@code null}
+     *                           for no limit.
+     * @param cancellationToken  the cancellation token, or {@code null}.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options,
+                             final Duration timeout,
+                             final CancellationToken cancellationToken) {
+
+        final long startTime = System.nanoTime();
+
+        BitmaskFilters.checkBitmaskWidthHeight(sudokuBoard.getWidthHeight());
+
+        if (!SudokuBoardVerifier.isValid(sudokuBoard)) {
+            // Don't process invalid sudoku boards:
+            throw new IllegalArgumentException("Input sudoku board is invalid");
+        }
+
+        final SudokuTransformation transformation =
+                SudokuCanonicalizer.canonicalize(sudokuBoard);
+
+        final SudokuBoard canonicalBoard = transformation.apply(sudokuBoard);
+        final Shard shard = getShard(canonicalBoard);
+
+        SudokuBoard canonicalSolution;
+
+        synchronized (shard) {
+            canonicalSolution = shard.get(canonicalBoard);
+        }
+
+        if (canonicalSolution != null) {
+            hits.increment();
+
+            final SolverStatistics statistics = new SolverStatistics();
+            statistics.finish();
+
+            return new SolveResult(
+                    SolveResult.Status.SOLVED,
+                    transformation.inverse().apply(canonicalSolution),
+                    Duration.ofNanos(System.nanoTime() - startTime),
+                    statistics);
+        }
+
+        misses.increment();
+
+        // The solver owns its input board, so hand it a copy:
+        final SolveResult result =
+                solver.solve(new SudokuBoard(canonicalBoard),
+                             numberOfSeeds,
+                             numberOfProcessors,
+                             options,
+                             timeout,
+                             cancellationToken);
+
+        canonicalSolution = result.getSolution();
+
+        if (canonicalSolution == null) {
+            return new SolveResult(result.getStatus(),
+                                   null,
+                                   Duration.ofNanos(System.nanoTime()
+                                                  - startTime),
+                                   result.getStatistics());
+        }
+
+        // Cache a private copy, so that the callers may modify the returned
+        // boards freely:
+        synchronized (shard) {
+            shard.put(canonicalBoard, new SudokuBoard(canonicalSolution));
+        }
+
+        return new SolveResult(
+                result.getStatus(),
+                transformation.inverse().apply(canonicalSolution),
+                Duration.ofNanos(System.nanoTime() - startTime),
+                result.getStatistics());
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of the lookups that hit the cache.
+     *
+     * @return the hit ratio, or {@code 0.0} if there were no lookups.
+     */
+    public double getHitRatio() {
+        final long hitCount = hits.sum();
+        final long lookupCount = hitCount + misses.sum();
+        return lookupCount == 0L ? 0.0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Returns the number of the cached solutions.
+     *
+     * @return the size of the cache.
+     */
+    public int size() {
+        int size = 0;
+
+        for (final Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all the cached solutions. Leaves the statistics intact.
+     */
+    public void clear() {
+        for (final Shard shard : shards) {
+            synchronized (shard) {
+                shard.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "[size = %d, hits = %d, misses = %d, evictions = %d, " +
+                "hitRatio = %.3f]",
+                size(),
+                getHits(),
+                getMisses(),
+                getEvictions(),
+                getHitRatio());
+    }
+
+    private Shard getShard(final SudokuBoard canonicalBoard) {
+        final int hash = canonicalBoard.hashCode();
+
+        // Mix the high bits into the low ones that select the shard:
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
+    }
+
+    /**
+     * This inner class implements a single LRU shard of the cache. Guarded
+     * by its own monitor.
+     */
+    private final class Shard extends LinkedHashMap<SudokuBoard, SudokuBoard> {
+
+        /**
+         * {@link LinkedHashMap} is serializable, but the shards are never
+         * serialized.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The maximum number of the entries in this shard.
+         */
+        private final int capacity;
+
+        Shard(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+                final Map.Entry<SudokuBoard, SudokuBoard> eldest) {
+
+            if (size() <= capacity) {
+                return false;
+            }
+
+            evictions.increment();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.coderodde.sudoku;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class implements a token for cancelling the solves it is passed to.
+ * Cancelling the token stops the workers of all its running solves, which
+ * then return a {@link SolveResult} with the status 
+ * {@link SolveResult.Status#CANCELLED}. A cancelled token stays cancelled, 
+ * so that the solves started with it afterwards return immediately.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class CancellationToken {
+    
+    /**
+     * The shared thread states of the running solves.
+     */
+    private final Set<SharedThreadState> sharedThreadStates = 
+            ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Whether this token is cancelled.
+     */
+    private volatile boolean cancelled;
+    
+    /**
+     * Cancels this token and stops all the solves using it.
+     */
+    public void cancel() {
+        cancelled = true;
+        
+        for (final SharedThreadState sharedThreadState : sharedThreadStates) {
+            sharedThreadState.stop();
+        }
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    /**
+     * Makes {@link #cancel()} stop the workers sharing 
+     * {@code sharedThreadState}.
+     * 
+     * @param sharedThreadState the shared thread state of a solve.
+     */
+    void register(final SharedThreadState sharedThreadState) {
+        sharedThreadStates.add(sharedThreadState);
+        
+        if (cancelled) {
+            // Once here, the token may have been cancelled before the state
+            // was added:
+            sharedThreadState.stop();
+        }
+    }
+    
+    void unregister(final SharedThreadState sharedThreadState) {
+        sharedThreadStates.remove(sharedThreadState);
+    }
+}
@@ -0,0 +1,556 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class implements a parallel sudoku solver that reduces the sudoku to
+ * an exact cover problem and solves it via Knuth's
+ * <a href="https://en.wikipedia.org/wiki/Dancing_Links">Dancing Links</a>
+ * (Algorithm X). The matrix has a row for each (cell, cell value) pair and a
+ * column for each cell, row-value, column-value and minisquare-value
+ * constraint. The node links are kept in flat {@code int} arrays. The top
+ * levels of the cover search are expanded into disjoint subproblems that are
+ * shared by the solver threads.
+ *
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class DancingLinksSudokuSolver {
+
+    /**
+     * The minimum number of subproblems per solver thread.
+     */
+    private static final int SUBPROBLEMS_PER_THREAD = 8;
+
+    /**
+     * Solves the input sudoku using all the available processors.
+     *
+     * @param sudokuBoard the sudoku board to solve. Remains intact.
+     * @return a solved board, or {@code null} if there is no solution.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard) {
+        return solve(sudokuBoard,
+                     Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Solves the input sudoku.
+     *
+     * @param sudokuBoard        the sudoku board to solve. Remains intact.
+     * @param numberOfProcessors the number of processors to use.
+     * @return a solved board, or {@code null} if there is no solution.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard,
+                             final int numberOfProcessors) {
+        return solve(sudokuBoard, numberOfProcessors, new SharedThreadState());
+    }
+
+    /**
+     * Solves the input sudoku in the calling thread, halting as soon as
+     * {@code sharedThreadState} is stopped. Starts no threads and does not 
+     * copy the links, so that it suits the callers that already run on a 
+     * thread of their own.
+     *
+     * @param sudokuBoard       the sudoku board to solve. Remains intact.
+     * @param sharedThreadState the shared thread state.
+     * @return a solved board, or {@code null} if there is no solution or the
+     *         search was stopped before a solution was found.
+     */
+    SudokuBoard solveInCallingThread(
+            final SudokuBoard sudokuBoard,
+            final SharedThreadState sharedThreadState) {
+        return solve(sudokuBoard, 1, sharedThreadState);
+    }
+
+    /**
+     * Solves the input sudoku, halting as soon as
+     * {@code sharedThreadState} is stopped. With a single processor, the 
+     * search runs in the calling thread. Otherwise, if the calling thread is 
+     * interrupted, stops the workers and returns with the interrupt status 
+     * set.
+     *
+     * @param sudokuBoard        the sudoku board to solve. Remains intact.
+     * @param numberOfProcessors the number of processors to use.
+     * @param sharedThreadState  the shared thread state.
+     * @return a solved board, or {@code null} if there is no solution or the
+     *         search was stopped before a solution was found.
+     */
+    SudokuBoard solve(final SudokuBoard sudokuBoard,
+                      final int numberOfProcessors,
+                      final SharedThreadState sharedThreadState) {
+
+        if (!SudokuBoardVerifier.isValid(sudokuBoard)) {
+            // Don't process invalid sudoku boards:
+            throw new IllegalArgumentException("Input sudoku board is invalid");
+        }
+
+        if (Utils.isCompleteSudokuBoard(sudokuBoard)) {
+            return sudokuBoard;
+        }
+
+        final DancingLinks root = new DancingLinks(sudokuBoard);
+
+        if (numberOfProcessors == 1) {
+            // Once here, search the whole problem in the calling thread:
+            new DancingLinksWorker(root,
+                                   sudokuBoard,
+                                   List.of(new int[0]),
+                                   new AtomicInteger(),
+                                   sharedThreadState).run();
+
+            return sharedThreadState.getSolution();
+        }
+
+        // Expand the top levels of the search into disjoint subproblems:
+        final List<int[]> subproblems =
+                root.expand(numberOfProcessors * SUBPROBLEMS_PER_THREAD);
+
+        final AtomicInteger nextSubproblem = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>(numberOfProcessors);
+
+        for (int i = 0;
+                i < Math.min(numberOfProcessors, subproblems.size());
+                ++i) {
+
+            threads.add(new Thread(
+                    new DancingLinksWorker(new DancingLinks(root),
+                                           sudokuBoard,
+                                           subproblems,
+                                           nextSubproblem,
+                                           sharedThreadState)));
+            threads.get(i).start();
+        }
+
+        // Wait for all the solver threads to exit:
+        for (final Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                // Once here, stop the workers and let the caller see the 
+                // interrupt:
+                sharedThreadState.stop();
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return sharedThreadState.getSolution();
+    }
+
+    /**
+     * This inner class implements the Dancing Links solver workers. Each
+     * worker owns a copy of the links and keeps pulling subproblems until
+     * they run out or a solution is found.
+     */
+    private static final class DancingLinksWorker implements Runnable {
+
+        /**
+         * The links owned by this worker.
+         */
+        private final DancingLinks links;
+
+        /**
+         * The original sudoku board.
+         */
+        private final SudokuBoard original;
+
+        /**
+         * The subproblems shared by all the threads.
+         */
+        private final List<int[]> subproblems;
+
+        /**
+         * The index of the next subproblem to process.
+         */
+        private final AtomicInteger nextSubproblem;
+
+        /**
+         * The shared thread state.
+         */
+        private final SharedThreadState sharedThreadState;
+
+        DancingLinksWorker(final DancingLinks links,
+                           final SudokuBoard original,
+                           final List<int[]> subproblems,
+                           final AtomicInteger nextSubproblem,
+                           final SharedThreadState sharedThreadState) {
+            this.links = links;
+            this.original = original;
+            this.subproblems = subproblems;
+            this.nextSubproblem = nextSubproblem;
+            this.sharedThreadState = sharedThreadState;
+        }
+
+        @Override
+        public void run() {
+            while (!sharedThreadState.isStopped()) {
+                final int index = nextSubproblem.getAndIncrement();
+
+                if (index >= subproblems.size()) {
+                    return;
+                }
+
+                final int[] subproblem = subproblems.get(index);
+
+                links.selectRows(subproblem);
+
+                if (links.search(sharedThreadState)) {
+                    sharedThreadState.publishSolution(
+                            links.toSudokuBoard(original, subproblem));
+                    return;
+                }
+
+                links.unselectRows(subproblem);
+            }
+        }
+    }
+
+    /**
+     * This static inner class implements the Dancing Links structure of the
+     * sudoku exact cover matrix. The node 0 is the root header, the nodes
+     * {@code 1, ..., C} are the column headers and the four nodes of the
+     * matrix row {@code r} start at {@code 1 + C + 4r}. The matrix row
+     * {@code r} stands for putting the cell value {@code r % n + 1} to the
+     * cell {@code r / n}.
+     */
+    private static final class DancingLinks {
+
+        /**
+         * The width/height of the sudoku board.
+         */
+        private final int n;
+
+        /**
+         * The number of the constraint columns.
+         */
+        private final int columnCount;
+
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+
+        /**
+         * Maps each node to its column header.
+         */
+        private final int[] columns;
+
+        /**
+         * Maps each column header to the number of nodes in the column.
+         */
+        private final int[] sizes;
+
+        /**
+         * The row nodes selected by {@link #search(SharedThreadState)}.
+         */
+        private final int[] solution;
+
+        /**
+         * The number of the row nodes in {@link #solution}.
+         */
+        private int solutionSize;
+
+        /**
+         * Builds the links of the input board with the clue rows selected.
+         *
+         * @param board the valid input sudoku board.
+         */
+        DancingLinks(final SudokuBoard board) {
+            this.n = board.getWidthHeight();
+
+            final int cellCount = n * n;
+            final int rowCount = cellCount * n;
+            final int nodeCount = 1 + 4 * cellCount + 4 * rowCount;
+            final int sqrtn = (int) Math.sqrt(n);
+
+            this.columnCount = 4 * cellCount;
+            this.left = new int[nodeCount];
+            this.right = new int[nodeCount];
+            this.up = new int[nodeCount];
+            this.down = new int[nodeCount];
+            this.columns = new int[nodeCount];
+            this.sizes = new int[columnCount + 1];
+            this.solution = new int[cellCount];
+
+            // BEGIN: Link the headers.
+            for (int header = 0; header <= columnCount; ++header) {
+                left[header] = header == 0 ? columnCount : header - 1;
+                right[header] = header == columnCount ? 0 : header + 1;
+                up[header] = header;
+                down[header] = header;
+                columns[header] = header;
+            }
+            // END: Link the headers.
+
+            // BEGIN: Link the matrix rows.
+            final int[] rowColumns = new int[4];
+
+            for (int row = 0; row < rowCount; ++row) {
+                final int cellIndex = row / n;
+                final int digit = row % n;
+                final int y = cellIndex / n;
+                final int x = cellIndex % n;
+                final int minisquare = (y / sqrtn) * sqrtn + x / sqrtn;
+
+                rowColumns[0] = 1 + cellIndex;
+                rowColumns[1] = 1 + cellCount + y * n + digit;
+                rowColumns[2] = 1 + 2 * cellCount + x * n + digit;
+                rowColumns[3] = 1 + 3 * cellCount + minisquare * n + digit;
+
+                final int first = getFirstNode(row);
+
+                for (int i = 0; i < 4; ++i) {
+                    final int node = first + i;
+                    final int header = rowColumns[i];
+
+                    left[node] = first + (i + 3) % 4;
+                    right[node] = first + (i + 1) % 4;
+
+                    up[node] = up[header];
+                    down[node] = header;
+                    down[up[header]] = node;
+                    up[header] = node;
+                    columns[node] = header;
+                    ++sizes[header];
+                }
+            }
+            // END: Link the matrix rows.
+
+            // BEGIN: Select the clue rows.
+            for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+                final int cellValue = board.getCell(cellIndex);
+
+                if (cellValue != Utils.UNUSED_CELL) {
+                    selectRow(getFirstNode(cellIndex * n + cellValue - 1));
+                }
+            }
+            // END: Select the clue rows.
+        }
+
+        /**
+         * Copy-constructs these links.
+         *
+         * @param links the source links.
+         */
+        DancingLinks(final DancingLinks links) {
+            this.n = links.n;
+            this.columnCount = links.columnCount;
+            this.left = links.left.clone();
+            this.right = links.right.clone();
+            this.up = links.up.clone();
+            this.down = links.down.clone();
+            this.columns = links.columns.clone();
+            this.sizes = links.sizes.clone();
+            this.solution = new int[links.solution.length];
+        }
+
+        /**
+         * Expands the search breadth-first until there are at least
+         * {@code requestedSubproblems} subproblems or no subproblem can be
+         * expanded. Each subproblem is the array of the row nodes to select;
+         * the subproblems are disjoint and cover the entire search space.
+         *
+         * @param requestedSubproblems the requested number of subproblems.
+         * @return the list of subproblems.
+         */
+        List<int[]> expand(final int requestedSubproblems) {
+            List<int[]> frontier = new ArrayList<>();
+            frontier.add(new int[0]);
+
+            while (frontier.size() < requestedSubproblems) {
+                final List<int[]> nextFrontier = new ArrayList<>();
+                boolean expanded = false;
+
+                for (final int[] subproblem : frontier) {
+                    selectRows(subproblem);
+
+                    if (right[0] == 0) {
+                        // Once here, the subproblem is already solved:
+                        nextFrontier.add(subproblem);
+                    } else {
+                        final int header = chooseColumn();
+
+                        for (int node = down[header];
+                                node != header;
+                                node = down[node]) {
+
+                            final int[] child =
+                                    Arrays.copyOf(subproblem,
+                                                  subproblem.length + 1);
+
+                            child[subproblem.length] = node;
+                            nextFrontier.add(child);
+                            expanded = true;
+                        }
+                    }
+
+                    unselectRows(subproblem);
+                }
+
+                frontier = nextFrontier;
+
+                if (!expanded) {
+                    break;
+                }
+            }
+
+            return frontier;
+        }
+
+        /**
+         * Runs the Algorithm X on the current state of the links.
+         *
+         * @param sharedThreadState the shared thread state to poll.
+         * @return {@code true} if this search found a solution.
+         */
+        boolean search(final SharedThreadState sharedThreadState) {
+            if (right[0] == 0) {
+                // Once here, all the constraints are covered:
+                return true;
+            }
+
+            if (sharedThreadState.isStopped()) {
+                // Once here, some other thread has found a solution, or the
+                // search is cancelled:
+                return false;
+            }
+
+            final int header = chooseColumn();
+
+            for (int node = down[header]; node != header; node = down[node]) {
+                solution[solutionSize++] = node;
+                selectRow(node);
+
+                if (search(sharedThreadState)) {
+                    return true;
+                }
+
+                unselectRow(node);
+                --solutionSize;
+            }
+
+            return false;
+        }
+
+        /**
+         * Builds the solved board.
+         *
+         * @param original   the original sudoku board.
+         * @param subproblem the row nodes of the solved subproblem.
+         * @return the solved board.
+         */
+        SudokuBoard toSudokuBoard(final SudokuBoard original,
+                                  final int[] subproblem) {
+            final SudokuBoard board = new SudokuBoard(original);
+
+            for (final int node : subproblem) {
+                setCell(board, node);
+            }
+
+            for (int i = 0; i < solutionSize; ++i) {
+                setCell(board, solution[i]);
+            }
+
+            return board;
+        }
+
+        void selectRows(final int[] nodes) {
+            for (final int node : nodes) {
+                selectRow(node);
+            }
+        }
+
+        void unselectRows(final int[] nodes) {
+            for (int i = nodes.length - 1; i >= 0; --i) {
+                unselectRow(nodes[i]);
+            }
+        }
+
+        /**
+         * Writes the cell value of the matrix row of {@code node} to
+         * {@code board}.
+         *
+         * @param board the target board.
+         * @param node  a node of the matrix row.
+         */
+        private void setCell(final SudokuBoard board, final int node) {
+            final int row = (node - 1 - columnCount) / 4;
+            board.setCell(row / n, row % n + 1);
+        }
+
+        private int getFirstNode(final int row) {
+            return 1 + columnCount + 4 * row;
+        }
+
+        /**
+         * Returns the uncovered column with the fewest nodes.
+         *
+         * @return the column header.
+         */
+        private int chooseColumn() {
+            int bestHeader = right[0];
+
+            for (int header = right[bestHeader];
+                    header != 0;
+                    header = right[header]) {
+
+                if (sizes[header] < sizes[bestHeader]) {
+                    bestHeader = header;
+
+                    if (sizes[header] <= 1) {
+                        break;
+                    }
+                }
+            }
+
+            return bestHeader;
+        }
+
+        private void selectRow(final int node) {
+            cover(columns[node]);
+
+            for (int j = right[node]; j != node; j = right[j]) {
+                cover(columns[j]);
+            }
+        }
+
+        private void unselectRow(final int node) {
+            for (int j = left[node]; j != node; j = left[j]) {
+                uncover(columns[j]);
+            }
+
+            uncover(columns[node]);
+        }
+
+        private void cover(final int header) {
+            right[left[header]] = right[header];
+            left[right[header]] = left[header];
+
+            for (int i = down[header]; i != header; i = down[i]) {
+                for (int j = right[i]; j != i; j = right[j]) {
+                    up[down[j]] = up[j];
+                    down[up[j]] = down[j];
+                    --sizes[columns[j]];
+                }
+            }
+        }
+
+        private void uncover(final int header) {
+            for (int i = up[header]; i != header; i = up[i]) {
+                for (int j = left[i]; j != i; j = left[j]) {
+                    ++sizes[columns[j]];
+                    up[down[j]] = j;
+                    down[up[j]] = j;
+                }
+            }
+
+            right[left[header]] = header;
+            left[right[header]] = header;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.io.SudokuBoardCodec;
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class implements the wire protocol between a
+ * {@link DistributedSudokuSolver} and its {@link DistributedSudokuWorker}s.
+ * Each message consists of a one-byte type and a four-byte job ID, followed
+ * by a board record of {@link SudokuBoardCodec} for the types carrying a
+ * board. The job ID ties the subproblems and their outcomes to the solve
+ * they belong to, so that the stale messages of a finished solve are
+ * ignored.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class DistributedProtocol {
+
+    /**
+     * Sent by a worker once connected: the worker is idle.
+     */
+    static final byte READY = 1;
+
+    /**
+     * Sent by the coordinator: search the attached subproblem.
+     */
+    static final byte WORK = 2;
+
+    /**
+     * Sent by the coordinator: abandon the subproblem of the job.
+     */
+    static final byte CANCEL = 3;
+
+    /**
+     * Sent by a worker: the attached board solves the subproblem. The worker
+     * is idle again.
+     */
+    static final byte SOLVED = 4;
+
+    /**
+     * Sent by a worker: the subproblem has no solutions. The worker is idle
+     * again.
+     */
+    static final byte EXHAUSTED = 5;
+
+    /**
+     * Sent by a worker: the subproblem was abandoned. The worker is idle
+     * again.
+     */
+    static final byte ABORTED = 6;
+
+    /**
+     * The job ID of the messages not tied to a job.
+     */
+    static final int NO_JOB = -1;
+
+    /**
+     * The size of the type and the job ID.
+     */
+    private static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+
+    /**
+     * The maximum size of a board record. The boards beyond
+     * {@link BitmaskFilters#MAXIMUM_WIDTH_HEIGHT} cannot be searched anyway.
+     */
+    private static final int MAXIMUM_RECORD_SIZE =
+            SudokuBoardCodec.getEncodedSize(
+                    BitmaskFilters.MAXIMUM_WIDTH_HEIGHT);
+
+    /**
+     * The initial capacity of the message buffers. Fits all the messages.
+     */
+    private static final int INITIAL_BUFFER_CAPACITY =
+            HEADER_SIZE + MAXIMUM_RECORD_SIZE;
+
+    private DistributedProtocol() {
+
+    }
+
+    /**
+     * This static inner class holds a message.
+     */
+    static final class Message {
+
+        /**
+         * The type of the message.
+         */
+        final byte type;
+
+        /**
+         * The job ID of the message.
+         */
+        final int jobId;
+
+        /**
+         * The board of the message, or {@code null}.
+         */
+        final SudokuBoard board;
+
+        Message(final byte type, final int jobId, final SudokuBoard board) {
+            this.type = type;
+            this.jobId = jobId;
+            this.board = board;
+        }
+    }
+
+    /**
+     * This static inner class implements a connection exchanging messages
+     * over a blocking socket channel. A single thread may receive while any
+     * threads send.
+     */
+    static final class Connection implements AutoCloseable {
+
+        /**
+         * The socket channel.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * The received bytes not consumed yet, in read mode.
+         */
+        private final ByteBuffer readBuffer =
+                ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY).flip();
+
+        /**
+         * The buffer of the outgoing message. Guarded by itself.
+         */
+        private final ByteBuffer writeBuffer =
+                ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+
+        Connection(final SocketChannel channel) throws IOException {
+            this.channel = channel;
+            // The messages are tiny and latency-sensitive:
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+
+        /**
+         * Sends a message without a board.
+         *
+         * @param type  the type of the message.
+         * @param jobId the job ID of the message.
+         * @throws IOException if the sending fails.
+         */
+        void send(final byte type, final int jobId) throws IOException {
+            send(type, jobId, null);
+        }
+
+        /**
+         * Sends a message.
+         *
+         * @param type  the type of the message.
+         * @param jobId the job ID of the message.
+         * @param board the board of the message, or {@code null}.
+         * @throws IOException if the sending fails.
+         */
+        void send(final byte type,
+                  final int jobId,
+                  final SudokuBoard board) throws IOException {
+
+            synchronized (this) {
+                writeBuffer.clear();
+                writeBuffer.put(type);
+                writeBuffer.putInt(jobId);
+
+                if (board != null) {
+                    SudokuBoardCodec.encode(board, writeBuffer);
+                }
+
+                writeBuffer.flip();
+
+                while (writeBuffer.hasRemaining()) {
+                    channel.write(writeBuffer);
+                }
+            }
+        }
+
+        /**
+         * Receives the next message, blocking until it arrives.
+         *
+         * @return the received message.
+         * @throws EOFException if the peer closed the connection.
+         * @throws IOException  if the receiving fails or the message is
+         *                      malformed.
+         */
+        Message receive() throws IOException {
+            fill(HEADER_SIZE);
+
+            final byte type = readBuffer.get(readBuffer.position());
+            final int jobId = readBuffer.getInt(readBuffer.position() + 1);
+
+            if (type < READY || type > ABORTED) {
+                throw new IOException(
+                        String.format("Unknown message type(%d)", type));
+            }
+
+            if (type != WORK && type != SOLVED) {
+                readBuffer.position(readBuffer.position() + HEADER_SIZE);
+                return new Message(type, jobId, null);
+            }
+
+            fill(HEADER_SIZE + Short.BYTES);
+
+            final int encodedSize;
+
+            try {
+                readBuffer.position(readBuffer.position() + HEADER_SIZE);
+                encodedSize = SudokuBoardCodec.peekEncodedSize(readBuffer);
+            } catch (final IllegalArgumentException ex) {
+                throw new IOException("Malformed board record", ex);
+            } finally {
+                readBuffer.position(readBuffer.position() - HEADER_SIZE);
+            }
+
+            if (encodedSize < 0 || encodedSize > MAXIMUM_RECORD_SIZE) {
+                throw new IOException(
+                        String.format("Board record too large(%d)",
+                                      encodedSize));
+            }
+
+            fill(HEADER_SIZE + encodedSize);
+            readBuffer.position(readBuffer.position() + HEADER_SIZE);
+
+            try {
+                return new Message(type,
+                                   jobId,
+                                   SudokuBoardCodec.decode(readBuffer));
+            } catch (final IllegalArgumentException ex) {
+                throw new IOException("Malformed board record", ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        /**
+         * Reads until at least {@code size} bytes are buffered.
+         */
+        private void fill(final int size) throws IOException {
+            if (readBuffer.remaining() >= size) {
+                return;
+            }
+
+            readBuffer.compact();
+
+            try {
+                while (readBuffer.position() < size) {
+                    if (channel.read(readBuffer) < 0) {
+                        throw new EOFException("Connection closed by peer");
+                    }
+                }
+            } finally {
+                readBuffer.flip();
+            }
+        }
+    }
+}
@@ -0,0 +1,660 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.DistributedProtocol.Connection;
+import io.github.coderodde.sudoku.DistributedProtocol.Message;
+import io.github.coderodde.sudoku.io.SudokuBoardCodec;
+import io.github.coderodde.sudoku.io.SudokuBoardReader;
+import io.github.coderodde.sudoku.io.SudokuBoardWriter;
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import io.github.coderodde.sudoku.misc.FrontierSudokuBoardSeedProvider;
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class implements the coordinator of a sudoku search distributed over
+ * several processes. The coordinator listens on the loopback address for the
+ * connections of {@link DistributedSudokuWorker}s. A solve partitions the
+ * search space of the board into disjoint subproblems via
+ * {@link FrontierSudokuBoardSeedProvider}, and hands them out one at a time,
+ * encoded by {@link SudokuBoardCodec}, to the idle workers. Since each worker
+ * asks for more work as soon as it is done with its subproblem, the faster
+ * workers search more subproblems. Once a worker finds a solution, the
+ * coordinator cancels the subproblems of all the other workers; once all the
+ * subproblems are exhausted, the board has no solutions. The subproblem of a
+ * worker that disconnects is handed out again.
+ * <p>
+ * The messages to a worker are posted to its outbox while holding the
+ * monitor of the coordinator, and written to the socket in order by a sender
+ * thread of the worker. Hence, a worker that stops reading stalls only its
+ * own sender.
+ * <p>
+ * The workers may join and leave at any time, also during a solve. The
+ * concurrent solves run one after another.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class DistributedSudokuSolver implements AutoCloseable {
+
+    /**
+     * The default number of the subproblems per solve.
+     */
+    public static final int DEFAULT_NUMBER_OF_SUBPROBLEMS = 256;
+
+    /**
+     * The server socket channel accepting the workers.
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * The executor running the acceptor, and a receiver and a sender per
+     * worker.
+     */
+    private final ExecutorService executor =
+            Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The connected workers. Guarded by {@code this}.
+     */
+    private final Set<WorkerConnection> workers = new HashSet<>();
+
+    /**
+     * The idle workers. Guarded by {@code this}.
+     */
+    private final Deque<WorkerConnection> idleWorkers = new ArrayDeque<>();
+
+    /**
+     * The subproblems not handed out yet. Guarded by {@code this}.
+     */
+    private final Deque<SudokuBoard> pendingSubproblems = new ArrayDeque<>();
+
+    /**
+     * The running job, or {@code null}. Guarded by {@code this}.
+     */
+    private Job job;
+
+    /**
+     * The ID of the next job. Guarded by {@code this}.
+     */
+    private int nextJobId;
+
+    /**
+     * Serializes the solves.
+     */
+    private final Object solveLock = new Object();
+
+    /**
+     * Whether this coordinator is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs this coordinator listening on {@code port} of the loopback
+     * address.
+     *
+     * @param port the port, or {@code 0} for an ephemeral port.
+     * @throws IOException if the binding fails.
+     */
+    public DistributedSudokuSolver(final int port) throws IOException {
+        this.serverChannel = ServerSocketChannel.open();
+
+        try {
+            serverChannel.bind(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                          port));
+        } catch (final IOException ex) {
+            serverChannel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts accepting the workers.
+     */
+    public void start() {
+        executor.execute(this::accept);
+    }
+
+    /**
+     * Returns the port this coordinator listens on.
+     *
+     * @return the port.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Returns the number of the connected workers.
+     *
+     * @return the number of the workers.
+     */
+    public synchronized int getNumberOfWorkers() {
+        return workers.size();
+    }
+
+    /**
+     * Solves the input sudoku with {@link #DEFAULT_NUMBER_OF_SUBPROBLEMS}
+     * subproblems.
+     *
+     * @param sudokuBoard the sudoku board to solve. Not modified.
+     * @param timeout     the maximum time to search, or {@code null} for no
+     *                    limit.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final Duration timeout) {
+        return solve(sudokuBoard, DEFAULT_NUMBER_OF_SUBPROBLEMS, timeout);
+    }
+
+    /**
+     * Solves the input sudoku on the connected workers until a solution is
+     * found, all the subproblems are exhausted, or {@code timeout} elapses.
+     * The subproblems wait for the workers, so that the workers may connect
+     * after the solve has started. Interrupting the calling thread cancels
+     * the solve and leaves the interrupt status set. The statistics of the
+     * result cover the coordinator only; the searches run in the workers.
+     *
+     * @param sudokuBoard          the sudoku board to solve. Not modified.
+     * @param numberOfSubproblems  the requested number of the subproblems.
+     * @param timeout              the maximum time to search, or
+     *                             {@code null} for no limit.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSubproblems,
+                             final Duration timeout) {
+
+        if (numberOfSubproblems < 1) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfSubproblems(%d) < 1",
+                                  numberOfSubproblems));
+        }
+
+        BitmaskFilters.checkBitmaskWidthHeight(sudokuBoard.getWidthHeight());
+
+        if (!SudokuBoardVerifier.isValid(sudokuBoard)) {
+            // Don't process invalid sudoku boards:
+            throw new IllegalArgumentException("Input sudoku board is invalid");
+        }
+
+        synchronized (solveLock) {
+            return solveImpl(sudokuBoard, numberOfSubproblems, timeout);
+        }
+    }
+
+    /**
+     * Implements the solve.
+     */
+    private SolveResult solveImpl(final SudokuBoard sudokuBoard,
+                                  final int numberOfSubproblems,
+                                  final Duration timeout) {
+
+        final SolverStatistics statistics = new SolverStatistics();
+        final long startTime = System.nanoTime();
+
+        statistics.start();
+
+        if (Utils.isCompleteSudokuBoard(sudokuBoard)) {
+            // Once here, the sudokuBoard is both valid and complete. Just
+            // return it!
+            return finish(SolveResult.Status.SOLVED,
+                          new SudokuBoard(sudokuBoard),
+                          startTime,
+                          statistics);
+        }
+
+        final List<SudokuBoard> subproblems =
+                FrontierSudokuBoardSeedProvider
+                        .computeSeeds(sudokuBoard, numberOfSubproblems);
+
+        if (subproblems.isEmpty()) {
+            // Once here, the board was refuted by the seed computation:
+            return finish(SolveResult.Status.UNSOLVABLE,
+                          null,
+                          startTime,
+                          statistics);
+        }
+
+        final Job job;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The solver is closed");
+            }
+
+            job = new Job(nextJobId++, sudokuBoard, subproblems.size());
+            this.job = job;
+            pendingSubproblems.addAll(subproblems);
+            dispatch();
+        }
+
+        SolveResult.Status status;
+        SudokuBoard solution = null;
+
+        try {
+            solution = timeout == null ?
+                       job.result.get() :
+                       job.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+            status = solution == null ?
+                     SolveResult.Status.UNSOLVABLE :
+                     SolveResult.Status.SOLVED;
+
+        } catch (final TimeoutException ex) {
+            status = SolveResult.Status.TIMED_OUT;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            status = SolveResult.Status.CANCELLED;
+        } catch (final ExecutionException ex) {
+            // Once here, this coordinator was closed during the solve:
+            status = SolveResult.Status.CANCELLED;
+        } finally {
+            endJob(job);
+        }
+
+        if (solution != null) {
+            statistics.recordFirstSolution();
+        }
+
+        return finish(status, solution, startTime, statistics);
+    }
+
+    /**
+     * Closes this coordinator and disconnects all the workers.
+     */
+    @Override
+    public void close() {
+        final Set<WorkerConnection> connectedWorkers;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            connectedWorkers = new HashSet<>(workers);
+
+            if (job != null) {
+                job.result.completeExceptionally(
+                        new IllegalStateException("The solver is closed"));
+            }
+        }
+
+        try {
+            serverChannel.close();
+        } catch (final IOException ex) {
+            // Nothing to do about it.
+        }
+
+        for (final WorkerConnection worker : connectedWorkers) {
+            worker.close();
+        }
+
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs a coordinator listening on the port given as the first argument,
+     * and solves the puzzles of the file given as the second argument with
+     * the workers connected meanwhile. The solutions are written to the
+     * standard output, an empty line per puzzle without a solution.
+     *
+     * @param args the command line arguments.
+     * @throws IOException if the binding or the I/O fails.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(
+                    "Usage: DistributedSudokuSolver PORT PUZZLE_FILE");
+            System.exit(1);
+        }
+
+        try (final DistributedSudokuSolver solver =
+                new DistributedSudokuSolver(Integer.parseInt(args[0]));
+             final SudokuBoardReader reader =
+                new SudokuBoardReader(Path.of(args[1]));
+             final SudokuBoardWriter writer =
+                new SudokuBoardWriter(System.out)) {
+
+            solver.start();
+            System.err.printf("Listening on %s:%d%n",
+                              InetAddress.getLoopbackAddress()
+                                         .getHostAddress(),
+                              solver.getPort());
+
+            while (reader.hasNext()) {
+                SudokuBoard solution;
+
+                try {
+                    solution = solver.solve(reader.next(), null)
+                                     .getSolution();
+                } catch (final IllegalArgumentException ex) {
+                    // Once here, the puzzle is invalid:
+                    solution = null;
+                }
+
+                writer.write(solution);
+                writer.flush();
+            }
+        }
+    }
+
+    private static SolveResult finish(final SolveResult.Status status,
+                                      final SudokuBoard solution,
+                                      final long startTime,
+                                      final SolverStatistics statistics) {
+        statistics.finish();
+        return new SolveResult(status,
+                               solution,
+                               Duration.ofNanos(System.nanoTime() - startTime),
+                               statistics);
+    }
+
+    /**
+     * Accepts the workers until this coordinator is closed.
+     */
+    private void accept() {
+        while (!closed) {
+            final WorkerConnection worker;
+
+            try {
+                final SocketChannel channel = serverChannel.accept();
+
+                try {
+                    worker = new WorkerConnection(new Connection(channel));
+                } catch (final IOException ex) {
+                    channel.close();
+                    continue;
+                }
+            } catch (final IOException ex) {
+                // Once here, the server channel is closed.
+                return;
+            }
+
+            synchronized (this) {
+                if (closed) {
+                    worker.close();
+                    return;
+                }
+
+                workers.add(worker);
+            }
+
+            executor.execute(() -> receive(worker));
+            executor.execute(worker::sendPosted);
+        }
+    }
+
+    /**
+     * Receives the messages of {@code worker} until it disconnects.
+     */
+    private void receive(final WorkerConnection worker) {
+        try {
+            while (true) {
+                final Message message = worker.connection.receive();
+
+                synchronized (this) {
+                    switch (message.type) {
+                        case DistributedProtocol.READY:
+                            break;
+
+                        case DistributedProtocol.ABORTED:
+                            if (worker.subproblem != null
+                                    && worker.jobId == message.jobId
+                                    && isCurrentJob(message.jobId)) {
+                                // The worker gave up the subproblem without
+                                // being cancelled. Hand it out again:
+                                pendingSubproblems.addFirst(worker.subproblem);
+                            }
+
+                            break;
+
+                        case DistributedProtocol.SOLVED:
+                            if (isCurrentJob(message.jobId)
+                                    && job.accepts(message.board)) {
+                                job.result.complete(message.board);
+                            }
+
+                            break;
+
+                        case DistributedProtocol.EXHAUSTED:
+                            if (isCurrentJob(message.jobId)
+                                    && --job.remainingSubproblems == 0) {
+                                job.result.complete(null);
+                            }
+
+                            break;
+
+                        default:
+                            throw new IOException(
+                                    String.format(
+                                            "Unexpected message type(%d)",
+                                            message.type));
+                    }
+
+                    worker.subproblem = null;
+                    idleWorkers.addLast(worker);
+                    dispatch();
+                }
+            }
+        } catch (final IOException ex) {
+            // Once here, the worker is gone.
+        }
+
+        worker.close();
+
+        synchronized (this) {
+            workers.remove(worker);
+            idleWorkers.remove(worker);
+
+            if (worker.subproblem != null && isCurrentJob(worker.jobId)) {
+                // Hand the subproblem out again:
+                pendingSubproblems.addFirst(worker.subproblem);
+                dispatch();
+            }
+
+            worker.subproblem = null;
+        }
+    }
+
+    /**
+     * Hands out the pending subproblems to the idle workers. Must be called
+     * holding the monitor of this coordinator.
+     */
+    private void dispatch() {
+        while (job != null
+                && !job.result.isDone()
+                && !pendingSubproblems.isEmpty()
+                && !idleWorkers.isEmpty()) {
+
+            final WorkerConnection worker = idleWorkers.removeFirst();
+            final SudokuBoard subproblem = pendingSubproblems.removeFirst();
+
+            worker.jobId = job.id;
+            worker.subproblem = subproblem;
+            worker.post(DistributedProtocol.WORK, job.id, subproblem);
+        }
+    }
+
+    /**
+     * Ends {@code job} and cancels its subproblems on the workers.
+     */
+    private synchronized void endJob(final Job job) {
+        this.job = null;
+        pendingSubproblems.clear();
+
+        for (final WorkerConnection worker : workers) {
+            if (worker.subproblem != null && worker.jobId == job.id) {
+                worker.subproblem = null;
+                worker.post(DistributedProtocol.CANCEL, job.id, null);
+            }
+        }
+    }
+
+    /**
+     * Must be called holding the monitor of this coordinator.
+     */
+    private boolean isCurrentJob(final int jobId) {
+        return job != null && job.id == jobId;
+    }
+
+    /**
+     * This static inner class holds the state of a running solve.
+     */
+    private static final class Job {
+
+        /**
+         * The ID of the job.
+         */
+        final int id;
+
+        /**
+         * The board being solved.
+         */
+        final SudokuBoard sudokuBoard;
+
+        /**
+         * The solution, or {@code null} if the board has no solutions.
+         */
+        final CompletableFuture<SudokuBoard> result =
+                new CompletableFuture<>();
+
+        /**
+         * The number of the subproblems not exhausted yet.
+         */
+        int remainingSubproblems;
+
+        Job(final int id,
+            final SudokuBoard sudokuBoard,
+            final int remainingSubproblems) {
+            this.id = id;
+            this.sudokuBoard = sudokuBoard;
+            this.remainingSubproblems = remainingSubproblems;
+        }
+
+        /**
+         * Checks that {@code solution} is a valid solution of the board of
+         * this job, so that a faulty worker cannot fool the coordinator.
+         */
+        boolean accepts(final SudokuBoard solution) {
+            if (solution.getWidthHeight() != sudokuBoard.getWidthHeight()
+                    || !Utils.isCompleteSudokuBoard(solution)
+                    || !SudokuBoardVerifier.isValid(solution)) {
+                return false;
+            }
+
+            final int cellCount = sudokuBoard.getWidthHeight()
+                                * sudokuBoard.getWidthHeight();
+
+            for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+                final int cellValue = sudokuBoard.getCell(cellIndex);
+
+                if (cellValue != Utils.UNUSED_CELL
+                        && cellValue != solution.getCell(cellIndex)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * This static inner class holds the state of a connected worker.
+     */
+    private static final class WorkerConnection {
+
+        /**
+         * The outbox entry telling the sender to exit.
+         */
+        private static final Message CLOSED =
+                new Message((byte) 0, DistributedProtocol.NO_JOB, null);
+
+        /**
+         * The connection to the worker.
+         */
+        final Connection connection;
+
+        /**
+         * The messages to send to the worker in order.
+         */
+        private final BlockingQueue<Message> outbox =
+                new LinkedBlockingQueue<>();
+
+        /**
+         * The subproblem handed out to the worker, or {@code null} if the
+         * worker is idle. Guarded by the coordinator.
+         */
+        SudokuBoard subproblem;
+
+        /**
+         * The job ID of {@link #subproblem}. Guarded by the coordinator.
+         */
+        int jobId = DistributedProtocol.NO_JOB;
+
+        WorkerConnection(final Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Posts a message to the worker without waiting for it to be sent.
+         */
+        void post(final byte type, final int jobId, final SudokuBoard board) {
+            outbox.add(new Message(type, jobId, board));
+        }
+
+        /**
+         * Sends the posted messages until this connection is closed. A
+         * failed send closes the connection, so that the receiver of the
+         * worker sees it as a disconnect.
+         */
+        void sendPosted() {
+            try {
+                while (true) {
+                    final Message message = outbox.take();
+
+                    if (message == CLOSED) {
+                        return;
+                    }
+
+                    connection.send(message.type,
+                                    message.jobId,
+                                    message.board);
+                }
+            } catch (final InterruptedException | IOException ex) {
+                close();
+            }
+        }
+
+        void close() {
+            try {
+                connection.close();
+            } catch (final IOException ex) {
+                // Nothing to do about it.
+            }
+
+            outbox.add(CLOSED);
+        }
+    }
+}
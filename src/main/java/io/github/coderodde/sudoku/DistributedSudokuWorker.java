@@ -0,0 +1,305 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.DistributedProtocol.Connection;
+import io.github.coderodde.sudoku.DistributedProtocol.Message;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class implements a worker of a {@link DistributedSudokuSolver}. The
+ * worker connects to the coordinator and searches the subproblems the
+ * coordinator hands out, one at a time, on its own
+ * {@link ParallelSudokuSolver}. Each outcome is reported back, after which
+ * the worker is handed the next subproblem. A subproblem is abandoned as soon
+ * as the coordinator cancels it, for example because some other worker has
+ * found a solution. The workers may run in the same JVM as the coordinator,
+ * or in separate JVMs started via {@link #main(String[])}.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class DistributedSudokuWorker implements Runnable, AutoCloseable {
+
+    /**
+     * The number of the seeds per thread the subproblems are split into.
+     */
+    private static final int SEEDS_PER_THREAD = 4;
+
+    /**
+     * The address of the coordinator.
+     */
+    private final InetSocketAddress coordinatorAddress;
+
+    /**
+     * The number of the search threads.
+     */
+    private final int numberOfThreads;
+
+    /**
+     * The search options.
+     */
+    private final SearchOptions options;
+
+    /**
+     * The solver of the subproblems.
+     */
+    private final ParallelSudokuSolver solver = new ParallelSudokuSolver();
+
+    /**
+     * The executor searching the subproblems one at a time, so that the
+     * receiving thread stays responsive to the cancellations.
+     */
+    private final ExecutorService searchExecutor =
+            Executors.newSingleThreadExecutor();
+
+    /**
+     * The connection to the coordinator, or {@code null} if not connected.
+     */
+    private volatile Connection connection;
+
+    /**
+     * The job ID of the subproblem being searched. Guarded by {@code this}.
+     */
+    private int currentJobId = DistributedProtocol.NO_JOB;
+
+    /**
+     * The cancellation token of the subproblem being searched, or
+     * {@code null}. Guarded by {@code this}.
+     */
+    private CancellationToken currentCancellationToken;
+
+    /**
+     * Whether this worker is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs this worker connecting to the coordinator listening on
+     * {@code port} of the loopback address, and searching with all the
+     * available processors.
+     *
+     * @param port the port of the coordinator.
+     */
+    public DistributedSudokuWorker(final int port) {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+             Runtime.getRuntime().availableProcessors(),
+             SearchOptions.getDefault());
+    }
+
+    /**
+     * Constructs this worker.
+     *
+     * @param coordinatorAddress the address of the coordinator.
+     * @param numberOfThreads    the number of the search threads.
+     * @param options            the search options.
+     */
+    public DistributedSudokuWorker(final InetSocketAddress coordinatorAddress,
+                                   final int numberOfThreads,
+                                   final SearchOptions options) {
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfThreads(%d) < 1",
+                                  numberOfThreads));
+        }
+
+        this.coordinatorAddress =
+                Objects.requireNonNull(coordinatorAddress,
+                                       "coordinatorAddress");
+        this.numberOfThreads = numberOfThreads;
+        this.options = Objects.requireNonNull(options, "options");
+    }
+
+    /**
+     * Connects to the coordinator and serves it until either side closes the
+     * connection.
+     *
+     * @throws UncheckedIOException if the connecting fails.
+     */
+    @Override
+    public void run() {
+        try (final Connection connection =
+                new Connection(SocketChannel.open(coordinatorAddress))) {
+
+            this.connection = connection;
+
+            if (closed) {
+                // Once here, close() may have missed the connection:
+                return;
+            }
+
+            connection.send(DistributedProtocol.READY,
+                            DistributedProtocol.NO_JOB);
+
+            while (true) {
+                final Message message = connection.receive();
+
+                switch (message.type) {
+                    case DistributedProtocol.WORK:
+                        startSearch(message.jobId, message.board);
+                        break;
+
+                    case DistributedProtocol.CANCEL:
+                        cancelSearch(message.jobId);
+                        break;
+
+                    default:
+                        throw new IOException(
+                                String.format("Unexpected message type(%d)",
+                                              message.type));
+                }
+            }
+        } catch (final IOException ex) {
+            if (!closed && connection == null) {
+                throw new UncheckedIOException(ex);
+            }
+
+            // Once here, the connection was closed. Just exit.
+        } finally {
+            cancelSearch(currentJobId());
+            searchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Disconnects this worker. The subproblem being searched, if any, is
+     * abandoned, and the coordinator hands it out to some other worker.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        final Connection connection = this.connection;
+
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (final IOException ex) {
+                // Nothing to do about it.
+            }
+        }
+    }
+
+    /**
+     * Runs a worker. The arguments are the port of the coordinator on the
+     * loopback address, and optionally the number of the search threads.
+     *
+     * @param args the command line arguments.
+     */
+    public static void main(final String[] args) {
+        if (args.length < 1) {
+            System.err.println(
+                    "Usage: DistributedSudokuWorker PORT [THREADS]");
+            System.exit(1);
+        }
+
+        final int port = Integer.parseInt(args[0]);
+        final int numberOfThreads =
+                args.length > 1 ?
+                Integer.parseInt(args[1]) :
+                Runtime.getRuntime().availableProcessors();
+
+        new DistributedSudokuWorker(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                numberOfThreads,
+                SearchOptions.getDefault()).run();
+    }
+
+    private synchronized int currentJobId() {
+        return currentJobId;
+    }
+
+    /**
+     * Starts searching the subproblem {@code board} of the job
+     * {@code jobId}.
+     */
+    private void startSearch(final int jobId, final SudokuBoard board) {
+        final CancellationToken cancellationToken = new CancellationToken();
+
+        synchronized (this) {
+            currentJobId = jobId;
+            currentCancellationToken = cancellationToken;
+        }
+
+        searchExecutor.execute(() -> search(jobId, board, cancellationToken));
+    }
+
+    /**
+     * Cancels the search of the subproblem of the job {@code jobId}, if it
+     * is the current one.
+     */
+    private void cancelSearch(final int jobId) {
+        final CancellationToken cancellationToken;
+
+        synchronized (this) {
+            if (jobId != currentJobId || currentCancellationToken == null) {
+                return;
+            }
+
+            cancellationToken = currentCancellationToken;
+        }
+
+        cancellationToken.cancel();
+    }
+
+    /**
+     * Searches a subproblem and reports the outcome to the coordinator.
+     */
+    private void search(final int jobId,
+                        final SudokuBoard board,
+                        final CancellationToken cancellationToken) {
+
+        SolveResult result;
+
+        try {
+            result = solver.solve(board,
+                                  numberOfThreads * SEEDS_PER_THREAD,
+                                  numberOfThreads,
+                                  options,
+                                  null,
+                                  cancellationToken);
+        } catch (final RuntimeException ex) {
+            // Once here, report the subproblem as abandoned so that the
+            // coordinator hands it out again:
+            result = null;
+        }
+
+        synchronized (this) {
+            if (currentCancellationToken == cancellationToken) {
+                currentJobId = DistributedProtocol.NO_JOB;
+                currentCancellationToken = null;
+            }
+        }
+
+        try {
+            if (result == null) {
+                connection.send(DistributedProtocol.ABORTED, jobId);
+                return;
+            }
+
+            switch (result.getStatus()) {
+                case SOLVED:
+                    connection.send(DistributedProtocol.SOLVED,
+                                    jobId,
+                                    result.getSolution());
+                    break;
+
+                case UNSOLVABLE:
+                    connection.send(DistributedProtocol.EXHAUSTED, jobId);
+                    break;
+
+                default:
+                    connection.send(DistributedProtocol.ABORTED, jobId);
+                    break;
+            }
+        } catch (final IOException ex) {
+            // Once here, the connection is closed, and the receiving thread
+            // exits.
+        }
+    }
+}
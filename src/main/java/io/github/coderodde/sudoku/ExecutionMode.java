@@ -0,0 +1,42 @@
+package io.github.coderodde.sudoku;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Specifies on which kind of threads the solvers run their workers.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public enum ExecutionMode {
+    
+    /**
+     * Run each worker on a new platform thread.
+     */
+    PLATFORM_THREADS,
+    
+    /**
+     * Run each worker on a new virtual thread. The virtual threads are cheap
+     * to create, and the concurrent solves share the carrier threads of the
+     * virtual thread scheduler.
+     */
+    VIRTUAL_THREADS;
+    
+    /**
+     * Creates an executor that starts a new thread of this mode for each 
+     * task.
+     * 
+     * @return the executor.
+     */
+    ExecutorService newThreadPerTaskExecutor() {
+        switch (this) {
+            case VIRTUAL_THREADS:
+                return Executors.newVirtualThreadPerTaskExecutor();
+                
+            default:
+                return Executors.newThreadPerTaskExecutor(
+                        Thread.ofPlatform().factory());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.jfr.GenerationEvent;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class implements a generator of uniquely solvable puzzles. Starting 
+ * from a board with a unique solution, typically a full grid, the clues are
+ * removed one at a time in random order, keeping only the removals after 
+ * which the solution stays unique. The removals are tested in parallel in 
+ * batches of one per worker thread, each worker reusing its own 
+ * {@link SolutionCounter}. 
+ * <p>
+ * Removing a clue never makes a puzzle with several solutions unique again,
+ * so a clue whose removal fails once is kept for good and never retested. 
+ * Hence, running out of clues to try yields a minimal puzzle: no single clue
+ * can be removed without losing the uniqueness.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class MinimalPuzzleGenerator implements AutoCloseable {
+    
+    /**
+     * The worker thread pool.
+     */
+    private final ExecutorService executor;
+    
+    /**
+     * The number of the worker threads.
+     */
+    private final int numberOfThreads;
+    
+    /**
+     * Maps each thread to its solution counters by board width/height.
+     */
+    private final ThreadLocal<Map<Integer, SolutionCounter>> counters = 
+            ThreadLocal.withInitial(HashMap::new);
+    
+    /**
+     * Constructs this generator with a worker per available processor.
+     */
+    public MinimalPuzzleGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Constructs this generator.
+     * 
+     * @param numberOfThreads the number of the worker threads.
+     */
+    public MinimalPuzzleGenerator(final int numberOfThreads) {
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException(
+                    String.format("numberOfThreads(%d) < 1", 
+                                  numberOfThreads));
+        }
+        
+        this.executor = Executors.newFixedThreadPool(numberOfThreads);
+        this.numberOfThreads = numberOfThreads;
+    }
+    
+    /**
+     * Generates a minimal uniquely solvable puzzle out of {@code board}.
+     * 
+     * @param board  the board with a unique solution. Remains intact.
+     * @param random the random number generator.
+     * @return the minimal puzzle.
+     */
+    public SudokuBoard generateMinimal(final SudokuBoard board,
+                                       final Random random) {
+        return generate(board, 0, random);
+    }
+    
+    /**
+     * Generates a uniquely solvable puzzle out of {@code board} by removing
+     * the clues until only {@code targetClueCount} of them remain, or no 
+     * more clues may be removed.
+     * 
+     * @param board           the board with a unique solution. Remains 
+     *                        intact.
+     * @param targetClueCount the number of the clues at which to stop.
+     * @param random          the random number generator.
+     * @return the puzzle. Has more than {@code targetClueCount} clues only if
+     *         it is minimal.
+     * @throws CompletionException if the calling thread is interrupted.
+     */
+    public SudokuBoard generate(final SudokuBoard board,
+                                final int targetClueCount,
+                                final Random random) {
+        
+        final GenerationEvent event = new GenerationEvent();
+        event.begin();
+        
+        final SolutionCounter callerCounter = getCounter(board);
+        
+        if (!callerCounter.hasUniqueSolution(board)) {
+            throw new IllegalArgumentException(
+                    "Input sudoku board has no unique solution");
+        }
+        
+        final SudokuBoard puzzle = new SudokuBoard(board);
+        final int[] clueCells = getClueCells(puzzle);
+        int clueCount = clueCells.length;
+        int nextClue = 0;
+        
+        Utils.shuffle(clueCells, random);
+        
+        while (nextClue < clueCells.length && clueCount > targetClueCount) {
+            final int batchSize = 
+                    Math.min(numberOfThreads, clueCells.length - nextClue);
+            
+            // BEGIN: Test the removals of the batch against the same puzzle.
+            final SudokuBoard snapshot = new SudokuBoard(puzzle);
+            final List<Future<Boolean>> futures = new ArrayList<>(batchSize);
+            
+            for (int i = 0; i < batchSize; ++i) {
+                final int cellIndex = clueCells[nextClue + i];
+                
+                futures.add(executor.submit(() -> {
+                    final SudokuBoard candidate = new SudokuBoard(snapshot);
+                    candidate.setCell(cellIndex, Utils.UNUSED_CELL);
+                    return getCounter(candidate).hasUniqueSolution(candidate);
+                }));
+            }
+            // END: Test the removals of the batch.
+            
+            boolean removed = false;
+            
+            for (int i = 0; i < batchSize && clueCount > targetClueCount; ++i) {
+                if (!getResult(futures.get(i))) {
+                    // Once here, the clue is needed for good:
+                    continue;
+                }
+                
+                final int cellIndex = clueCells[nextClue + i];
+                final int cellValue = puzzle.getCell(cellIndex);
+                
+                puzzle.setCell(cellIndex, Utils.UNUSED_CELL);
+                
+                // The first removal was tested against the current puzzle. 
+                // The later ones were not, so retest them:
+                if (removed && !callerCounter.hasUniqueSolution(puzzle)) {
+                    puzzle.setCell(cellIndex, cellValue);
+                    continue;
+                }
+                
+                removed = true;
+                --clueCount;
+            }
+            
+            nextClue += batchSize;
+        }
+        
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.generator = "minimal";
+            event.boardSize = puzzle.getWidthHeight();
+            event.clueCount = clueCount;
+            event.threadCount = numberOfThreads;
+            event.commit();
+        }
+        
+        return puzzle;
+    }
+    
+    /**
+     * Shuts down the worker threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+    
+    private SolutionCounter getCounter(final SudokuBoard board) {
+        return counters.get()
+                       .computeIfAbsent(board.getWidthHeight(), 
+                                        SolutionCounter::new);
+    }
+    
+    private static int[] getClueCells(final SudokuBoard board) {
+        final int cellCount = board.getWidthHeight() * board.getWidthHeight();
+        int clueCount = 0;
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            if (board.getCell(cellIndex) != Utils.UNUSED_CELL) {
+                ++clueCount;
+            }
+        }
+        
+        final int[] clueCells = new int[clueCount];
+        int i = 0;
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            if (board.getCell(cellIndex) != Utils.UNUSED_CELL) {
+                clueCells[i++] = cellIndex;
+            }
+        }
+        
+        return clueCells;
+    }
+    
+    private static boolean getResult(final Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (final ExecutionException ex) {
+            throw new CompletionException(ex.getCause());
+        }
+    }
+}
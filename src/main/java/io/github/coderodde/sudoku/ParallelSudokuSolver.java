@@ -1,47 +1,75 @@
 package io.github.coderodde.sudoku;
 
-import io.github.coderodde.sudoku.misc.IntSet;
-import io.github.coderodde.sudoku.misc.RandomSudokuBoardSeedProvider;
+import io.github.coderodde.sudoku.jfr.CancellationEvent;
+import io.github.coderodde.sudoku.jfr.SolveEvent;
+import io.github.coderodde.sudoku.jfr.WorkerEvent;
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import io.github.coderodde.sudoku.misc.FrontierSudokuBoardSeedProvider;
 import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
 import io.github.coderodde.sudoku.misc.Utils;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * This class implements a parallel sudoku solver.
+ * This class implements a parallel sudoku solver. Supports the boards of 
+ * width/height up to {@link BitmaskFilters#MAXIMUM_WIDTH_HEIGHT}.
  * 
- * @version 1.0.0 (Dec 4, 2024)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Dec 4, 2024)
  */
 public final class ParallelSudokuSolver {
     
     /**
-     * The random number generator.
+     * The number of the seeds generated per worker when counting solutions.
      */
-    private final Random random = new Random();
+    private static final int COUNTING_SEEDS_PER_THREAD = 8;
     
     /**
-     * The width/height of the minisquare.
+     * The random number generator.
      */
-    private int sqrtn;
+    private final Random random = new Random();
     
     /**
-     * The row-wise filters.
+     * The kind of the threads the workers run on.
      */
-    private IntSet[] rowIntSets;
+    private final ExecutionMode executionMode;
     
     /**
-     * The column-wise filters.
+     * Constructs this solver running its workers on platform threads.
      */
-    private IntSet[] colIntSets;
+    public ParallelSudokuSolver() {
+        this(ExecutionMode.PLATFORM_THREADS);
+    }
     
     /**
-     * The minisquare filters.
+     * Constructs this solver running its workers on the threads of 
+     * {@code executionMode}. Affects only the seed-based and the portfolio 
+     * solves; the work-stealing solves run in the given fork/join pool.
+     * 
+     * @param executionMode the kind of the worker threads.
      */
-    private IntSet[][] minisquareIntSets;
+    public ParallelSudokuSolver(final ExecutionMode executionMode) {
+        this.executionMode = 
+                Objects.requireNonNull(executionMode, "executionMode");
+    }
     
     /**
      * Solves the input sudoku, which becomes modified. 
@@ -67,65 +95,907 @@ public final class ParallelSudokuSolver {
     public SudokuBoard solve(final SudokuBoard sudokuBoard,
                              final int numberOfSeeds,
                              final int numberOfProcessors) {
+        return solve(sudokuBoard, 
+                     numberOfSeeds, 
+                     numberOfProcessors,
+                     SearchOptions.getDefault());
+    }
+    
+    /**
+     * Solves the input sudoku using the given search options.
+     * 
+     * @param sudokuBoard        the sudoku board to solve.
+     * @param numberOfSeeds      the number of seeds.
+     * @param numberOfProcessors the number of processors to use.
+     * @param options            the search options.
+     * @return a solved board, or {@code null} if there is no solution or the
+     *         calling thread was interrupted.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options) {
+        return solve(sudokuBoard, 
+                     numberOfSeeds, 
+                     numberOfProcessors, 
+                     options, 
+                     null,
+                     null).getSolution();
+    }
+    
+    /**
+     * Solves the input sudoku giving up after {@code timeout}.
+     * 
+     * @param sudokuBoard        the sudoku board to solve.
+     * @param numberOfSeeds      the number of seeds.
+     * @param numberOfProcessors the number of processors to use.
+     * @param options            the search options.
+     * @param timeout            the maximum time to search.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options,
+                             final Duration timeout) {
+        return solve(sudokuBoard, 
+                     numberOfSeeds, 
+                     numberOfProcessors, 
+                     options, 
+                     Objects.requireNonNull(timeout, "timeout"),
+                     null);
+    }
+    
+    /**
+     * Solves the input sudoku until {@code cancellationToken} is cancelled.
+     * 
+     * @param sudokuBoard        the sudoku board to solve.
+     * @param numberOfSeeds      the number of seeds.
+     * @param numberOfProcessors the number of processors to use.
+     * @param options            the search options.
+     * @param cancellationToken  the cancellation token.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options,
+                             final CancellationToken cancellationToken) {
+        return solve(sudokuBoard, 
+                     numberOfSeeds, 
+                     numberOfProcessors, 
+                     options, 
+                     null,
+                     Objects.requireNonNull(cancellationToken, 
+                                            "cancellationToken"));
+    }
+    
+    /**
+     * Solves the input sudoku until a solution is found, the search space is
+     * exhausted, {@code timeout} elapses or {@code cancellationToken} is 
+     * cancelled. Interrupting the calling thread cancels the solve and 
+     * leaves the interrupt status set.
+     * 
+     * @param sudokuBoard        the sudoku board to solve.
+     * @param numberOfSeeds      the number of seeds.
+     * @param numberOfProcessors the number of processors to use.
+     * @param options            the search options.
+     * @param timeout            the maximum time to search, or {@code null} 
+     *                           for no limit.
+     * @param cancellationToken  the cancellation token, or {@code null}.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options,
+                             final Duration timeout,
+                             final CancellationToken cancellationToken) {
+        return solve(sudokuBoard,
+                     numberOfSeeds,
+                     numberOfProcessors,
+                     options,
+                     timeout,
+                     cancellationToken,
+                     new SolverStatistics());
+    }
+    
+    /**
+     * Solves the input sudoku like 
+     * {@link #solve(SudokuBoard, int, int, SearchOptions, Duration, 
+     * CancellationToken)}, collecting the statistics into 
+     * {@code statistics}, which may be read by other threads while the solve
+     * is running.
+     * 
+     * @param sudokuBoard        the sudoku board to solve.
+     * @param numberOfSeeds      the number of seeds.
+     * @param numberOfProcessors the number of processors to use.
+     * @param options            the search options.
+     * @param timeout            the maximum time to search, or {@code null} 
+     *                           for no limit.
+     * @param cancellationToken  the cancellation token, or {@code null}.
+     * @param statistics         the statistics to collect. Cleared at the 
+     *                           start of the solve.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final int numberOfSeeds,
+                             final int numberOfProcessors,
+                             final SearchOptions options,
+                             final Duration timeout,
+                             final CancellationToken cancellationToken,
+                             final SolverStatistics statistics) {
         
-        if (!SudokuBoardVerifier.isValid(sudokuBoard)) {
-            // Don't process invalid sudoku boards:
-            throw new IllegalArgumentException("Input sudoku board is invalid");
-        }
+        Objects.requireNonNull(statistics, "statistics");
+        checkSudokuBoard(sudokuBoard);
+        
+        final SolveEvent solveEvent = new SolveEvent();
+        final CancellationEvent cancellationEvent = new CancellationEvent();
+        final int clueCount = 
+                solveEvent.isEnabled() || cancellationEvent.isEnabled() ?
+                Utils.countClues(sudokuBoard) : 
+                0;
+        
+        solveEvent.begin();
+        
+        final SolveResult result = solveWithSeeds(sudokuBoard, 
+                                                  numberOfSeeds, 
+                                                  numberOfProcessors, 
+                                                  options, 
+                                                  timeout, 
+                                                  cancellationToken, 
+                                                  statistics);
+        
+        return commitEvents(solveEvent,
+                            cancellationEvent, 
+                            result, 
+                            "seeds",
+                            sudokuBoard.getWidthHeight(),
+                            clueCount, 
+                            numberOfProcessors, 
+                            numberOfSeeds);
+    }
+    
+    /**
+     * Implements the seed-based solve.
+     */
+    private SolveResult solveWithSeeds(
+            final SudokuBoard sudokuBoard,
+            final int numberOfSeeds,
+            final int numberOfProcessors,
+            final SearchOptions options,
+            final Duration timeout,
+            final CancellationToken cancellationToken,
+            final SolverStatistics statistics) {
+        
+        final long startTime = System.nanoTime();
+        
+        statistics.start();
         
         // Once here, sudokuBoard is valid.
         if (Utils.isCompleteSudokuBoard(sudokuBoard)) {
             // Once here, the sudokuBoard is both valid and complete. Just 
             // return it!
-            return sudokuBoard;
+            statistics.finish();
+            return new SolveResult(SolveResult.Status.SOLVED,
+                                   sudokuBoard,
+                                   Duration.ofNanos(System.nanoTime() 
+                                                  - startTime),
+                                   statistics);
         }
         
-        // Preload all the filters basing on present values in the sudokuBoard:
-        loadIntSets(sudokuBoard);
+        // Used for halting all the threads when a solution is found, or the
+        // search is cancelled or timed out:
+        final SharedThreadState sharedThreadState = 
+                new SharedThreadState(statistics);
         
-        // The solver thread list:
-        final List<SudokuSolverThread> threads =
-                new ArrayList<>(numberOfProcessors);
+        if (cancellationToken != null) {
+            cancellationToken.register(sharedThreadState);
+        }
         
-        final List<List<SudokuBoard>> listOfSeedLists = new ArrayList<>();
+        final List<Future<?>> futures = new ArrayList<>(numberOfProcessors);
+        SolveResult.Status noSolutionStatus;
         
-        // The seeds of the search. Each seed will be passes as initial board to
-        // each solver thread:
-        final List<SudokuBoard> seeds = 
-                RandomSudokuBoardSeedProvider
-                        .computeSeeds(sudokuBoard,
-                                      numberOfSeeds);
+        try (final ExecutorService executor = 
+                executionMode.newThreadPerTaskExecutor()) {
+            
+            final List<List<SudokuBoard>> listOfSeedLists = new ArrayList<>();
+
+            // The seeds of the search. The seeds partition the search space, 
+            // so that no two workers search the same subtree:
+            final List<SudokuBoard> seeds = 
+                    FrontierSudokuBoardSeedProvider
+                            .computeSeeds(sudokuBoard,
+                                          numberOfSeeds);
+
+            // Splits randomly the input seeds to several seed buckets:
+            splitSeeds(numberOfProcessors,
+                       listOfSeedLists,
+                       seeds);
+
+            // Spawn the workers:
+            for (int i = 0; 
+                    i < Math.min(numberOfProcessors, seeds.size()); 
+                    ++i) {
+                futures.add(executor.submit(
+                        new SudokuSolverWorker(listOfSeedLists.get(i),
+                                               sudokuBoard.getWidthHeight(), 
+                                               options,
+                                               sharedThreadState)));
+            }
+
+            try {
+                // Wait for all the workers to exit:
+                for (final Future<?> future : futures) {
+                    if (timeout == null) {
+                        future.get();
+                        continue;
+                    }
+                    
+                    future.get(timeout.toNanos() 
+                             - (System.nanoTime() - startTime),
+                               TimeUnit.NANOSECONDS);
+                }
+                
+                noSolutionStatus = getStopStatus(cancellationToken);
+            } catch (final TimeoutException ex) {
+                // Once here, the time is up. Closing the executor waits for 
+                // the workers, which exit promptly:
+                noSolutionStatus = SolveResult.Status.TIMED_OUT;
+                sharedThreadState.stop();
+            } catch (final InterruptedException ex) {
+                noSolutionStatus = SolveResult.Status.CANCELLED;
+                sharedThreadState.stop();
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException ex) {
+                sharedThreadState.stop();
+                throw new IllegalStateException("A solver worker failed", 
+                                                ex.getCause());
+            }
+        } finally {
+            if (cancellationToken != null) {
+                cancellationToken.unregister(sharedThreadState);
+            }
+        }
         
-        // Splits randomly the input seeds to several seed buckets:
-        splitSeeds(numberOfProcessors,
-                   listOfSeedLists,
-                   seeds);
+        // Once here, all the workers have exited and flushed their 
+        // statistics:
+        return toSolveResult(sharedThreadState, noSolutionStatus, startTime);
+    }
+    
+    /**
+     * Solves the input sudoku, which becomes modified, via work-stealing. 
+     * Each search node above {@code splitDepth} branchings forks a subtask for
+     * each of its candidate values, so that the idle workers of 
+     * {@code pool} may steal the remaining subtrees.
+     * 
+     * @param sudokuBoard the sudoku board to solve.
+     * @param pool        the fork/join pool to run the search in.
+     * @param splitDepth  the number of branchings above which no subtasks are
+     *                    forked.
+     * @return a solved board, or {@code null} if there is no solution.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard,
+                             final ForkJoinPool pool,
+                             final int splitDepth) {
+        return solve(sudokuBoard,
+                     pool, 
+                     splitDepth,
+                     SearchOptions.getDefault());
+    }
+    
+    /**
+     * Solves the input sudoku via work-stealing using the given search 
+     * options.
+     * 
+     * @param sudokuBoard the sudoku board to solve.
+     * @param pool        the fork/join pool to run the search in.
+     * @param splitDepth  the number of branchings above which no subtasks are
+     *                    forked.
+     * @param options     the search options.
+     * @return a solved board, or {@code null} if there is no solution or the
+     *         calling thread was interrupted.
+     */
+    public SudokuBoard solve(final SudokuBoard sudokuBoard,
+                             final ForkJoinPool pool,
+                             final int splitDepth,
+                             final SearchOptions options) {
+        return solve(sudokuBoard, 
+                     pool, 
+                     splitDepth,
+                     options, 
+                     null,
+                     null).getSolution();
+    }
+    
+    /**
+     * Solves the input sudoku via work-stealing until a solution is found, 
+     * the search space is exhausted, {@code timeout} elapses or 
+     * {@code cancellationToken} is cancelled. Interrupting the calling thread
+     * cancels the solve and leaves the interrupt status set.
+     * 
+     * @param sudokuBoard       the sudoku board to solve.
+     * @param pool              the fork/join pool to run the search in.
+     * @param splitDepth        the number of branchings above which no 
+     *                          subtasks are forked.
+     * @param options           the search options.
+     * @param timeout           the maximum time to search, or {@code null} 
+     *                          for no limit.
+     * @param cancellationToken the cancellation token, or {@code null}.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final ForkJoinPool pool,
+                             final int splitDepth,
+                             final SearchOptions options,
+                             final Duration timeout,
+                             final CancellationToken cancellationToken) {
+        return solve(sudokuBoard,
+                     pool,
+                     splitDepth,
+                     options,
+                     timeout,
+                     cancellationToken,
+                     new SolverStatistics());
+    }
+    
+    /**
+     * Solves the input sudoku via work-stealing like 
+     * {@link #solve(SudokuBoard, ForkJoinPool, int, SearchOptions, Duration,
+     * CancellationToken)}, collecting the statistics of each pool thread 
+     * into {@code statistics}, which may be read by other threads while the
+     * solve is running.
+     * 
+     * @param sudokuBoard       the sudoku board to solve.
+     * @param pool              the fork/join pool to run the search in.
+     * @param splitDepth        the number of branchings above which no 
+     *                          subtasks are forked.
+     * @param options           the search options.
+     * @param timeout           the maximum time to search, or {@code null} 
+     *                          for no limit.
+     * @param cancellationToken the cancellation token, or {@code null}.
+     * @param statistics        the statistics to collect. Cleared at the 
+     *                          start of the solve.
+     * @return the result of the solve.
+     */
+    public SolveResult solve(final SudokuBoard sudokuBoard,
+                             final ForkJoinPool pool,
+                             final int splitDepth,
+                             final SearchOptions options,
+                             final Duration timeout,
+                             final CancellationToken cancellationToken,
+                             final SolverStatistics statistics) {
+        
+        Objects.requireNonNull(statistics, "statistics");
+        checkSudokuBoard(sudokuBoard);
+        
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException(
+                    String.format("splitDepth(%d) < 0", splitDepth));
+        }
+        
+        final SolveEvent solveEvent = new SolveEvent();
+        final CancellationEvent cancellationEvent = new CancellationEvent();
+        
+        // The search modifies the board, so count the clues up front:
+        final int clueCount = 
+                solveEvent.isEnabled() || cancellationEvent.isEnabled() ?
+                Utils.countClues(sudokuBoard) : 
+                0;
+        
+        solveEvent.begin();
+        
+        final SolveResult result = solveWithForkJoin(sudokuBoard, 
+                                                     pool, 
+                                                     splitDepth, 
+                                                     options, 
+                                                     timeout, 
+                                                     cancellationToken, 
+                                                     statistics);
         
-        // Used for halting all the threads when a solution is found:
+        return commitEvents(solveEvent,
+                            cancellationEvent, 
+                            result, 
+                            "fork/join",
+                            sudokuBoard.getWidthHeight(),
+                            clueCount, 
+                            pool.getParallelism(), 
+                            splitDepth);
+    }
+    
+    /**
+     * Implements the work-stealing solve.
+     */
+    private SolveResult solveWithForkJoin(
+            final SudokuBoard sudokuBoard,
+            final ForkJoinPool pool,
+            final int splitDepth,
+            final SearchOptions options,
+            final Duration timeout,
+            final CancellationToken cancellationToken,
+            final SolverStatistics statistics) {
+        
+        final long startTime = System.nanoTime();
+        
+        statistics.start();
+        
+        if (Utils.isCompleteSudokuBoard(sudokuBoard)) {
+            statistics.finish();
+            return new SolveResult(SolveResult.Status.SOLVED,
+                                   sudokuBoard,
+                                   Duration.ofNanos(System.nanoTime() 
+                                                  - startTime),
+                                   statistics);
+        }
+        
+        // Used for halting all the tasks when a solution is found, or the
+        // search is cancelled or timed out:
         final SharedThreadState sharedThreadState = 
-                new SharedThreadState();
-        
-        // Spawn the threads:
-        for (int i = 0; i < Math.min(numberOfProcessors, seeds.size()); ++i) {
-            threads.add(
-                    new SudokuSolverThread(listOfSeedLists.get(i),
-                                           sudokuBoard, 
-                                           sharedThreadState));
-            threads.get(i).start();
+                new SharedThreadState(statistics);
+        
+        if (cancellationToken != null) {
+            cancellationToken.register(sharedThreadState);
+        }
+        
+        try {
+            final ForkJoinTask<SudokuBoard> task = 
+                    pool.submit(new SudokuSearchTask(sudokuBoard,
+                                                     0,
+                                                     0,
+                                                     splitDepth,
+                                                     options,
+                                                     sharedThreadState));
+            
+            boolean timedOut = false;
+            
+            try {
+                if (timeout == null) {
+                    task.get();
+                } else {
+                    try {
+                        task.get(timeout.toNanos() 
+                                - (System.nanoTime() - startTime), 
+                                 TimeUnit.NANOSECONDS);
+                    } catch (final TimeoutException ex) {
+                        // Once here, the time is up. Stop and wait for the 
+                        // tasks, which exit promptly:
+                        timedOut = true;
+                        sharedThreadState.stop();
+                        task.get();
+                    }
+                }
+            } catch (final InterruptedException ex) {
+                sharedThreadState.stop();
+                Thread.currentThread().interrupt();
+                
+                return toSolveResult(sharedThreadState, 
+                                     SolveResult.Status.CANCELLED, 
+                                     startTime);
+            } catch (final ExecutionException ex) {
+                throw new IllegalStateException("The search task failed", 
+                                                ex.getCause());
+            }
+            
+            return toSolveResult(
+                    sharedThreadState, 
+                    timedOut ? 
+                            SolveResult.Status.TIMED_OUT : 
+                            getStopStatus(cancellationToken), 
+                    startTime);
+        } finally {
+            if (cancellationToken != null) {
+                cancellationToken.unregister(sharedThreadState);
+            }
+        }
+    }
+    
+    /**
+     * Solves the input sudoku by racing all the 
+     * {@linkplain PortfolioStrategy portfolio strategies}.
+     * 
+     * @param sudokuBoard       the sudoku board to solve. Remains intact.
+     * @param timeout           the maximum time to search, or {@code null} 
+     *                          for no limit.
+     * @param cancellationToken the cancellation token, or {@code null}.
+     * @return the result of the solve.
+     * @see #solvePortfolio(SudokuBoard, Collection, Duration, 
+     *                      CancellationToken)
+     */
+    public SolveResult solvePortfolio(
+            final SudokuBoard sudokuBoard,
+            final Duration timeout,
+            final CancellationToken cancellationToken) {
+        
+        return solvePortfolio(sudokuBoard, 
+                              EnumSet.allOf(PortfolioStrategy.class),
+                              timeout,
+                              cancellationToken);
+    }
+    
+    /**
+     * Solves the input sudoku by racing the engines of {@code strategies}, 
+     * each on a thread of its own, so that a puzzle that is hard for one 
+     * engine need not wait for it. The engines run under the child states of
+     * a single {@link SharedThreadState}: the first engine to find a solution
+     * or to prove that there is none stops all the others, and is reported 
+     * via {@link SolveResult#getWinningStrategy()}. Returns as soon as the 
+     * race is decided; the stopped engines may still be exiting, and may 
+     * flush their last counts to the statistics of the result afterwards.
+     * 
+     * @param sudokuBoard       the sudoku board to solve. Remains intact.
+     * @param strategies        the strategies to race. The duplicates are 
+     *                          ignored.
+     * @param timeout           the maximum time to search, or {@code null} 
+     *                          for no limit.
+     * @param cancellationToken the cancellation token, or {@code null}.
+     * @return the result of the solve.
+     */
+    public SolveResult solvePortfolio(
+            final SudokuBoard sudokuBoard,
+            final Collection<PortfolioStrategy> strategies,
+            final Duration timeout,
+            final CancellationToken cancellationToken) {
+        
+        Objects.requireNonNull(strategies, "strategies");
+        checkSudokuBoard(sudokuBoard);
+        
+        if (strategies.isEmpty()) {
+            throw new IllegalArgumentException("No strategies to race");
+        }
+        
+        final EnumSet<PortfolioStrategy> strategySet = 
+                EnumSet.copyOf(strategies);
+        
+        final SolveEvent solveEvent = new SolveEvent();
+        final CancellationEvent cancellationEvent = new CancellationEvent();
+        final int clueCount = 
+                solveEvent.isEnabled() || cancellationEvent.isEnabled() ?
+                Utils.countClues(sudokuBoard) : 
+                0;
+        
+        solveEvent.begin();
+        
+        final SolveResult result = solveWithPortfolio(sudokuBoard, 
+                                                      strategySet, 
+                                                      timeout, 
+                                                      cancellationToken);
+        
+        return commitEvents(solveEvent,
+                            cancellationEvent, 
+                            result, 
+                            "portfolio",
+                            sudokuBoard.getWidthHeight(),
+                            clueCount, 
+                            strategySet.size(), 
+                            0);
+    }
+    
+    /**
+     * Implements the portfolio solve. Returns as soon as the race is decided,
+     * without waiting for the stopped engines to exit.
+     */
+    private SolveResult solveWithPortfolio(
+            final SudokuBoard sudokuBoard,
+            final Collection<PortfolioStrategy> strategies,
+            final Duration timeout,
+            final CancellationToken cancellationToken) {
+        
+        final long startTime = System.nanoTime();
+        final SolverStatistics statistics = new SolverStatistics();
+        
+        statistics.start();
+        
+        if (Utils.isCompleteSudokuBoard(sudokuBoard)) {
+            // Once here, there is nothing to race for:
+            statistics.finish();
+            return new SolveResult(SolveResult.Status.SOLVED,
+                                   sudokuBoard,
+                                   Duration.ofNanos(System.nanoTime() 
+                                                  - startTime),
+                                   statistics);
+        }
+        
+        final PortfolioRace race = 
+                new PortfolioRace(new SharedThreadState(statistics), 
+                                  strategies.size());
+        
+        final SharedThreadState sharedThreadState = race.sharedThreadState;
+        
+        if (cancellationToken != null) {
+            cancellationToken.register(sharedThreadState);
+        }
+        
+        final ExecutorService executor = 
+                executionMode.newThreadPerTaskExecutor();
+        
+        SolveResult.Status noSolutionStatus;
+        
+        try {
+            for (final PortfolioStrategy strategy : strategies) {
+                executor.execute(
+                        new PortfolioEngine(strategy, sudokuBoard, race));
+            }
+            
+            if (timeout == null) {
+                race.finished.await();
+                noSolutionStatus = getStopStatus(cancellationToken);
+            } else if (race.finished.await(timeout.toNanos() 
+                                         - (System.nanoTime() - startTime),
+                                           TimeUnit.NANOSECONDS)) {
+                noSolutionStatus = getStopStatus(cancellationToken);
+            } else {
+                noSolutionStatus = SolveResult.Status.TIMED_OUT;
+            }
+        } catch (final InterruptedException ex) {
+            noSolutionStatus = SolveResult.Status.CANCELLED;
+            Thread.currentThread().interrupt();
+        } finally {
+            // Stop the losers, but don't wait for them; they exit promptly:
+            sharedThreadState.stop();
+            executor.shutdown();
+            
+            if (cancellationToken != null) {
+                cancellationToken.unregister(sharedThreadState);
+            }
+        }
+        
+        final SudokuBoard solution = sharedThreadState.getSolution();
+        final PortfolioStrategy winningStrategy = race.winningStrategy.get();
+        final Throwable failure = race.failure.get();
+        
+        if (solution == null && winningStrategy == null && failure != null) {
+            throw new IllegalStateException("A portfolio engine failed", 
+                                            failure);
+        }
+        
+        statistics.finish();
+        
+        return new SolveResult(solution != null ? 
+                                       SolveResult.Status.SOLVED : 
+                                       noSolutionStatus,
+                               solution,
+                               Duration.ofNanos(System.nanoTime() 
+                                              - startTime),
+                               statistics,
+                               winningStrategy);
+    }
+    
+    /**
+     * Counts the solutions of the input sudoku using all the available 
+     * processors, stopping at {@code limit}.
+     * 
+     * @param sudokuBoard the sudoku board whose solutions to count. Remains
+     *                    intact.
+     * @param limit       the number of the solutions at which to stop.
+     * @return the number of the solutions, or {@code limit} if there are at 
+     *         least {@code limit} solutions.
+     */
+    public long countSolutions(final SudokuBoard sudokuBoard, 
+                               final long limit) {
+        return countSolutions(sudokuBoard, 
+                              limit, 
+                              Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Counts the solutions of the input sudoku, stopping at {@code limit}. 
+     * The board is first propagated in the calling thread, which settles 
+     * most of the easy puzzles without starting any workers. Otherwise, the 
+     * search space is partitioned into disjoint seeds, the workers count the
+     * solutions of the seeds into a striped counter, and all of them stop as
+     * soon as the total reaches {@code limit}.
+     * 
+     * @param sudokuBoard        the sudoku board whose solutions to count. 
+     *                           Remains intact.
+     * @param limit              the number of the solutions at which to 
+     *                           stop.
+     * @param numberOfProcessors the number of processors to use.
+     * @return the number of the solutions, or {@code limit} if there are at 
+     *         least {@code limit} solutions.
+     * @throws CompletionException if the calling thread is interrupted.
+     */
+    public long countSolutions(final SudokuBoard sudokuBoard,
+                               final long limit,
+                               final int numberOfProcessors) {
+        checkSudokuBoard(sudokuBoard);
+        
+        if (limit < 1L) {
+            throw new IllegalArgumentException(
+                    String.format("limit(%d) < 1", limit));
         }
         
-        // Wait for all the solver threads to exit:
-        for (final SudokuSolverThread thread : threads) {
+        final int widthHeight = sudokuBoard.getWidthHeight();
+        final SharedThreadState sharedThreadState = new SharedThreadState();
+        final LongAdder solutionTotal = new LongAdder();
+        final BacktrackingSearch rootSearch = 
+                new BacktrackingSearch(widthHeight, 
+                                       SolutionCounter.COUNTING_OPTIONS, 
+                                       sharedThreadState);
+        
+        final SudokuBoard root = new SudokuBoard(sudokuBoard);
+        
+        if (!rootSearch.load(root)) {
+            // Once here, the propagation found a contradiction:
+            return 0L;
+        }
+        
+        if (rootSearch.getState().getEmptyCellCount() == 0) {
+            // Once here, the propagation alone solved the board:
+            return 1L;
+        }
+        
+        if (numberOfProcessors < 2) {
+            return Math.min(
+                    rootSearch.countSolutions(root, solutionTotal, limit),
+                    limit);
+        }
+        
+        // The disjoint seeds make the per-seed counts add up exactly:
+        final List<SudokuBoard> seeds = 
+                FrontierSudokuBoardSeedProvider.computeSeeds(
+                        root, 
+                        numberOfProcessors * COUNTING_SEEDS_PER_THREAD);
+        
+        final AtomicInteger nextSeed = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>(numberOfProcessors);
+        
+        try (final ExecutorService executor = 
+                executionMode.newThreadPerTaskExecutor()) {
+            
+            for (int i = 0; 
+                    i < Math.min(numberOfProcessors, seeds.size()); 
+                    ++i) {
+                futures.add(executor.submit(
+                        new SolutionCountingWorker(seeds,
+                                                   nextSeed,
+                                                   solutionTotal,
+                                                   limit,
+                                                   sharedThreadState)));
+            }
+            
             try {
-                thread.join();
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
             } catch (final InterruptedException ex) {
-                ex.printStackTrace();
-                System.exit(1);
+                sharedThreadState.stop();
+                Thread.currentThread().interrupt();
+                throw new CompletionException(ex);
+            } catch (final ExecutionException ex) {
+                sharedThreadState.stop();
+                throw new CompletionException(ex.getCause());
             }
         }
         
-        // Fetch and return the solution:
-        return sharedThreadState.getSolution(); 
+        return Math.min(solutionTotal.sum(), limit);
+    }
+    
+    /**
+     * Queries whether the input sudoku has exactly one solution.
+     * 
+     * @param sudokuBoard the sudoku board to check. Remains intact.
+     * @return {@code true} if and only if the board has a unique solution.
+     */
+    public boolean hasUniqueSolution(final SudokuBoard sudokuBoard) {
+        return countSolutions(sudokuBoard, 2L) == 1L;
+    }
+    
+    /**
+     * Returns the status of a search that exited without a solution before
+     * its timeout.
+     * 
+     * @param cancellationToken the cancellation token, or {@code null}.
+     * @return the status of the search.
+     */
+    private static SolveResult.Status getStopStatus(
+            final CancellationToken cancellationToken) {
+        
+        return cancellationToken != null && cancellationToken.isCancelled() ?
+               SolveResult.Status.CANCELLED :
+               SolveResult.Status.UNSOLVABLE;
+    }
+    
+    /**
+     * Commits the JFR events of a finished solve, if enabled. A solve that 
+     * ended due to a timeout or a cancellation commits a 
+     * {@link CancellationEvent} as well.
+     * 
+     * @param solveEvent        the solve event, begun at the start of the 
+     *                          solve.
+     * @param cancellationEvent the cancellation event.
+     * @param result            the result of the solve.
+     * @param strategy          the name of the parallelization strategy.
+     * @param widthHeight       the width/height of the board.
+     * @param clueCount         the number of the clues of the input board.
+     * @param threadCount       the number of the worker threads.
+     * @param seedCount         the number of the requested seeds, or the 
+     *                          split depth.
+     * @return {@code result}.
+     */
+    private static SolveResult commitEvents(
+            final SolveEvent solveEvent,
+            final CancellationEvent cancellationEvent,
+            final SolveResult result,
+            final String strategy,
+            final int widthHeight,
+            final int clueCount,
+            final int threadCount,
+            final int seedCount) {
+        
+        solveEvent.end();
+        
+        final SolverStatistics statistics = result.getStatistics();
+        
+        if (solveEvent.shouldCommit()) {
+            solveEvent.boardSize = widthHeight;
+            solveEvent.clueCount = clueCount;
+            solveEvent.threadCount = threadCount;
+            solveEvent.seedCount = seedCount;
+            solveEvent.strategy = strategy;
+            solveEvent.status = result.getStatus().name();
+            solveEvent.nodes = statistics.getNodes();
+            solveEvent.backtracks = statistics.getBacktracks();
+            solveEvent.commit();
+        }
+        
+        if (result.getStatus() != SolveResult.Status.TIMED_OUT 
+                && result.getStatus() != SolveResult.Status.CANCELLED) {
+            return result;
+        }
+        
+        if (cancellationEvent.shouldCommit()) {
+            cancellationEvent.reason = result.getStatus().name();
+            cancellationEvent.boardSize = widthHeight;
+            cancellationEvent.clueCount = clueCount;
+            cancellationEvent.threadCount = threadCount;
+            cancellationEvent.nodes = statistics.getNodes();
+            cancellationEvent.commit();
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Builds the result of a finished search. A published solution takes 
+     * precedence over {@code noSolutionStatus}.
+     * 
+     * @param sharedThreadState the shared thread state of the search.
+     * @param noSolutionStatus  the status to report if there is no solution.
+     * @param startTime         the {@link System#nanoTime()} at the start of
+     *                          the solve.
+     * @return the result of the search.
+     */
+    private static SolveResult toSolveResult(
+            final SharedThreadState sharedThreadState,
+            final SolveResult.Status noSolutionStatus,
+            final long startTime) {
+        
+        final SudokuBoard solution = sharedThreadState.getSolution();
+        final SolverStatistics statistics = sharedThreadState.getStatistics();
+        
+        statistics.finish();
+        
+        return new SolveResult(solution != null ? 
+                                       SolveResult.Status.SOLVED : 
+                                       noSolutionStatus,
+                               solution,
+                               Duration.ofNanos(System.nanoTime() 
+                                              - startTime),
+                               statistics);
+    }
+    
+    /**
+     * Makes sure that the input sudoku board is supported and valid.
+     * 
+     * @param sudokuBoard the sudoku board to check.
+     */
+    private static void checkSudokuBoard(final SudokuBoard sudokuBoard) {
+        BitmaskFilters.checkBitmaskWidthHeight(sudokuBoard.getWidthHeight());
+        
+        if (!SudokuBoardVerifier.isValid(sudokuBoard)) {
+            // Don't process invalid sudoku boards:
+            throw new IllegalArgumentException("Input sudoku board is invalid");
+        }
     }
     
     private void splitSeeds(final int threadCount,
@@ -146,230 +1016,285 @@ public final class ParallelSudokuSolver {
     }
     
     /**
-     * Preloads all the filters from the input board.
-     * 
-     * @param board the board from which to fetch all the cell values for the
-     *              filters.
-     */
-    private void loadIntSets(final SudokuBoard board) {
-        final int n = board.getWidthHeight();
-        final int capacity = n + 1;
-        sqrtn = (int) Math.sqrt(n);
-        
-        // BEGIN: Create filters.
-        rowIntSets = new IntSet[n];
-        colIntSets = new IntSet[n];
-        minisquareIntSets = new IntSet[sqrtn][sqrtn];
-        
-        for (int i = 0; i < n; ++i) {
-            rowIntSets[i] = new IntSet(capacity);
-            colIntSets[i] = new IntSet(capacity);
-        }
+     * This inner class implements the solution counting workers. The workers
+     * take the seeds from a shared list on demand, so that no worker idles 
+     * while some other still has several seeds to count.
+     */
+    private static final class SolutionCountingWorker implements Runnable {
         
-        for (int y = 0; y < sqrtn; ++y) {
-            minisquareIntSets[y] = new IntSet[sqrtn];
-            
-            for (int x = 0; x < sqrtn; ++x) {
-                minisquareIntSets[y][x] = new IntSet(capacity);
-            }
+        /**
+         * The seeds of all the workers.
+         */
+        private final List<SudokuBoard> seeds;
+        
+        /**
+         * The index of the next seed to take.
+         */
+        private final AtomicInteger nextSeed;
+        
+        /**
+         * The solution count shared by all the workers.
+         */
+        private final LongAdder solutionTotal;
+        
+        /**
+         * The solution count at which to stop.
+         */
+        private final long limit;
+        
+        /**
+         * The search state of this worker.
+         */
+        private final BacktrackingSearch search;
+        
+        /**
+         * The shared thread state. Used for communicating that the limit is 
+         * reached and all the workers must exit.
+         */
+        private final SharedThreadState sharedThreadState;
+        
+        SolutionCountingWorker(final List<SudokuBoard> seeds,
+                               final AtomicInteger nextSeed,
+                               final LongAdder solutionTotal,
+                               final long limit,
+                               final SharedThreadState sharedThreadState) {
+            this.seeds = seeds;
+            this.nextSeed = nextSeed;
+            this.solutionTotal = solutionTotal;
+            this.limit = limit;
+            this.search = 
+                    new BacktrackingSearch(seeds.get(0).getWidthHeight(), 
+                                           SolutionCounter.COUNTING_OPTIONS, 
+                                           sharedThreadState);
+            this.sharedThreadState = sharedThreadState;
         }
-        // END: Create filters.
         
-        // BEGIN: Preload filter values.
-        for (int y = 0; y < board.getWidthHeight(); ++y) {
-            for (int x = 0; x < board.getWidthHeight(); ++x) {
-                final int cellValue = board.get(x, y);
+        @Override
+        public void run() {
+            while (!sharedThreadState.isStopped()) {
+                final int index = nextSeed.getAndIncrement();
                 
-                if (cellValue == Utils.UNUSED_CELL) {
-                    continue;
+                if (index >= seeds.size()) {
+                    return;
                 }
                 
-                rowIntSets[y].add(cellValue);
-                colIntSets[x].add(cellValue);
-                minisquareIntSets[y / sqrtn]
-                                 [x / sqrtn].add(cellValue);
+                search.countSolutions(seeds.get(index), solutionTotal, limit);
             }
         }
-        // END: Preload filter values.
     }
     
     /**
-     * This inner class implements sudoku solver threads.
+     * This inner class holds the state of a single portfolio race.
      */
-    private final class SudokuSolverThread extends Thread {
+    private static final class PortfolioRace {
         
         /**
-         * The seeding sudoku board.
+         * The parent state of the states of all the engines. Stopping it 
+         * stops all of them.
          */
-        private final List<SudokuBoard> seeds;
+        final SharedThreadState sharedThreadState;
         
         /**
-         * The original task sudoku board.
+         * The strategy of the first engine to finish.
          */
-        private final SudokuBoard original;
+        final AtomicReference<PortfolioStrategy> winningStrategy = 
+                new AtomicReference<>();
         
         /**
-         * The current board under investigation.
+         * The first failure of an engine.
          */
-        private SudokuBoard board;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
         
         /**
-         * The shared thread state. Used for communicating that a solution is 
-         * found and all the threads must exit.
+         * Released once some engine wins or all the engines have exited.
          */
-        private final SharedThreadState sharedThreadState;
+        final CountDownLatch finished = new CountDownLatch(1);
         
         /**
-         * The random number generator.
+         * The number of the engines that have not exited yet.
          */
-        private final Random random = new Random();
+        private final AtomicInteger runningEngines;
+        
+        PortfolioRace(final SharedThreadState sharedThreadState,
+                      final int engineCount) {
+            this.sharedThreadState = sharedThreadState;
+            this.runningEngines = new AtomicInteger(engineCount);
+        }
         
         /**
-         * Constructs this thread.
+         * Records the exit of the engine of {@code strategy}.
          * 
-         * @param seed              the seed sudoku board.
-         * @param original          the original sudoku board.
-         * @param sharedThreadState the shared thread state.
+         * @param strategy the strategy of the engine.
+         * @param won      whether the engine finished the race.
          */
-        SudokuSolverThread(final List<SudokuBoard> seeds,
-                           final SudokuBoard original,
-                           final SharedThreadState sharedThreadState) {
-            this.seeds = seeds;
-            this.board = null;
-            this.original = original;
-            this.sharedThreadState = sharedThreadState;
+        void exit(final PortfolioStrategy strategy, final boolean won) {
+            if (won && winningStrategy.compareAndSet(null, strategy)) {
+                sharedThreadState.stop();
+                finished.countDown();
+            }
+            
+            if (runningEngines.decrementAndGet() == 0) {
+                finished.countDown();
+            }
+        }
+    }
+    
+    /**
+     * This inner class implements the engines of the portfolio solve. Each 
+     * engine searches the entire board single-handedly under a child state
+     * of the shared thread state of the race.
+     */
+    private static final class PortfolioEngine implements Runnable {
+        
+        /**
+         * The strategy of this engine.
+         */
+        private final PortfolioStrategy strategy;
+        
+        /**
+         * The sudoku board to solve. Not modified.
+         */
+        private final SudokuBoard sudokuBoard;
+        
+        /**
+         * The race this engine takes part in.
+         */
+        private final PortfolioRace race;
+        
+        PortfolioEngine(final PortfolioStrategy strategy,
+                        final SudokuBoard sudokuBoard,
+                        final PortfolioRace race) {
+            this.strategy = strategy;
+            this.sudokuBoard = sudokuBoard;
+            this.race = race;
         }
         
         @Override
         public void run() {
-            for (final SudokuBoard seed : seeds) {
-                this.board = seed;
-                solveImpl(0, 0);
+            final SharedThreadState engineState = 
+                    new SharedThreadState(race.sharedThreadState);
+            
+            boolean won = false;
+            
+            try {
+                final SearchOptions options = strategy.getSearchOptions();
+
+                if (options == null) {
+                    // The engine runs on its own thread already:
+                    new DancingLinksSudokuSolver()
+                            .solveInCallingThread(sudokuBoard, engineState);
+                } else {
+                    new BacktrackingSearch(sudokuBoard.getWidthHeight(), 
+                                           options, 
+                                           engineState)
+                            .search(new SudokuBoard(sudokuBoard));
+                }
+
+                final SudokuBoard solution = engineState.getSolution();
+
+                // An engine wins by publishing the solution of the race, or 
+                // by exhausting its search space before it is stopped:
+                won = solution != null ? 
+                      solution == race.sharedThreadState.getSolution() :
+                      !engineState.isStopped();
+            } catch (final RuntimeException | Error ex) {
+                race.failure.compareAndSet(null, ex);
+                throw ex;
+            } finally {
+                race.exit(strategy, won);
             }
         }
+    }
+    
+    /**
+     * This inner class implements sudoku solver workers. Each worker owns its
+     * search state, so that no constraint state is shared between the 
+     * threads.
+     */
+    private static final class SudokuSolverWorker implements Runnable {
         
         /**
-         * Returns an {@code int} array of cell values in random order.
-         * 
-         * @return cell values.
+         * The seeding sudoku boards.
          */
-        private int[] getCellValues() {
-            final int[] cellValues = new int[board.getWidthHeight()];
-            
-            for (int i = 0; i < board.getWidthHeight(); ++i) {
-                cellValues[i] = i + 1;
-            }
-            
-            Utils.shuffle(cellValues, random);
-            return cellValues;
-        }
+        private final List<SudokuBoard> seeds;
         
         /**
-         * The actual solution method.
-         * 
-         * @param x the {@code x}-coordinate of the cell to process next.
-         * @param y the {@code y}-coordinate of the cell to process next.
+         * The search state of this worker.
+         */
+        private final BacktrackingSearch search;
+        
+        /**
+         * The shared thread state. Used for communicating that a solution is 
+         * found, or the search is stopped, and all the workers must exit.
+         */
+        private final SharedThreadState sharedThreadState;
+        
+        /**
+         * Constructs this worker.
          * 
-         * @return {@code true} if a solution was found deeper in the search.
+         * @param seeds             the seed sudoku boards.
+         * @param widthHeight       the width/height of the sudoku boards.
+         * @param options           the search options.
+         * @param sharedThreadState the shared thread state.
          */
-        private boolean solveImpl(int x,
-                                  int y) {
-            
-            if (sharedThreadState.getSolution() != null) {
-                // Once here, we have a solution and we simple exit with true:
-                return true;
-            }
-            
-            if (x == board.getWidthHeight()) {
-                // Once here, we have reached the right border. Go to the
-                // beginning of the next row:
-                x = 0;
-                ++y;
-            }
+        SudokuSolverWorker(final List<SudokuBoard> seeds,
+                           final int widthHeight,
+                           final SearchOptions options,
+                           final SharedThreadState sharedThreadState) {
+            this.seeds = seeds;
+            this.search = new BacktrackingSearch(widthHeight, 
+                                                 options,
+                                                 sharedThreadState);
+            this.sharedThreadState = sharedThreadState;
+        }
+        
+        @Override
+        public void run() {
+            final SolverStatistics statistics = 
+                    sharedThreadState.getStatistics();
             
-            if (y == board.getWidthHeight()) {
-                // Once here, we have a solution. Record it and exit with true:
-                sharedThreadState.setSolution(board);
-                return true;
-            }
+            final SolverStatistics.WorkerStatistics workerStatistics = 
+                    statistics == null ? 
+                    null : 
+                    statistics.getCurrentWorkerStatistics();
             
-            if (original.get(x, y) != Utils.UNUSED_CELL) {
-                // Once here, we need just to copy a cell value from the 
-                // original sudoku board to the seed:
-                board.set(x,
-                          y,
-                          original.get(x, y));
-                
-                // Process further:
-                return solveImpl(x + 1, y);
-            }
+            final WorkerEvent event = new WorkerEvent();
+            event.begin();
             
-            // Get an array of cell values in random order:
-            final int[] cellValues = getCellValues();
+            int seedsConsumed = 0;
             
-            for (final int cellValue : cellValues) {
-                
-                if (rowIntSets[y].contains(cellValue)) {
-                    // Once here, the row already contains cellValue:
-                    continue;
-                }
-                
-                if (colIntSets[x].contains(cellValue)) {
-                    // Once here, the column already contains cellValue:
-                    continue;
+            for (; seedsConsumed < seeds.size(); ++seedsConsumed) {
+                if (sharedThreadState.isStopped()) {
+                    if (workerStatistics != null) {
+                        workerStatistics.addSeedsSkipped(
+                                seeds.size() - seedsConsumed);
+                    }
+                    
+                    break;
                 }
                 
-                if (minisquareIntSets[y / sqrtn]
-                                     [x / sqrtn].contains(cellValue)) {
-                    // Once here, the minisquare already contains cellValue:
-                    continue;
+                if (workerStatistics != null) {
+                    workerStatistics.incrementSeedsConsumed();
                 }
                 
-                // Write the cell value to seed:
-                board.set(x, y, cellValue);
-                
-                // BEGIN: Mark in filters.
-                rowIntSets[y].add(cellValue);
-                colIntSets[x].add(cellValue);
-                minisquareIntSets[y / sqrtn]
-                                 [x / sqrtn].add(cellValue);
-                // END: Mark in filters.
+                search.search(seeds.get(seedsConsumed));
+            }
+            
+            event.end();
+            
+            if (event.shouldCommit()) {
+                event.boardSize = search.getState().getGeometry()
+                                                   .getWidthHeight();
+                event.seedCount = seeds.size();
+                event.seedsConsumed = seedsConsumed;
                 
-                if (solveImpl(x + 1, y)) {
-                    // Recur further:
-                    return true;
+                if (workerStatistics != null) {
+                    event.nodes = workerStatistics.getNodes();
+                    event.backtracks = workerStatistics.getBacktracks();
                 }
                 
-                // BEGIN: Unmark in filters.
-                rowIntSets[y].remove(cellValue);
-                colIntSets[x].remove(cellValue);
-                minisquareIntSets[y / sqrtn]
-                                 [x / sqrtn].remove(cellValue);
-                // END: Unmark in filters.
+                event.commit();
             }
-
-            // Once here, we could not set to (x, y). Backtrack a little:
-            return false;
-        }
-    }
-    
-    /**
-     * This class implements a simple shared thread state.
-     */
-    private static final class SharedThreadState {
-        
-        /**
-         * Solution so far. Starts with {@code null}.
-         */
-        private final AtomicReference<SudokuBoard> solution = 
-                  new AtomicReference(null);
-        
-        public SudokuBoard getSolution() {
-            return solution.get();
-        }
-        
-        public void setSolution(final SudokuBoard board) {
-            solution.set(board);
         }
     }
 }
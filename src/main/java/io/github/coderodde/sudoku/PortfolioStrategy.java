@@ -0,0 +1,68 @@
+package io.github.coderodde.sudoku;
+
+/**
+ * Specifies the engines raced by
+ * {@link ParallelSudokuSolver#solvePortfolio(SudokuBoard, java.util.Collection,
+ * java.time.Duration, CancellationToken)}. Each engine runs on its own
+ * thread, and the first one to finish wins.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public enum PortfolioStrategy {
+
+    /**
+     * The backtracking search in row-major cell order and random value
+     * order.
+     */
+    RANDOM_ORDER(SearchOptions.getDefault()),
+
+    /**
+     * The backtracking search branching on the cell with the fewest candidate
+     * values.
+     */
+    MINIMUM_REMAINING_VALUES(
+            SearchOptions.getDefault()
+                         .withCellOrder(
+                                 SearchOptions.CellOrder
+                                              .MINIMUM_REMAINING_VALUES)),
+
+    /**
+     * The backtracking search propagating the naked and hidden singles,
+     * branching on the cell with the fewest candidate values and trying the
+     * least constraining value first.
+     */
+    PROPAGATION(
+            SearchOptions.getDefault()
+                         .withCellOrder(
+                                 SearchOptions.CellOrder
+                                              .MINIMUM_REMAINING_VALUES)
+                         .withValueOrder(
+                                 SearchOptions.ValueOrder.LEAST_CONSTRAINING)
+                         .withPropagation(true)),
+
+    /**
+     * The exact cover search of {@link DancingLinksSudokuSolver}.
+     */
+    DANCING_LINKS(null);
+
+    /**
+     * The options of the backtracking search, or {@code null} if this
+     * strategy does not backtrack.
+     */
+    private final SearchOptions options;
+
+    private PortfolioStrategy(final SearchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Returns the options of the backtracking search of this strategy.
+     *
+     * @return the search options, or {@code null} for
+     *         {@link #DANCING_LINKS}.
+     */
+    SearchOptions getSearchOptions() {
+        return options;
+    }
+}
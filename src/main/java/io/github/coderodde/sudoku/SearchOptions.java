@@ -0,0 +1,324 @@
+package io.github.coderodde.sudoku;
+
+import java.util.Objects;
+
+/**
+ * This class holds the immutable search settings of
+ * {@link ParallelSudokuSolver}. The {@code with*} methods return modified
+ * copies, so that a single instance may be shared between the solves.
+ *
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SearchOptions {
+
+    /**
+     * Specifies in which order the empty cells are branched on.
+     */
+    public enum CellOrder {
+
+        /**
+         * Branch on the next empty cell in row-major order.
+         */
+        ROW_MAJOR,
+
+        /**
+         * Branch on the empty cell with the fewest candidate values.
+         */
+        MINIMUM_REMAINING_VALUES;
+    }
+
+    /**
+     * Specifies in which order the candidate values of a cell are tried.
+     */
+    public enum ValueOrder {
+
+        /**
+         * Try the candidate values in random order.
+         */
+        RANDOM,
+
+        /**
+         * Try first the candidate value that rules out the fewest candidate
+         * values of the other empty cells.
+         */
+        LEAST_CONSTRAINING;
+    }
+
+    /**
+     * Specifies how many nodes each attempt of a restarting search may 
+     * expand before the search starts over from its root. The attempt 
+     * limits grow without bound, so that a restarting search stays complete.
+     */
+    public enum RestartPolicy {
+
+        /**
+         * Never restart.
+         */
+        NONE,
+
+        /**
+         * Limit the attempts by the Luby sequence 
+         * {@code 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, ...} times the restart scale.
+         */
+        LUBY,
+
+        /**
+         * Limit the attempts by the powers of 
+         * {@link SearchOptions#GEOMETRIC_RESTART_FACTOR} times the restart 
+         * scale.
+         */
+        GEOMETRIC;
+    }
+
+    /**
+     * The growth factor of the attempt limits of the geometric restart 
+     * policy.
+     */
+    public static final double GEOMETRIC_RESTART_FACTOR = 1.5;
+
+    /**
+     * The default restart scale.
+     */
+    public static final long DEFAULT_RESTART_SCALE = 1024L;
+
+    /**
+     * The default search options.
+     */
+    private static final SearchOptions DEFAULT =
+            new SearchOptions(CellOrder.ROW_MAJOR,
+                              ValueOrder.RANDOM,
+                              false,
+                              RestartPolicy.NONE,
+                              DEFAULT_RESTART_SCALE,
+                              false);
+
+    /**
+     * The cell order.
+     */
+    private final CellOrder cellOrder;
+
+    /**
+     * The value order.
+     */
+    private final ValueOrder valueOrder;
+
+    /**
+     * Whether to propagate the naked and hidden singles.
+     */
+    private final boolean propagation;
+
+    /**
+     * The restart policy.
+     */
+    private final RestartPolicy restartPolicy;
+
+    /**
+     * The number of the nodes the attempt limits are multiples of.
+     */
+    private final long restartScale;
+
+    /**
+     * Whether to keep the value hints across the restarts.
+     */
+    private final boolean valueHints;
+
+    private SearchOptions(final CellOrder cellOrder,
+                          final ValueOrder valueOrder,
+                          final boolean propagation,
+                          final RestartPolicy restartPolicy,
+                          final long restartScale,
+                          final boolean valueHints) {
+        this.cellOrder = Objects.requireNonNull(cellOrder, "cellOrder");
+        this.valueOrder = Objects.requireNonNull(valueOrder, "valueOrder");
+        this.propagation = propagation;
+        this.restartPolicy = 
+                Objects.requireNonNull(restartPolicy, "restartPolicy");
+        this.restartScale = restartScale;
+        this.valueHints = valueHints;
+
+        if (restartScale < 1L) {
+            throw new IllegalArgumentException(
+                    String.format("restartScale(%d) < 1", restartScale));
+        }
+    }
+
+    /**
+     * Returns the default search options: row-major cell order, random value
+     * order, no propagation and no restarts.
+     *
+     * @return the default search options.
+     */
+    public static SearchOptions getDefault() {
+        return DEFAULT;
+    }
+
+    public CellOrder getCellOrder() {
+        return cellOrder;
+    }
+
+    public ValueOrder getValueOrder() {
+        return valueOrder;
+    }
+
+    public boolean isPropagationEnabled() {
+        return propagation;
+    }
+
+    public RestartPolicy getRestartPolicy() {
+        return restartPolicy;
+    }
+
+    public long getRestartScale() {
+        return restartScale;
+    }
+
+    public boolean isValueHintingEnabled() {
+        return valueHints;
+    }
+
+    public SearchOptions withCellOrder(final CellOrder cellOrder) {
+        return new SearchOptions(cellOrder, 
+                                 valueOrder, 
+                                 propagation,
+                                 restartPolicy,
+                                 restartScale,
+                                 valueHints);
+    }
+
+    public SearchOptions withValueOrder(final ValueOrder valueOrder) {
+        return new SearchOptions(cellOrder, 
+                                 valueOrder, 
+                                 propagation,
+                                 restartPolicy,
+                                 restartScale,
+                                 valueHints);
+    }
+
+    /**
+     * Returns a copy of these options that turns on or off the constraint
+     * propagation. When on, the naked singles (the cells with a single
+     * candidate value) and the hidden singles (the cell values that fit only
+     * a single cell of a row, a column or a minisquare) are assigned to a
+     * fixpoint at the root and after every branching assignment.
+     *
+     * @param propagation whether to propagate.
+     *
+     * @return the modified options.
+     */
+    public SearchOptions withPropagation(final boolean propagation) {
+        return new SearchOptions(cellOrder, 
+                                 valueOrder, 
+                                 propagation,
+                                 restartPolicy,
+                                 restartScale,
+                                 valueHints);
+    }
+
+    /**
+     * Returns a copy of these options with the given restart policy. A 
+     * restarting search caps the number of the nodes of each attempt as 
+     * specified by {@code restartPolicy}, and once an attempt reaches its 
+     * cap, undoes all its assignments, reseeds its random number generator 
+     * and starts over. Since a randomized search that gets stuck tends to 
+     * stay stuck for long, the restarts cut the tail of the solve times. The
+     * restarts take effect only with the random value order, and never 
+     * while counting the solutions.
+     * 
+     * @param restartPolicy the restart policy.
+     * @param restartScale  the number of the nodes the attempt limits are 
+     *                      multiples of.
+     * 
+     * @return the modified options.
+     */
+    public SearchOptions withRestarts(final RestartPolicy restartPolicy,
+                                      final long restartScale) {
+        return new SearchOptions(cellOrder, 
+                                 valueOrder, 
+                                 propagation,
+                                 restartPolicy,
+                                 restartScale,
+                                 valueHints);
+    }
+
+    /**
+     * Returns a copy of these options that turns on or off the value hints.
+     * When on, the search remembers the last value assigned to each cell and
+     * tries it first when branching on the cell again, so that a restarted 
+     * search returns quickly to the assignments of the previous attempts 
+     * instead of losing all their progress.
+     * 
+     * @param valueHints whether to keep the value hints.
+     * 
+     * @return the modified options.
+     */
+    public SearchOptions withValueHints(final boolean valueHints) {
+        return new SearchOptions(cellOrder, 
+                                 valueOrder, 
+                                 propagation,
+                                 restartPolicy,
+                                 restartScale,
+                                 valueHints);
+    }
+
+    /**
+     * Returns the maximum number of the nodes the attempt {@code attempt} 
+     * may expand.
+     * 
+     * @param attempt the zero-based index of the attempt.
+     * 
+     * @return the node limit, or {@link Long#MAX_VALUE} if unlimited.
+     */
+    long getNodeLimit(final int attempt) {
+        switch (restartPolicy) {
+            case LUBY:
+                return saturatingShift(restartScale, getLubyExponent(attempt));
+
+            case GEOMETRIC:
+                // The cast saturates at Long.MAX_VALUE:
+                return (long) (restartScale * Math.pow(GEOMETRIC_RESTART_FACTOR,
+                                                       attempt));
+
+            default:
+                return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the base-2 logarithm of the {@code index}th element of the 
+     * Luby sequence.
+     * 
+     * @param index the zero-based index of the element.
+     * 
+     * @return the exponent of the element.
+     */
+    private static int getLubyExponent(final int index) {
+        // Find the complete subsequence of length 2^(exponent + 1) - 1 that 
+        // contains index:
+        long size = 1L;
+        int exponent = 0;
+
+        while (size < index + 1L) {
+            size = 2L * size + 1L;
+            ++exponent;
+        }
+
+        long x = index;
+
+        // Descend into the copy of the previous subsequence that contains x,
+        // unless x is the last element:
+        while (size - 1L != x) {
+            size = (size - 1L) >> 1;
+            --exponent;
+            x %= size;
+        }
+
+        return exponent;
+    }
+
+    private static long saturatingShift(final long value, final int shift) {
+        return shift >= Long.numberOfLeadingZeros(value) - 1 ? 
+               Long.MAX_VALUE : 
+               value << shift;
+    }
+}
@@ -0,0 +1,539 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import io.github.coderodde.sudoku.misc.SudokuGeometry;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.util.Arrays;
+
+/**
+ * This class holds the constraint state of a single search worker: the board
+ * under investigation, its bitmask filters and, optionally, the candidate
+ * counts of the empty cells. The empty cells are kept in buckets by their
+ * candidate counts, so that the cell with the fewest candidates is found
+ * without scanning the board, and each assignment updates only the counts of
+ * the peers of the assigned cell. All the assignments are recorded on a trail,
+ * so that the search may undo the assignments made by the propagation along 
+ * with its own.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class SearchState {
+
+    /**
+     * Marks the absence of a cell in the bucket lists.
+     */
+    private static final int NIL = -1;
+
+    /**
+     * The cell index tables.
+     */
+    private final SudokuGeometry geometry;
+
+    /**
+     * The row, column and minisquare filters.
+     */
+    private final BitmaskFilters filters;
+
+    /**
+     * Whether to maintain the candidate counts.
+     */
+    private final boolean trackCounts;
+
+    /**
+     * Maps each empty cell to its number of candidate values.
+     */
+    private final int[] counts;
+
+    /**
+     * Maps each candidate count to the first cell in its bucket.
+     */
+    private final int[] bucketHeads;
+
+    /**
+     * Maps each empty cell to the next cell in its bucket.
+     */
+    private final int[] nextCells;
+
+    /**
+     * Maps each empty cell to the previous cell in its bucket.
+     */
+    private final int[] prevCells;
+
+    /**
+     * The assigned cells in assignment order.
+     */
+    private final int[] trailCells;
+
+    /**
+     * The assigned cell values in assignment order.
+     */
+    private final int[] trailValues;
+
+    /**
+     * The number of the assignments on the trail.
+     */
+    private int trailSize;
+
+    /**
+     * The board under investigation.
+     */
+    private SudokuBoard board;
+
+    /**
+     * The number of empty cells in {@link #board}.
+     */
+    private int emptyCellCount;
+
+    /**
+     * Constructs this search state.
+     *
+     * @param widthHeight the width/height of the boards.
+     * @param trackCounts whether to maintain the candidate counts needed by
+     *                    {@link #selectMinimumRemainingValuesCell()}.
+     */
+    SearchState(final int widthHeight, final boolean trackCounts) {
+        this.filters = new BitmaskFilters(widthHeight);
+        this.geometry = filters.getGeometry();
+        this.trackCounts = trackCounts;
+        this.trailCells = new int[geometry.getCellCount()];
+        this.trailValues = new int[geometry.getCellCount()];
+
+        if (trackCounts) {
+            final int cellCount = geometry.getCellCount();
+            this.counts = new int[cellCount];
+            this.bucketHeads = new int[widthHeight + 1];
+            this.nextCells = new int[cellCount];
+            this.prevCells = new int[cellCount];
+        } else {
+            this.counts = null;
+            this.bucketHeads = null;
+            this.nextCells = null;
+            this.prevCells = null;
+        }
+    }
+
+    /**
+     * Loads this state from {@code board}, which becomes the board under
+     * investigation.
+     *
+     * @param board the board to load.
+     *
+     * @return {@code false} if {@code board} breaks the rules of sudoku.
+     */
+    boolean load(final SudokuBoard board) {
+        this.board = board;
+
+        if (!filters.load(board)) {
+            return false;
+        }
+
+        emptyCellCount = 0;
+        trailSize = 0;
+
+        if (trackCounts) {
+            Arrays.fill(bucketHeads, NIL);
+        }
+
+        for (int cellIndex = 0;
+                cellIndex < geometry.getCellCount();
+                ++cellIndex) {
+
+            if (getCellValue(cellIndex) != Utils.UNUSED_CELL) {
+                continue;
+            }
+
+            ++emptyCellCount;
+
+            if (trackCounts) {
+                counts[cellIndex] =
+                        Long.bitCount(filters.getCandidates(cellIndex));
+
+                link(cellIndex);
+            }
+        }
+
+        return true;
+    }
+
+    SudokuBoard getBoard() {
+        return board;
+    }
+
+    SudokuGeometry getGeometry() {
+        return geometry;
+    }
+
+    int getEmptyCellCount() {
+        return emptyCellCount;
+    }
+
+    int getCellValue(final int cellIndex) {
+        return board.getCell(cellIndex);
+    }
+
+    long getCandidates(final int cellIndex) {
+        return filters.getCandidates(cellIndex);
+    }
+
+    /**
+     * Returns the index of the first empty cell at or after
+     * {@code cellIndex}, or the cell count if there is none.
+     *
+     * @param cellIndex the index of the cell to start from.
+     *
+     * @return the index of the next empty cell in row-major order.
+     */
+    int selectRowMajorCell(int cellIndex) {
+        while (cellIndex < geometry.getCellCount()
+                && getCellValue(cellIndex) != Utils.UNUSED_CELL) {
+            ++cellIndex;
+        }
+
+        return cellIndex;
+    }
+
+    /**
+     * Returns the index of an empty cell with the fewest candidate values, or
+     * the cell count if there is none. Runs in {@code O(n)} time.
+     *
+     * @return the index of the most constrained empty cell.
+     */
+    int selectMinimumRemainingValuesCell() {
+        for (int count = 0; count < bucketHeads.length; ++count) {
+            if (bucketHeads[count] != NIL) {
+                return bucketHeads[count];
+            }
+        }
+
+        return geometry.getCellCount();
+    }
+
+    /**
+     * Returns the current size of the trail. Passing it later to 
+     * {@link #undoTo(int)} undoes all the assignments made in between.
+     *
+     * @return the trail mark.
+     */
+    int getTrailSize() {
+        return trailSize;
+    }
+
+    /**
+     * Undoes the assignments in reverse order until the trail shrinks to 
+     * {@code trailMark} assignments.
+     *
+     * @param trailMark the trail size to return to.
+     */
+    void undoTo(final int trailMark) {
+        while (trailSize > trailMark) {
+            --trailSize;
+            unassign(trailCells[trailSize], trailValues[trailSize]);
+        }
+    }
+
+    /**
+     * Assigns {@code cellValue} to the empty cell {@code cellIndex} and 
+     * records the assignment on the trail.
+     *
+     * @param cellIndex the index of the target cell.
+     * @param cellValue the cell value to assign.
+     */
+    void assign(final int cellIndex, final int cellValue) {
+        trailCells[trailSize] = cellIndex;
+        trailValues[trailSize] = cellValue;
+        ++trailSize;
+
+        board.setCell(cellIndex, cellValue);
+
+        filters.add(cellIndex, cellValue);
+        --emptyCellCount;
+
+        if (trackCounts) {
+            unlink(cellIndex);
+            updatePeerCounts(cellIndex);
+        }
+    }
+
+    /**
+     * Assigns the naked singles and the hidden singles until no more of them
+     * exist. The assignments are recorded on the trail.
+     *
+     * @return {@code false} if a contradiction was found, i.e., an empty cell
+     *         has no candidate values, or a cell value fits no cell of a row,
+     *         a column or a minisquare that does not contain it yet.
+     */
+    boolean propagate() {
+        boolean changed = true;
+
+        while (changed) {
+            final int nakedSingles = assignNakedSingles();
+
+            if (nakedSingles < 0) {
+                return false;
+            }
+
+            final int hiddenSingles = assignHiddenSingles();
+
+            if (hiddenSingles < 0) {
+                return false;
+            }
+
+            changed = nakedSingles + hiddenSingles > 0;
+        }
+
+        return true;
+    }
+
+    /**
+     * Assigns the only candidate values of the cells that have exactly one.
+     *
+     * @return the number of the assignments made, or -1 if some empty cell
+     *         has no candidate values.
+     */
+    private int assignNakedSingles() {
+        int assignments = 0;
+
+        if (trackCounts) {
+            if (bucketHeads[0] != NIL) {
+                return -1;
+            }
+
+            while (bucketHeads[1] != NIL) {
+                final int cellIndex = bucketHeads[1];
+
+                assign(cellIndex,
+                       Long.numberOfTrailingZeros(
+                               filters.getCandidates(cellIndex)) + 1);
+
+                ++assignments;
+
+                if (bucketHeads[0] != NIL) {
+                    return -1;
+                }
+            }
+
+            return assignments;
+        }
+
+        for (int cellIndex = 0;
+                cellIndex < geometry.getCellCount();
+                ++cellIndex) {
+
+            if (getCellValue(cellIndex) != Utils.UNUSED_CELL) {
+                continue;
+            }
+
+            final long candidates = filters.getCandidates(cellIndex);
+
+            if (candidates == 0L) {
+                return -1;
+            }
+
+            if ((candidates & (candidates - 1L)) == 0L) {
+                assign(cellIndex, Long.numberOfTrailingZeros(candidates) + 1);
+                ++assignments;
+            }
+        }
+
+        return assignments;
+    }
+
+    /**
+     * Assigns the cell values that fit only a single cell of some unit.
+     *
+     * @return the number of the assignments made, or -1 if some cell value
+     *         fits no cell of a unit that does not contain it yet.
+     */
+    private int assignHiddenSingles() {
+        final int n = geometry.getWidthHeight();
+        int assignments = 0;
+
+        for (int unit = 0; unit < geometry.getUnitCount(); ++unit) {
+            long once = 0L;
+            long twice = 0L;
+            long filled = 0L;
+
+            for (int i = 0; i < n; ++i) {
+                final int cellIndex = geometry.getUnitCell(unit, i);
+                final int cellValue = getCellValue(cellIndex);
+
+                if (cellValue != Utils.UNUSED_CELL) {
+                    filled |= BitmaskFilters.bit(cellValue);
+                    continue;
+                }
+
+                final long candidates = filters.getCandidates(cellIndex);
+                twice |= once & candidates;
+                once |= candidates;
+            }
+
+            if ((once | filled) != filters.getFullMask()) {
+                return -1;
+            }
+
+            long hidden = once & ~twice & ~filled;
+
+            while (hidden != 0L) {
+                final int cellValue = Long.numberOfTrailingZeros(hidden) + 1;
+                hidden &= hidden - 1L;
+
+                final int cellIndex = findCandidateCell(unit, cellValue);
+
+                if (cellIndex < 0) {
+                    // Once here, an earlier hidden single of this unit took
+                    // the only cell of cellValue:
+                    return -1;
+                }
+
+                assign(cellIndex, cellValue);
+                ++assignments;
+            }
+        }
+
+        return assignments;
+    }
+
+    /**
+     * Returns the empty cell of the unit {@code unit} that has 
+     * {@code cellValue} as a candidate value.
+     *
+     * @param unit      the index of the unit.
+     * @param cellValue the cell value.
+     *
+     * @return the index of the cell, or -1 if there is none.
+     */
+    private int findCandidateCell(final int unit, final int cellValue) {
+        final long bit = BitmaskFilters.bit(cellValue);
+
+        for (int i = 0; i < geometry.getWidthHeight(); ++i) {
+            final int cellIndex = geometry.getUnitCell(unit, i);
+
+            if (getCellValue(cellIndex) == Utils.UNUSED_CELL
+                    && (filters.getCandidates(cellIndex) & bit) != 0L) {
+                return cellIndex;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Undoes the assignment of {@code cellValue} to the cell
+     * {@code cellIndex}.
+     *
+     * @param cellIndex the index of the target cell.
+     * @param cellValue the assigned cell value.
+     */
+    private void unassign(final int cellIndex, final int cellValue) {
+        board.setCell(cellIndex, Utils.UNUSED_CELL);
+
+        filters.remove(cellIndex, cellValue);
+        ++emptyCellCount;
+
+        if (trackCounts) {
+            updatePeerCounts(cellIndex);
+            counts[cellIndex] =
+                    Long.bitCount(filters.getCandidates(cellIndex));
+
+            link(cellIndex);
+        }
+    }
+
+    /**
+     * Counts, for each candidate value of the cell {@code cellIndex}, the
+     * number of the empty peers that also have it as a candidate.
+     *
+     * @param cellIndex the index of the cell.
+     * @param scores    the output array. The score of the cell value 
+     *                  {@code v} goes to {@code scores[offset + v]}.
+     * @param offset    the offset of the scores in {@code scores}.
+     */
+    void computeConstrainingScores(final int cellIndex, 
+                                   final int[] scores,
+                                   final int offset) {
+        final long candidates = filters.getCandidates(cellIndex);
+        Arrays.fill(scores, 
+                    offset, 
+                    offset + geometry.getWidthHeight() + 1, 
+                    0);
+
+        for (int i = 0; i < geometry.getPeerCount(); ++i) {
+            final int peer = geometry.getPeer(cellIndex, i);
+
+            if (getCellValue(peer) != Utils.UNUSED_CELL) {
+                continue;
+            }
+
+            long shared = filters.getCandidates(peer) & candidates;
+
+            while (shared != 0L) {
+                ++scores[offset + Long.numberOfTrailingZeros(shared) + 1];
+                shared &= shared - 1L;
+            }
+        }
+    }
+
+    /**
+     * Recomputes the candidate counts of the empty peers of the cell
+     * {@code cellIndex} and moves them to the matching buckets.
+     *
+     * @param cellIndex the index of the cell whose peers to update.
+     */
+    private void updatePeerCounts(final int cellIndex) {
+        for (int i = 0; i < geometry.getPeerCount(); ++i) {
+            final int peer = geometry.getPeer(cellIndex, i);
+
+            if (getCellValue(peer) != Utils.UNUSED_CELL) {
+                continue;
+            }
+
+            final int count = Long.bitCount(filters.getCandidates(peer));
+
+            if (count != counts[peer]) {
+                unlink(peer);
+                counts[peer] = count;
+                link(peer);
+            }
+        }
+    }
+
+    /**
+     * Prepends the cell {@code cellIndex} to the bucket of its count.
+     *
+     * @param cellIndex the index of the cell.
+     */
+    private void link(final int cellIndex) {
+        final int count = counts[cellIndex];
+        final int head = bucketHeads[count];
+
+        prevCells[cellIndex] = NIL;
+        nextCells[cellIndex] = head;
+
+        if (head != NIL) {
+            prevCells[head] = cellIndex;
+        }
+
+        bucketHeads[count] = cellIndex;
+    }
+
+    /**
+     * Removes the cell {@code cellIndex} from the bucket of its count.
+     *
+     * @param cellIndex the index of the cell.
+     */
+    private void unlink(final int cellIndex) {
+        final int prev = prevCells[cellIndex];
+        final int next = nextCells[cellIndex];
+
+        if (prev != NIL) {
+            nextCells[prev] = next;
+        } else {
+            bucketHeads[counts[cellIndex]] = next;
+        }
+
+        if (next != NIL) {
+            prevCells[next] = prev;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.jfr.SolutionPublishedEvent;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class implements a simple shared thread state. Used for communicating 
+ * that a solution is found, or that the search is cancelled or timed out, 
+ * and all the workers must exit. The workers poll {@link #isStopped()}, 
+ * which is a single volatile read, and the first solution wins via 
+ * compare-and-set.
+ * <p>
+ * A state may have a parent, as do the states of the engines raced by a 
+ * portfolio solve. A child state is stopped once its parent is, and passes 
+ * its solution on to its parent, so that the first solution of all the 
+ * engines wins.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Dec 4, 2024)
+ */
+final class SharedThreadState {
+
+    /**
+     * Solution so far. Starts with {@code null}.
+     */
+    private final AtomicReference<SudokuBoard> solution = 
+              new AtomicReference<>(null);
+    
+    /**
+     * Whether all the workers must exit.
+     */
+    private volatile boolean stopped;
+    
+    /**
+     * The statistics of the search, or {@code null} if not collected.
+     */
+    private final SolverStatistics statistics;
+    
+    /**
+     * The parent state, or {@code null}.
+     */
+    private final SharedThreadState parent;
+    
+    /**
+     * Constructs this state collecting no statistics.
+     */
+    SharedThreadState() {
+        this((SolverStatistics) null);
+    }
+    
+    /**
+     * Constructs this state.
+     * 
+     * @param statistics the statistics to collect, or {@code null}.
+     */
+    SharedThreadState(final SolverStatistics statistics) {
+        this.statistics = statistics;
+        this.parent = null;
+    }
+    
+    /**
+     * Constructs a child state of {@code parent}. Collects the statistics of
+     * the parent.
+     * 
+     * @param parent the parent state.
+     */
+    SharedThreadState(final SharedThreadState parent) {
+        this.statistics = parent.statistics;
+        this.parent = parent;
+    }
+
+    public SudokuBoard getSolution() {
+        return solution.get();
+    }
+
+    /**
+     * Publishes {@code board} as the solution unless some other worker has 
+     * already published one, and stops all the workers. A child state 
+     * publishes its solution to its parent as well.
+     * 
+     * @param board the solution.
+     * 
+     * @return {@code true} if {@code board} became the solution, and the 
+     *         solution of the parent if there is one.
+     */
+    public boolean publishSolution(final SudokuBoard board) {
+        final boolean published = solution.compareAndSet(null, board);
+        stopped = true;
+        
+        if (!published) {
+            return false;
+        }
+        
+        if (parent != null) {
+            // Once here, let the parent decide the race between its 
+            // children:
+            return parent.publishSolution(board);
+        }
+        
+        if (statistics != null) {
+            statistics.recordFirstSolution();
+        }
+        
+        final SolutionPublishedEvent event = new SolutionPublishedEvent();
+        
+        if (event.shouldCommit()) {
+            event.boardSize = board.getWidthHeight();
+            event.nodes = statistics == null ? 0L : statistics.getNodes();
+            event.commit();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Asks all the workers to exit.
+     */
+    public void stop() {
+        stopped = true;
+    }
+    
+    public boolean isStopped() {
+        return stopped || (parent != null && parent.isStopped());
+    }
+    
+    /**
+     * Returns the statistics of the search.
+     * 
+     * @return the statistics, or {@code null} if not collected.
+     */
+    public SolverStatistics getStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Clears the solution and the stop flag so that this state may be reused
+     * for another search. Leaves the parent intact.
+     */
+    public void reset() {
+        solution.set(null);
+        stopped = false;
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.BitmaskFilters;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a sequential, reusable counter of the solutions of 
+ * the sudoku boards of a particular width/height. The search state is 
+ * allocated once and reused between the calls, which makes the counter 
+ * suitable for running many small uniqueness checks in a row. Each instance 
+ * is meant to be used by a single thread at a time; see 
+ * {@link ParallelSudokuSolver#countSolutions(SudokuBoard, long)} for the 
+ * parallel counting of a single board.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SolutionCounter {
+    
+    /**
+     * The search options of the solution counting. The propagation settles
+     * most of the easy boards without any branching.
+     */
+    static final SearchOptions COUNTING_OPTIONS = 
+            SearchOptions.getDefault()
+                         .withCellOrder(
+                            SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES)
+                         .withPropagation(true);
+    
+    /**
+     * The width/height of the supported boards.
+     */
+    private final int widthHeight;
+    
+    /**
+     * The private shared thread state of the search.
+     */
+    private final SharedThreadState sharedThreadState = 
+            new SharedThreadState();
+    
+    /**
+     * The solution total of the search.
+     */
+    private final LongAdder solutionTotal = new LongAdder();
+    
+    /**
+     * The reusable search.
+     */
+    private final BacktrackingSearch search;
+    
+    /**
+     * Constructs this counter for the boards of width/height 
+     * {@code widthHeight}.
+     * 
+     * @param widthHeight the width/height of the boards.
+     */
+    public SolutionCounter(final int widthHeight) {
+        BitmaskFilters.checkBitmaskWidthHeight(widthHeight);
+        
+        this.widthHeight = widthHeight;
+        this.search = new BacktrackingSearch(widthHeight, 
+                                             COUNTING_OPTIONS,
+                                             sharedThreadState);
+    }
+    
+    /**
+     * Counts the solutions of {@code board}, stopping at {@code limit}.
+     * 
+     * @param board the board whose solutions to count. Remains intact.
+     * @param limit the number of the solutions at which to stop.
+     * @return the number of the solutions, or {@code limit} if there are at 
+     *         least {@code limit} solutions. Zero if the board breaks the 
+     *         rules of sudoku.
+     */
+    public long countSolutions(final SudokuBoard board, final long limit) {
+        if (board.getWidthHeight() != widthHeight) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "board.getWidthHeight()(%d) != widthHeight(%d)", 
+                            board.getWidthHeight(), 
+                            widthHeight));
+        }
+        
+        if (limit < 1L) {
+            throw new IllegalArgumentException(
+                    String.format("limit(%d) < 1", limit));
+        }
+        
+        sharedThreadState.reset();
+        solutionTotal.reset();
+        
+        return Math.min(search.countSolutions(new SudokuBoard(board), 
+                                              solutionTotal,
+                                              limit), 
+                        limit);
+    }
+    
+    /**
+     * Queries whether {@code board} has exactly one solution.
+     * 
+     * @param board the board to check. Remains intact.
+     * @return {@code true} if and only if the board has a unique solution.
+     */
+    public boolean hasUniqueSolution(final SudokuBoard board) {
+        return countSolutions(board, 2L) == 1L;
+    }
+    
+    public int getWidthHeight() {
+        return widthHeight;
+    }
+}
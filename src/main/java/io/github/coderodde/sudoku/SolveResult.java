@@ -0,0 +1,131 @@
+package io.github.coderodde.sudoku;
+
+import java.time.Duration;
+
+/**
+ * This class holds the outcome of a single solve.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SolveResult {
+    
+    /**
+     * Specifies how a solve ended.
+     */
+    public enum Status {
+        
+        /**
+         * A solution was found.
+         */
+        SOLVED,
+        
+        /**
+         * The entire search space was exhausted without a solution.
+         */
+        UNSOLVABLE,
+        
+        /**
+         * The timeout elapsed before a solution was found.
+         */
+        TIMED_OUT,
+        
+        /**
+         * The solve was cancelled or the calling thread was interrupted 
+         * before a solution was found.
+         */
+        CANCELLED;
+    }
+    
+    /**
+     * The status.
+     */
+    private final Status status;
+    
+    /**
+     * The solution, or {@code null}.
+     */
+    private final SudokuBoard solution;
+    
+    /**
+     * The wall-clock time of the solve.
+     */
+    private final Duration elapsedTime;
+    
+    /**
+     * The statistics of the solve.
+     */
+    private final SolverStatistics statistics;
+    
+    /**
+     * The strategy that finished first in a portfolio solve, or {@code null}.
+     */
+    private final PortfolioStrategy winningStrategy;
+    
+    SolveResult(final Status status,
+                final SudokuBoard solution, 
+                final Duration elapsedTime,
+                final SolverStatistics statistics) {
+        this(status, solution, elapsedTime, statistics, null);
+    }
+    
+    SolveResult(final Status status,
+                final SudokuBoard solution, 
+                final Duration elapsedTime,
+                final SolverStatistics statistics,
+                final PortfolioStrategy winningStrategy) {
+        this.status = status;
+        this.solution = solution;
+        this.elapsedTime = elapsedTime;
+        this.statistics = statistics;
+        this.winningStrategy = winningStrategy;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    /**
+     * Returns the solution.
+     * 
+     * @return the solution if the status is {@link Status#SOLVED}, 
+     *         {@code null} otherwise.
+     */
+    public SudokuBoard getSolution() {
+        return solution;
+    }
+    
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+    
+    public SolverStatistics getStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Returns the strategy that finished first in a portfolio solve, either 
+     * by finding the solution or by proving that there is none.
+     * 
+     * @return the winning strategy, or {@code null} if the solve was not a 
+     *         portfolio solve or no strategy finished.
+     */
+    public PortfolioStrategy getWinningStrategy() {
+        return winningStrategy;
+    }
+    
+    @Override
+    public String toString() {
+        if (winningStrategy == null) {
+            return String.format("[status = %s, elapsedTime = %s]", 
+                                 status, 
+                                 elapsedTime);
+        }
+        
+        return String.format(
+                "[status = %s, elapsedTime = %s, winningStrategy = %s]", 
+                status, 
+                elapsedTime,
+                winningStrategy);
+    }
+}
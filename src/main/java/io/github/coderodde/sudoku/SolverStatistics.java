@@ -0,0 +1,361 @@
+package io.github.coderodde.sudoku;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class holds the statistics of a single solve. Each worker thread
+ * writes only its own {@link WorkerStatistics}, so that the updates never
+ * contend; the workers accumulate their counts locally and publish them
+ * every {@link BacktrackingSearch#STATISTICS_FLUSH_INTERVAL} nodes and once
+ * they exit. The statistics may be read by any thread while the solve is
+ * running, in which case the counts lag behind by at most one flush interval
+ * per worker.
+ *
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SolverStatistics {
+
+    /**
+     * Maps each worker thread to its statistics.
+     */
+    private final ConcurrentMap<Thread, WorkerStatistics> workerStatistics =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The {@link System#nanoTime()} at the start of the solve.
+     */
+    private volatile long startTime = System.nanoTime();
+
+    /**
+     * The {@link System#nanoTime()} at the end of the solve, or {@code -1}
+     * if the solve is running.
+     */
+    private volatile long endTime = -1L;
+
+    /**
+     * The {@link System#nanoTime()} at which the first solution was
+     * published, or {@code -1} if none was.
+     */
+    private volatile long firstSolutionTime = -1L;
+
+    /**
+     * Returns the statistics of all the workers that have run so far.
+     *
+     * @return a snapshot of the list of the worker statistics.
+     */
+    public List<WorkerStatistics> getWorkerStatistics() {
+        return new ArrayList<>(workerStatistics.values());
+    }
+
+    public long getNodes() {
+        long nodes = 0L;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            nodes += worker.nodes;
+        }
+
+        return nodes;
+    }
+
+    public long getBacktracks() {
+        long backtracks = 0L;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            backtracks += worker.backtracks;
+        }
+
+        return backtracks;
+    }
+
+    public long getRestarts() {
+        long restarts = 0L;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            restarts += worker.restarts;
+        }
+
+        return restarts;
+    }
+
+    public int getMaximumDepth() {
+        int maximumDepth = 0;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            maximumDepth = Math.max(maximumDepth, worker.maximumDepth);
+        }
+
+        return maximumDepth;
+    }
+
+    public long getSeedsConsumed() {
+        long seedsConsumed = 0L;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            seedsConsumed += worker.seedsConsumed;
+        }
+
+        return seedsConsumed;
+    }
+
+    public long getSeedsSkipped() {
+        long seedsSkipped = 0L;
+
+        for (final WorkerStatistics worker : workerStatistics.values()) {
+            seedsSkipped += worker.seedsSkipped;
+        }
+
+        return seedsSkipped;
+    }
+
+    /**
+     * Returns the time from the start of the solve to the publication of the
+     * first solution.
+     *
+     * @return the time to the first solution, or {@code null} if no solution
+     *         has been published.
+     */
+    public Duration getTimeToFirstSolution() {
+        final long time = firstSolutionTime;
+        return time < 0L ? null : Duration.ofNanos(time - startTime);
+    }
+
+    /**
+     * Returns the time from the start of the solve to its end, or to now if
+     * the solve is running.
+     *
+     * @return the elapsed time.
+     */
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(getElapsedNanos());
+    }
+
+    /**
+     * Returns the number of the search nodes expanded by all the workers per
+     * second of the wall-clock time of the solve.
+     *
+     * @return the overall throughput.
+     */
+    public double getNodesPerSecond() {
+        return toPerSecond(getNodes(), getElapsedNanos());
+    }
+
+    public boolean isFinished() {
+        return endTime >= 0L;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "[nodes = %d, backtracks = %d, restarts = %d, " +
+                "maximumDepth = %d, " +
+                "seedsConsumed = %d, seedsSkipped = %d, " +
+                "timeToFirstSolution = %s, nodesPerSecond = %.0f, " +
+                "workers = %d]",
+                getNodes(),
+                getBacktracks(),
+                getRestarts(),
+                getMaximumDepth(),
+                getSeedsConsumed(),
+                getSeedsSkipped(),
+                getTimeToFirstSolution(),
+                getNodesPerSecond(),
+                workerStatistics.size());
+    }
+
+    /**
+     * Marks the start of the solve.
+     */
+    void start() {
+        workerStatistics.clear();
+        firstSolutionTime = -1L;
+        endTime = -1L;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the solve.
+     */
+    void finish() {
+        endTime = System.nanoTime();
+    }
+
+    /**
+     * Records the publication of the first solution.
+     */
+    void recordFirstSolution() {
+        firstSolutionTime = System.nanoTime();
+    }
+
+    /**
+     * Returns the statistics of the calling thread, creating them on the
+     * first call.
+     *
+     * @return the statistics of the calling thread.
+     */
+    WorkerStatistics getCurrentWorkerStatistics() {
+        final Thread thread = Thread.currentThread();
+        final WorkerStatistics statistics = workerStatistics.get(thread);
+
+        if (statistics != null) {
+            return statistics;
+        }
+
+        return workerStatistics.computeIfAbsent(thread,
+                                                WorkerStatistics::new);
+    }
+
+    private long getElapsedNanos() {
+        final long end = endTime;
+        return (end < 0L ? System.nanoTime() : end) - startTime;
+    }
+
+    private static double toPerSecond(final long count, final long nanos) {
+        return nanos <= 0L ? 0.0 : count * 1e9 / nanos;
+    }
+
+    /**
+     * This class holds the statistics of a single worker thread. The fields
+     * are written only by the worker thread they belong to, and are volatile
+     * so that the other threads may read them live.
+     */
+    public static final class WorkerStatistics {
+
+        /**
+         * The name of the worker thread.
+         */
+        private final String threadName;
+
+        /**
+         * The number of the cell value assignments tried.
+         */
+        private volatile long nodes;
+
+        /**
+         * The number of the exhausted decision levels.
+         */
+        private volatile long backtracks;
+
+        /**
+         * The number of the restarts of the search.
+         */
+        private volatile long restarts;
+
+        /**
+         * The maximum number of the nested decisions.
+         */
+        private volatile int maximumDepth;
+
+        /**
+         * The number of the seeds searched.
+         */
+        private volatile long seedsConsumed;
+
+        /**
+         * The number of the seeds left unsearched since the search stopped.
+         */
+        private volatile long seedsSkipped;
+
+        /**
+         * The time spent searching in nanoseconds.
+         */
+        private volatile long busyTime;
+
+        WorkerStatistics(final Thread thread) {
+            this.threadName = thread.getName();
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getNodes() {
+            return nodes;
+        }
+
+        public long getBacktracks() {
+            return backtracks;
+        }
+
+        public long getRestarts() {
+            return restarts;
+        }
+
+        public int getMaximumDepth() {
+            return maximumDepth;
+        }
+
+        public long getSeedsConsumed() {
+            return seedsConsumed;
+        }
+
+        public long getSeedsSkipped() {
+            return seedsSkipped;
+        }
+
+        public Duration getBusyTime() {
+            return Duration.ofNanos(busyTime);
+        }
+
+        /**
+         * Returns the number of the search nodes expanded by this worker per
+         * second of its busy time. Unlike the node count, does not depend on
+         * how much work the worker got, so that a slow search is told apart
+         * from a load imbalance.
+         *
+         * @return the throughput of this worker.
+         */
+        public double getNodesPerSecond() {
+            return toPerSecond(nodes, busyTime);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "[thread = %s, nodes = %d, backtracks = %d, " +
+                    "restarts = %d, maximumDepth = %d, seedsConsumed = %d, " +
+                    "seedsSkipped = %d, busyTime = %s]",
+                    threadName,
+                    nodes,
+                    backtracks,
+                    restarts,
+                    maximumDepth,
+                    seedsConsumed,
+                    seedsSkipped,
+                    getBusyTime());
+        }
+
+        // The updates below are plain read-modify-writes of the volatile
+        // fields, which is safe since each instance has a single writer.
+
+        void add(final long nodes,
+                 final long backtracks,
+                 final long busyTime) {
+            this.nodes += nodes;
+            this.backtracks += backtracks;
+            this.busyTime += busyTime;
+        }
+
+        void addRestarts(final long restarts) {
+            this.restarts += restarts;
+        }
+
+        void updateMaximumDepth(final int depth) {
+            if (depth > maximumDepth) {
+                maximumDepth = depth;
+            }
+        }
+
+        void incrementSeedsConsumed() {
+            ++seedsConsumed;
+        }
+
+        void addSeedsSkipped(final long seeds) {
+            seedsSkipped += seeds;
+        }
+    }
+}
@@ -1,25 +1,55 @@
 package io.github.coderodde.sudoku;
 
 import static io.github.coderodde.sudoku.misc.Utils.checkWidthHeight;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
- * This class implements a sudoku board.
+ * This class implements a sudoku board. The cells are stored in a single flat
+ * array in row-major order: a {@code byte[]} for the boards of width/height 
+ * up to {@link Byte#MAX_VALUE}, and a {@code short[]} for the larger ones. 
+ * The cell values must fit the respective storage type.
  * 
- * @version 1.0.0 (Jun 22, 2025)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Jun 22, 2025)
  */
 public final class SudokuBoard {
     
     /**
-     * The actual data matrix for holding integers.
+     * The width/height of this board.
      */
-    private final int[][] data;
+    private final int widthHeight;
+    
+    /**
+     * The cell data of the boards of width/height up to 
+     * {@link Byte#MAX_VALUE}, or {@code null}.
+     */
+    private final byte[] byteData;
+    
+    /**
+     * The cell data of the larger boards, or {@code null}.
+     */
+    private final short[] shortData;
+    
+    /**
+     * The cached hash code, or {@code 0} if not computed since the last 
+     * modification. A single field, so that the threads sharing a board read
+     * either {@code 0} or a correct hash code, like in 
+     * {@link String#hashCode()}.
+     */
+    private int hash;
     
     public SudokuBoard(final int widthHeight) {
         checkWidthHeight(widthHeight);
-        this.data = new int[widthHeight]
-                           [widthHeight];
+        this.widthHeight = widthHeight;
+        
+        if (widthHeight <= Byte.MAX_VALUE) {
+            this.byteData = new byte[widthHeight * widthHeight];
+            this.shortData = null;
+        } else {
+            this.byteData = null;
+            this.shortData = new short[widthHeight * widthHeight];
+        }
     }
     
     /**
@@ -28,23 +58,17 @@ public final class SudokuBoard {
      * @param board the source sudoku board.
      */
     public SudokuBoard(final SudokuBoard board) {
-        this.data = new int[board.getWidthHeight()]
-                           [board.getWidthHeight()];
+        this.widthHeight = board.widthHeight;
+        this.byteData = board.byteData == null ? null : board.byteData.clone();
+        this.shortData = 
+                board.shortData == null ? null : board.shortData.clone();
         
-        for (int y = 0; y < board.getWidthHeight(); ++y) {
-            this.data[y] = new int[board.getWidthHeight()];
-            
-            System.arraycopy(board.data[y], 
-                             0,
-                             this.data[y], 
-                             0,
-                             data.length);
-        }
+        this.hash = board.hash;
     }
     
     /**
      * Return {@code true} if and only if the cell value at {@code (x, y)} 
-     * contains a valid cell value (between 1, and {@code data.length}, 
+     * contains a valid cell value (between 1, and {@code widthHeight}, 
      * inclusive).
      * 
      * @param x the {@code x}-coordinate of the cell.
@@ -56,122 +80,221 @@ public final class SudokuBoard {
         final int cellValue = get(x, 
                                   y);
         
-        return 1 <= cellValue && cellValue <= data.length;
+        return 1 <= cellValue && cellValue <= widthHeight;
     }
     
     public int getWidthHeight() {
-        return data.length;
+        return widthHeight;
     }
     
     public void set(final int x,
                     final int y,
                     final int value) {
-        data[y][x] = value;
+        setCell(y * widthHeight + x, value);
     }
     
     public int get(final int x, 
                    final int y) {
-        return data[y][x];
+        return getCell(y * widthHeight + x);
+    }
+    
+    /**
+     * Sets the value of the cell with the row-major index {@code cellIndex}.
+     * 
+     * @param cellIndex the index of the cell.
+     * @param value     the cell value.
+     */
+    public void setCell(final int cellIndex, final int value) {
+        if (byteData != null) {
+            if ((byte) value != value) {
+                throw new IllegalArgumentException(
+                        String.format("Cell value(%d) does not fit a byte", 
+                                      value));
+            }
+            
+            byteData[cellIndex] = (byte) value;
+        } else {
+            if ((short) value != value) {
+                throw new IllegalArgumentException(
+                        String.format("Cell value(%d) does not fit a short", 
+                                      value));
+            }
+            
+            shortData[cellIndex] = (short) value;
+        }
+        
+        hash = 0;
+    }
+    
+    /**
+     * Returns the value of the cell with the row-major index 
+     * {@code cellIndex}.
+     * 
+     * @param cellIndex the index of the cell.
+     * @return the cell value.
+     */
+    public int getCell(final int cellIndex) {
+        return byteData != null ? byteData[cellIndex] : shortData[cellIndex];
     }
     
     @Override
     public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        
+        if (!(o instanceof SudokuBoard)) {
+            return false;
+        }
+        
         final SudokuBoard other = (SudokuBoard) o;
-        return Arrays.deepEquals(data, other.data);
+        
+        if (widthHeight != other.widthHeight) {
+            return false;
+        }
+        
+        final int h = hash;
+        final int otherHash = other.hash;
+        
+        if (h != 0 && otherHash != 0 && h != otherHash) {
+            return false;
+        }
+        
+        return byteData != null ? 
+               Arrays.equals(byteData, other.byteData) :
+               Arrays.equals(shortData, other.shortData);
     }
 
     /**
-     * Computes the hash code. (Generated by NetBeans.)
+     * Computes the hash code. The hash code is cached until the next 
+     * modification of this board. A hash code of {@code 0} is recomputed on
+     * each call.
      * 
      * @return the hash code of this sudoku board.
      */
     @Override
     public int hashCode() {
-        int hash = 5;
-        hash = 89 * hash + Arrays.deepHashCode(this.data);
-        return hash;
+        int h = hash;
+        
+        if (h == 0) {
+            h = 5;
+            h = 89 * h + (byteData != null ? 
+                          Arrays.hashCode(byteData) :
+                          Arrays.hashCode(shortData));
+            
+            hash = h;
+        }
+        
+        return h;
     }
     
     /**
-     * Returns the ASCII art of this sudoku board.
+     * Returns the ASCII art of this sudoku board. The art is rendered into a
+     * byte array of the exact length without going through the per-cell 
+     * strings. The cells are as wide as the widest valid cell value; a cell
+     * value not fitting in it, such as a negative one, widens its own cell 
+     * only.
      * 
      * @return the ASCII art of this sudoku board.
      */
     @Override
     public String toString() {
-        final StringBuilder sb = new StringBuilder();
-        final String horizontalBar = getHorizontalBar(data.length);
+        final int cellWidth = getDecimalWidth(widthHeight);
+        final int barLength = 1 + (1 + cellWidth) * widthHeight;
+        int length = (widthHeight + 1) * barLength + 2 * widthHeight;
         
-        sb.append(horizontalBar);
-        
-        for (int y = 0; y < data.length; ++y) {
-            final String row = getDataRow(data[y]);
+        for (int y = 0; y < widthHeight; ++y) {
+            length += 1;
             
-            sb.append('\n')
-              .append(row)
-              .append('\n')
-              .append(horizontalBar);
+            for (int x = 0; x < widthHeight; ++x) {
+                length += 1 + Math.max(cellWidth, getDecimalWidth(get(x, y)));
+            }
         }
         
-        return sb.toString();
-    }
-    
-    /**
-     * Computes a string representing a row in a sudoku board.
-     * 
-     * @param dataRow the data row of a sudoku.
-     * 
-     * @return a string representation of the data row.
-     */
-    private static String getDataRow(final int[] dataRow) {
-        final String maximumCellWidth = Integer.toString(dataRow.length);
-        final int cellWidth = maximumCellWidth.length();
-        final String fmt = String.format("|%%%dd", cellWidth);
-        final StringBuilder sb = 
-                new StringBuilder(
-                        1 + (1 + cellWidth) * dataRow.length);
-        
-        for (int x = 0; x < dataRow.length; ++x) {
-            sb.append(String.format(fmt, dataRow[x]));
+        final byte[] bytes = new byte[length];
+        int index = encodeHorizontalBar(widthHeight, cellWidth, bytes, 0);
+        
+        for (int y = 0; y < widthHeight; ++y) {
+            bytes[index++] = '\n';
+            
+            for (int x = 0; x < widthHeight; ++x) {
+                final int cellValue = get(x, y);
+                final int width = getDecimalWidth(cellValue);
+                
+                bytes[index++] = '|';
+                
+                for (int i = width; i < cellWidth; ++i) {
+                    bytes[index++] = ' ';
+                }
+                
+                // Encode the cell value digit by digit:
+                long value = Math.abs((long) cellValue);
+                
+                for (int i = index + width - 1; i >= index; --i) {
+                    bytes[i] = (byte) ('0' + value % 10);
+                    value /= 10;
+                }
+                
+                if (cellValue < 0) {
+                    bytes[index] = '-';
+                }
+                
+                index += width;
+            }
+            
+            bytes[index++] = '|';
+            bytes[index++] = '\n';
+            index = encodeHorizontalBar(widthHeight, cellWidth, bytes, index);
         }
         
-        return sb.append('|').toString();
+        return new String(bytes, StandardCharsets.US_ASCII);
     }
     
     /**
-     * Returns the horizontal separating bar.
+     * Encodes the horizontal separating bar into {@code bytes} starting from
+     * {@code index}.
      * 
      * @param widthHeight the width/height of the target sudoku board.
+     * @param cellWidth   the width of a cell.
+     * @param bytes       the target byte array.
+     * @param index       the index of the first character.
      * 
-     * @return the string representation of the separating bar.
+     * @return the index one past the bar.
      */
-    private static String getHorizontalBar(final int widthHeight) {
-        final String nstr = Integer.toString(widthHeight);
-        final String innerCellWidth = getInnerCellWidth(nstr.length());
-        final StringBuilder sb = new StringBuilder("+");
+    private static int encodeHorizontalBar(final int widthHeight,
+                                           final int cellWidth,
+                                           final byte[] bytes,
+                                           int index) {
+        bytes[index++] = '+';
         
         for (int x = 0; x < widthHeight; ++x) {
-            sb.append(innerCellWidth)
-              .append('+');
+            for (int i = 0; i < cellWidth; ++i) {
+                bytes[index++] = '-';
+            }
+            
+            bytes[index++] = '+';
         }
         
-        return sb.toString();
+        return index;
     }
     
     /**
-     * Computes the inner cell upper horizontal bar.
+     * Returns the number of characters in the decimal representation of 
+     * {@code value}, including the minus sign.
      * 
-     * @param cellWidth the width of a cell.
+     * @param value the value to measure.
      * 
-     * @return inner cell upper horizontal bar.
+     * @return the width of the decimal representation of {@code value}.
      */
-    private static String getInnerCellWidth(final int cellWidth) {
-        final StringBuilder sb = new StringBuilder(cellWidth);
+    private static int getDecimalWidth(final int value) {
+        long remaining = Math.abs((long) value);
+        int width = value < 0 ? 2 : 1;
         
-        for (int x = 0; x < cellWidth; ++x) {
-            sb.append('-');
+        while (remaining >= 10) {
+            remaining /= 10;
+            ++width;
         }
         
-        return sb.toString();
+        return width;
     }
 }
@@ -0,0 +1,158 @@
+package io.github.coderodde.sudoku;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class implements a fork/join search node. Above the split depth, a 
+ * node forks a subtask for each candidate value of the cell it branches on, 
+ * so that the idle workers of the pool may steal the remaining branches. At 
+ * the split depth, the node falls back to the sequential 
+ * {@link BacktrackingSearch}.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+final class SudokuSearchTask extends RecursiveTask<SudokuBoard> {
+    
+    /**
+     * {@link RecursiveTask} is serializable, but the search tasks are never
+     * serialized. Hence, the fields of the search state are transient.
+     */
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * The board of this node. Owned by this task.
+     */
+    private final transient SudokuBoard board;
+    
+    /**
+     * The index of the cell to process next in row-major order.
+     */
+    private final int cellIndex;
+    
+    /**
+     * The number of branchings above this node.
+     */
+    private final int depth;
+    
+    /**
+     * The depth at which no more subtasks are forked.
+     */
+    private final int splitDepth;
+    
+    /**
+     * The search options.
+     */
+    private final transient SearchOptions options;
+    
+    /**
+     * The shared thread state. Used for communicating that a solution is 
+     * found and all the tasks must exit.
+     */
+    private final transient SharedThreadState sharedThreadState;
+    
+    /**
+     * Constructs this task.
+     * 
+     * @param board             the board of this node.
+     * @param cellIndex         the index of the cell to process next.
+     * @param depth             the depth of this node.
+     * @param splitDepth        the split depth.
+     * @param options           the search options.
+     * @param sharedThreadState the shared thread state.
+     */
+    SudokuSearchTask(final SudokuBoard board,
+                     final int cellIndex,
+                     final int depth,
+                     final int splitDepth,
+                     final SearchOptions options,
+                     final SharedThreadState sharedThreadState) {
+        this.board = board;
+        this.cellIndex = cellIndex;
+        this.depth = depth;
+        this.splitDepth = splitDepth;
+        this.options = options;
+        this.sharedThreadState = sharedThreadState;
+    }
+    
+    @Override
+    protected SudokuBoard compute() {
+        if (sharedThreadState.isStopped()) {
+            // Once here, some other task has found a solution, or the search
+            // is cancelled:
+            return null;
+        }
+        
+        final BacktrackingSearch search = 
+                new BacktrackingSearch(board.getWidthHeight(),
+                                       options,
+                                       sharedThreadState);
+        
+        if (!search.load(board)) {
+            return null;
+        }
+        
+        if (depth >= splitDepth) {
+            // Once here, search the rest of the subtree sequentially:
+            search.setBaseDepth(depth);
+            search.search(cellIndex);
+            return sharedThreadState.getSolution();
+        }
+        
+        final int selectedCellIndex = search.selectCell(cellIndex);
+        
+        if (selectedCellIndex == board.getWidthHeight() 
+                               * board.getWidthHeight()) {
+            // Once here, the board is complete:
+            sharedThreadState.publishSolution(board);
+            return board;
+        }
+        
+        final long candidates = 
+                search.getState().getCandidates(selectedCellIndex);
+        
+        final int[] cellValues = new int[Long.bitCount(candidates)];
+        
+        search.orderCellValues(selectedCellIndex, candidates, cellValues);
+        
+        final List<SudokuSearchTask> subtasks = 
+                new ArrayList<>(cellValues.length);
+        
+        for (final int cellValue : cellValues) {
+            final SudokuBoard childBoard = new SudokuBoard(board);
+            childBoard.setCell(selectedCellIndex, cellValue);
+            
+            subtasks.add(new SudokuSearchTask(childBoard,
+                                              selectedCellIndex + 1,
+                                              depth + 1,
+                                              splitDepth,
+                                              options,
+                                              sharedThreadState));
+        }
+        
+        if (subtasks.isEmpty()) {
+            // Once here, no cell value fits the selected cell:
+            return null;
+        }
+        
+        // Fork all but the first subtask, and compute the first one in this 
+        // worker:
+        for (int i = subtasks.size() - 1; i > 0; --i) {
+            subtasks.get(i).fork();
+        }
+        
+        SudokuBoard solution = subtasks.get(0).compute();
+        
+        for (int i = 1; i < subtasks.size(); ++i) {
+            final SudokuBoard subtaskSolution = subtasks.get(i).join();
+            
+            if (solution == null) {
+                solution = subtaskSolution;
+            }
+        }
+        
+        return solution;
+    }
+}
@@ -0,0 +1,394 @@
+package io.github.coderodde.sudoku.io;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements a streaming reader of puzzle files with one puzzle per
+ * line. The file is memory-mapped window by window, and each line is parsed
+ * directly from the mapped bytes into a {@link SudokuBoard}, so that no 
+ * intermediate strings are created and arbitrarily large files are read in 
+ * constant memory. Two line formats are recognized:
+ * <ul>
+ *   <li>the compact format of {@code n * n} characters for the boards of 
+ *       width/height 4 and 9, such as the common 81-character format,</li>
+ *   <li>the delimited format of {@code n * n} decimal cell values separated 
+ *       by commas, semicolons, spaces or tabs, for boards of any 
+ *       width/height.</li>
+ * </ul>
+ * In both formats, {@code .} and {@code 0} denote an empty cell. The empty 
+ * lines and the lines starting with {@code #} are skipped.
+ * <p>
+ * The reader may also parse the puzzles held in a {@link ByteBuffer}, such as
+ * the body of a network request, in which case the buffer acts as a single 
+ * window over the entire input.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuBoardReader 
+        implements Iterator<SudokuBoard>, Closeable {
+    
+    /**
+     * The default size of a mapped window.
+     */
+    static final long DEFAULT_WINDOW_SIZE = 64L << 20;
+    
+    /**
+     * The file channel, or {@code null} if reading from a buffer.
+     */
+    private final FileChannel channel;
+    
+    /**
+     * The size of the file in bytes.
+     */
+    private final long fileSize;
+    
+    /**
+     * The maximum size of a mapped window.
+     */
+    private final long windowSize;
+    
+    /**
+     * The currently mapped window, or {@code null}.
+     */
+    private ByteBuffer window;
+    
+    /**
+     * The file position of the first byte of {@link #window}.
+     */
+    private long windowStart;
+    
+    /**
+     * The file position of the next unread byte.
+     */
+    private long position;
+    
+    /**
+     * The number of the lines read so far.
+     */
+    private long lineNumber;
+    
+    /**
+     * The prefetched board, or {@code null}.
+     */
+    private SudokuBoard nextBoard;
+    
+    /**
+     * Opens the puzzle file {@code path} for reading.
+     * 
+     * @param path the path of the puzzle file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public SudokuBoardReader(final Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+    
+    SudokuBoardReader(final Path path, final long windowSize) 
+            throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+    
+    /**
+     * Constructs a reader of the puzzles held in the remaining bytes of 
+     * {@code buffer}. The position of {@code buffer} is not changed.
+     * 
+     * @param buffer the buffer holding the puzzle lines.
+     */
+    public SudokuBoardReader(final ByteBuffer buffer) {
+        this.channel = null;
+        this.window = buffer.slice();
+        this.fileSize = window.limit();
+        this.windowSize = window.limit();
+    }
+    
+    /**
+     * Returns a sequential stream of the remaining puzzles. Closing the 
+     * stream closes this reader.
+     * 
+     * @return the stream of the puzzles.
+     */
+    public Stream<SudokuBoard> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        this, 
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (nextBoard == null) {
+            try {
+                nextBoard = readBoard();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        
+        return nextBoard != null;
+    }
+    
+    @Override
+    public SudokuBoard next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        
+        final SudokuBoard board = nextBoard;
+        nextBoard = null;
+        return board;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        window = null;
+        
+        if (channel != null) {
+            channel.close();
+        }
+    }
+    
+    /**
+     * Reads the next puzzle.
+     * 
+     * @return the next puzzle, or {@code null} if there are no more.
+     * @throws IOException if mapping the file fails.
+     */
+    private SudokuBoard readBoard() throws IOException {
+        while (position < fileSize) {
+            final long lineStart = position;
+            long lineEnd = findLineEnd(lineStart);
+            
+            if (lineEnd < 0) {
+                // Once here, the line crosses the window end. Remap so that
+                // the window starts at the line:
+                map(lineStart);
+                lineEnd = findLineEnd(lineStart);
+                
+                if (lineEnd < 0) {
+                    throw new IOException(
+                            String.format("Line %d is longer than %d bytes", 
+                                          lineNumber + 1, 
+                                          windowSize));
+                }
+            }
+            
+            position = lineEnd + 1;
+            ++lineNumber;
+            
+            int from = (int) (lineStart - windowStart);
+            int to = (int) (lineEnd - windowStart);
+            
+            // Trim the whitespace:
+            while (from < to && isWhitespace(window.get(from))) {
+                ++from;
+            }
+            
+            while (to > from && isWhitespace(window.get(to - 1))) {
+                --to;
+            }
+            
+            if (from == to || window.get(from) == '#') {
+                continue;
+            }
+            
+            return parseLine(from, to);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Returns the file position of the line feed ending the line that starts
+     * at {@code lineStart}, or of the end of the file if the line is the last
+     * one. Maps the first window if needed.
+     * 
+     * @param lineStart the file position of the first byte of the line.
+     * @return the end of the line, or -1 if the line does not end within the
+     *         current window.
+     * @throws IOException if mapping the file fails.
+     */
+    private long findLineEnd(final long lineStart) throws IOException {
+        if (window == null || lineStart >= windowStart + window.limit()) {
+            map(lineStart);
+        }
+        
+        final int limit = window.limit();
+        
+        for (int i = (int) (lineStart - windowStart); i < limit; ++i) {
+            if (window.get(i) == '\n') {
+                return windowStart + i;
+            }
+        }
+        
+        final long windowEnd = windowStart + limit;
+        return windowEnd == fileSize ? fileSize : -1L;
+    }
+    
+    private void map(final long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY,
+                             start,
+                             Math.min(windowSize, fileSize - start));
+    }
+    
+    /**
+     * Parses the line occupying the window bytes {@code from} through 
+     * {@code to - 1}.
+     * 
+     * @param from the index of the first byte.
+     * @param to   the index one past the last byte.
+     * @return the parsed board.
+     */
+    private SudokuBoard parseLine(final int from, final int to) {
+        boolean delimited = false;
+        
+        for (int i = from; i < to; ++i) {
+            if (isDelimiter(window.get(i))) {
+                delimited = true;
+                break;
+            }
+        }
+        
+        return delimited ? parseDelimitedLine(from, to) : 
+                           parseCompactLine(from, to);
+    }
+    
+    private SudokuBoard parseCompactLine(final int from, final int to) {
+        final int cellCount = to - from;
+        final int widthHeight = (int) Math.sqrt(cellCount);
+        
+        if (widthHeight * widthHeight != cellCount 
+                || (widthHeight != 4 && widthHeight != 9)) {
+            throw malformedLine("compact line length is not 16 or 81");
+        }
+        
+        final SudokuBoard board = new SudokuBoard(widthHeight);
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            final byte b = window.get(from + cellIndex);
+            
+            if (b == '.' || b == '0') {
+                continue;
+            }
+            
+            final int cellValue = b - '0';
+            
+            if (cellValue < 1 || cellValue > widthHeight) {
+                throw malformedLine("invalid cell character");
+            }
+            
+            board.setCell(cellIndex, cellValue);
+        }
+        
+        return board;
+    }
+    
+    private SudokuBoard parseDelimitedLine(final int from, final int to) {
+        // BEGIN: Count the tokens.
+        int cellCount = 0;
+        boolean inToken = false;
+        
+        for (int i = from; i < to; ++i) {
+            final boolean delimiter = isDelimiter(window.get(i));
+            
+            if (!delimiter && !inToken) {
+                ++cellCount;
+            }
+            
+            inToken = !delimiter;
+        }
+        // END: Count the tokens.
+        
+        final int widthHeight = (int) Math.sqrt(cellCount);
+        
+        if (widthHeight * widthHeight != cellCount) {
+            throw malformedLine("number of cells is not a square");
+        }
+        
+        try {
+            Utils.checkWidthHeight(widthHeight);
+        } catch (final IllegalArgumentException ex) {
+            throw malformedLine(ex.getMessage());
+        }
+        
+        final SudokuBoard board = new SudokuBoard(widthHeight);
+        int cellIndex = 0;
+        int i = from;
+        
+        while (i < to) {
+            if (isDelimiter(window.get(i))) {
+                ++i;
+                continue;
+            }
+            
+            int cellValue = 0;
+            
+            if (window.get(i) == '.') {
+                ++i;
+            } else {
+                while (i < to && !isDelimiter(window.get(i))) {
+                    final int digit = window.get(i) - '0';
+                    
+                    if (digit < 0 || digit > 9) {
+                        throw malformedLine("invalid cell character");
+                    }
+                    
+                    cellValue = 10 * cellValue + digit;
+                    
+                    if (cellValue > widthHeight) {
+                        throw malformedLine("cell value out of range");
+                    }
+                    
+                    ++i;
+                }
+            }
+            
+            if (i < to && !isDelimiter(window.get(i))) {
+                throw malformedLine("invalid cell character");
+            }
+            
+            board.setCell(cellIndex++, cellValue);
+        }
+        
+        return board;
+    }
+    
+    private IllegalArgumentException malformedLine(final String reason) {
+        return new IllegalArgumentException(
+                String.format("Malformed puzzle at line %d: %s", 
+                              lineNumber, 
+                              reason));
+    }
+    
+    private static boolean isDelimiter(final byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t';
+    }
+    
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
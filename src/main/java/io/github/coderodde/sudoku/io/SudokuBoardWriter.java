@@ -0,0 +1,196 @@
+package io.github.coderodde.sudoku.io;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class implements a buffered writer of puzzle files in the line 
+ * formats understood by {@link SudokuBoardReader}: the compact format for the
+ * boards of width/height up to 9, and the comma-delimited format for the 
+ * larger ones. The cells are encoded directly into a byte buffer without 
+ * going through strings. The class also writes the ASCII art of the boards
+ * rendered by {@link SudokuBoard#toString()}.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuBoardWriter implements Closeable, Flushable {
+    
+    /**
+     * The default size of the output buffer.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    
+    /**
+     * The target output stream.
+     */
+    private final OutputStream out;
+    
+    /**
+     * The output buffer.
+     */
+    private final byte[] buffer;
+    
+    /**
+     * The number of the bytes in {@link #buffer}.
+     */
+    private int size;
+    
+    /**
+     * Constructs a writer writing to {@code out}.
+     * 
+     * @param out the target output stream.
+     */
+    public SudokuBoardWriter(final OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+    
+    /**
+     * Constructs a writer creating or truncating the file {@code path}.
+     * 
+     * @param path the path of the target file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public SudokuBoardWriter(final Path path) throws IOException {
+        this(Files.newOutputStream(path));
+    }
+    
+    /**
+     * Writes {@code board} as a single line. A {@code null} board is written
+     * as an empty line, so that the output lines stay aligned with the input
+     * lines when a puzzle has no solution.
+     * 
+     * @param board the board to write, or {@code null}.
+     * @throws IOException if writing fails.
+     */
+    public void write(final SudokuBoard board) throws IOException {
+        if (board != null) {
+            final int n = board.getWidthHeight();
+            final int cellCount = n * n;
+            
+            if (n <= 9) {
+                for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+                    final int cellValue = board.getCell(cellIndex);
+                    
+                    ensureCapacity(1);
+                    buffer[size++] = cellValue == Utils.UNUSED_CELL ? 
+                                     (byte) '.' :
+                                     (byte) ('0' + cellValue);
+                }
+            } else {
+                for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+                    final int cellValue = board.getCell(cellIndex);
+                    final int width = 
+                            cellValue == Utils.UNUSED_CELL ? 
+                            1 : 
+                            getDecimalWidth(cellValue);
+                    
+                    ensureCapacity(width + 1);
+                    
+                    if (cellIndex > 0) {
+                        buffer[size++] = ',';
+                    }
+                    
+                    if (cellValue == Utils.UNUSED_CELL) {
+                        buffer[size++] = '.';
+                    } else {
+                        size = encodeDecimal(cellValue, width, buffer, size);
+                    }
+                }
+            }
+        }
+        
+        ensureCapacity(1);
+        buffer[size++] = '\n';
+    }
+    
+    /**
+     * Writes the ASCII art of {@code board} followed by a line feed.
+     * 
+     * @param board the board to write.
+     * @throws IOException if writing fails.
+     */
+    public void writeAsciiArt(final SudokuBoard board) throws IOException {
+        writeBytes(board.toString().getBytes(StandardCharsets.US_ASCII));
+        ensureCapacity(1);
+        buffer[size++] = '\n';
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        out.write(buffer, 0, size);
+        size = 0;
+        out.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            flush();
+        }
+    }
+    
+    /**
+     * Encodes the non-negative {@code value} of {@code width} decimal digits 
+     * into {@code bytes} starting from {@code index}.
+     * 
+     * @param value the value to encode.
+     * @param width the number of the decimal digits of the value.
+     * @param bytes the target byte array.
+     * @param index the index of the first digit.
+     * @return the index one past the last digit.
+     */
+    private static int encodeDecimal(int value, 
+                                     final int width,
+                                     final byte[] bytes,
+                                     final int index) {
+        for (int i = index + width - 1; i >= index; --i) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        
+        return index + width;
+    }
+    
+    private static int getDecimalWidth(int value) {
+        int width = 1;
+        
+        while (value >= 10) {
+            value /= 10;
+            ++width;
+        }
+        
+        return width;
+    }
+    
+    private void writeBytes(final byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length) {
+            flushBuffer();
+            out.write(bytes);
+            return;
+        }
+        
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+    
+    private void ensureCapacity(final int bytes) throws IOException {
+        if (size + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+    
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, size);
+        size = 0;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.coderodde.sudoku.io;
+
+import io.github.coderodde.sudoku.BatchSudokuSolver;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * This class implements the pipeline solving a puzzle file into a solution 
+ * file. The puzzles are streamed from a {@link SudokuBoardReader} through a
+ * {@link BatchSudokuSolver} into a {@link SudokuBoardWriter}, so that only a
+ * bounded number of the puzzles is held in memory at any time regardless of
+ * the size of the input file. The solution file has a line per input puzzle,
+ * in input order, and an empty line for each puzzle without a solution.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuFilePipeline {
+    
+    private SudokuFilePipeline() {
+        
+    }
+    
+    /**
+     * Solves all the puzzles in {@code input} and writes the solutions to
+     * {@code output}.
+     * 
+     * @param input  the path of the puzzle file.
+     * @param output the path of the solution file.
+     * @param solver the batch solver.
+     * @return the number of the puzzles processed.
+     * @throws IOException if reading or writing fails.
+     */
+    public static long solveFile(final Path input,
+                                 final Path output,
+                                 final BatchSudokuSolver solver) 
+            throws IOException {
+        
+        long puzzles = 0L;
+        
+        try (final SudokuBoardReader reader = new SudokuBoardReader(input);
+             final SudokuBoardWriter writer = new SudokuBoardWriter(output);
+             final Stream<SudokuBoard> solutions = 
+                     solver.solveAll(reader.stream())) {
+            
+            final Iterator<SudokuBoard> iterator = solutions.iterator();
+            
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                ++puzzles;
+            }
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        
+        return puzzles;
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event marking a solve that was stopped 
+ * before it could finish, due to a timeout, a cancellation token or an 
+ * interrupt.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.Cancellation")
+@Label("Sudoku Cancellation")
+@Category("Sudoku")
+@Description("A solve was stopped before it could finish")
+@StackTrace(false)
+public final class CancellationEvent extends Event {
+    
+    @Label("Reason")
+    public String reason;
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Clue Count")
+    public int clueCount;
+    
+    @Label("Thread Count")
+    public int threadCount;
+    
+    @Label("Nodes")
+    public long nodes;
+}
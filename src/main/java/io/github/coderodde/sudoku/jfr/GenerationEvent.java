@@ -0,0 +1,37 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event spanning the generation of a single 
+ * board or puzzle.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.Generation")
+@Label("Sudoku Generation")
+@Category("Sudoku")
+@Description("The generation of a full board or a puzzle")
+@StackTrace(false)
+public final class GenerationEvent extends Event {
+    
+    @Label("Generator")
+    public String generator;
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Clue Count")
+    @Description("The number of the clues of the generated board")
+    public int clueCount;
+    
+    @Label("Thread Count")
+    public int threadCount;
+}
@@ -0,0 +1,39 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event spanning the computation of the seeds 
+ * of a solve.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.SeedGeneration")
+@Label("Sudoku Seed Generation")
+@Category("Sudoku")
+@Description("The computation of the seed boards of a solve")
+@StackTrace(false)
+public final class SeedGenerationEvent extends Event {
+    
+    @Label("Provider")
+    public String provider;
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Clue Count")
+    public int clueCount;
+    
+    @Label("Requested Seeds")
+    public int requestedSeeds;
+    
+    @Label("Generated Seeds")
+    public int generatedSeeds;
+}
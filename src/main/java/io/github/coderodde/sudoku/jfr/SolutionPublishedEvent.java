@@ -0,0 +1,31 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event marking the publication of the 
+ * solution of a solve. Committed in the thread that found the solution.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.SolutionPublished")
+@Label("Sudoku Solution Published")
+@Category("Sudoku")
+@Description("A worker published the solution and stopped the others")
+@StackTrace(false)
+public final class SolutionPublishedEvent extends Event {
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Nodes")
+    @Description("The number of the nodes flushed by all the workers so far")
+    public long nodes;
+}
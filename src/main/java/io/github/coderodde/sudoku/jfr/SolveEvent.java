@@ -0,0 +1,50 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event spanning a single parallel solve, from
+ * the validation of the input board to the exit of the last worker.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.Solve")
+@Label("Sudoku Solve")
+@Category("Sudoku")
+@Description("A parallel sudoku solve")
+@StackTrace(false)
+public final class SolveEvent extends Event {
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Clue Count")
+    public int clueCount;
+    
+    @Label("Thread Count")
+    public int threadCount;
+    
+    @Label("Seed Count")
+    @Description("The requested number of seeds, or the split depth of a " +
+                 "fork/join solve")
+    public int seedCount;
+    
+    @Label("Strategy")
+    public String strategy;
+    
+    @Label("Status")
+    public String status;
+    
+    @Label("Nodes")
+    public long nodes;
+    
+    @Label("Backtracks")
+    public long backtracks;
+}
@@ -0,0 +1,41 @@
+package io.github.coderodde.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JFR event spanning a single solver worker, from
+ * its start to its finish. Committed in the worker thread, so that the 
+ * recording attributes it to that thread.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+@Name("io.github.coderodde.sudoku.Worker")
+@Label("Sudoku Solver Worker")
+@Category("Sudoku")
+@Description("A single solver worker of a parallel solve")
+@StackTrace(false)
+public final class WorkerEvent extends Event {
+    
+    @Label("Board Size")
+    @Description("The width/height of the board")
+    public int boardSize;
+    
+    @Label("Seed Count")
+    @Description("The number of the seeds assigned to the worker")
+    public int seedCount;
+    
+    @Label("Seeds Consumed")
+    public long seedsConsumed;
+    
+    @Label("Nodes")
+    public long nodes;
+    
+    @Label("Backtracks")
+    public long backtracks;
+}
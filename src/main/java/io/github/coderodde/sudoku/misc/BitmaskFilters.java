@@ -0,0 +1,212 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.Arrays;
+
+/**
+ * This class implements the row, column and minisquare filters as primitive
+ * bitmasks. The cell value {@code v} is represented by the bit
+ * {@code 1L << (v - 1)}, so that a single {@code long} is able to hold the
+ * filter of a row, a column or a minisquare of boards up to
+ * {@link #MAXIMUM_WIDTH_HEIGHT}. Unlike the {@link IntSet} filters, the
+ * instances are meant to be owned by a single thread.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class BitmaskFilters {
+
+    /**
+     * The maximum supported width/height of a board.
+     */
+    public static final int MAXIMUM_WIDTH_HEIGHT = Long.SIZE;
+
+    /**
+     * The cell index tables.
+     */
+    private final SudokuGeometry geometry;
+
+    /**
+     * The mask with a bit set for each legal cell value.
+     */
+    private final long fullMask;
+
+    /**
+     * The row-wise filters.
+     */
+    private final long[] rowMasks;
+
+    /**
+     * The column-wise filters.
+     */
+    private final long[] colMasks;
+
+    /**
+     * The minisquare filters.
+     */
+    private final long[] minisquareMasks;
+
+    /**
+     * Constructs empty filters for the boards of width/height
+     * {@code widthHeight}.
+     *
+     * @param widthHeight the width/height of the target boards.
+     */
+    public BitmaskFilters(final int widthHeight) {
+        checkBitmaskWidthHeight(widthHeight);
+
+        this.geometry = SudokuGeometry.of(widthHeight);
+        this.fullMask = widthHeight == Long.SIZE ?
+                        -1L :
+                        (1L << widthHeight) - 1L;
+
+        this.rowMasks = new long[widthHeight];
+        this.colMasks = new long[widthHeight];
+        this.minisquareMasks = new long[widthHeight];
+    }
+
+    /**
+     * Copy-constructs these filters from {@code filters}.
+     *
+     * @param filters the source filters.
+     */
+    public BitmaskFilters(final BitmaskFilters filters) {
+        this.geometry = filters.geometry;
+        this.fullMask = filters.fullMask;
+        this.rowMasks = filters.rowMasks.clone();
+        this.colMasks = filters.colMasks.clone();
+        this.minisquareMasks = filters.minisquareMasks.clone();
+    }
+
+    /**
+     * Makes sure that {@code widthHeight} fits in the bitmasks.
+     *
+     * @param widthHeight the width/height to check.
+     */
+    public static void checkBitmaskWidthHeight(final int widthHeight) {
+        Utils.checkWidthHeight(widthHeight);
+
+        if (widthHeight > MAXIMUM_WIDTH_HEIGHT) {
+            final String exceptionMessage =
+                    String.format(
+                            "The widthHeight(%d) > MAXIMUM_WIDTH_HEIGHT(%d)",
+                            widthHeight,
+                            MAXIMUM_WIDTH_HEIGHT);
+
+            throw new IllegalArgumentException(exceptionMessage);
+        }
+    }
+
+    /**
+     * Returns the bit representing the cell value {@code cellValue}.
+     *
+     * @param cellValue the cell value.
+     *
+     * @return the bit of the cell value.
+     */
+    public static long bit(final int cellValue) {
+        return 1L << (cellValue - 1);
+    }
+
+    /**
+     * Clears these filters and preloads them from the cell values present in
+     * {@code board}.
+     *
+     * @param board the board from which to fetch all the cell values.
+     *
+     * @return {@code false} if the board contains an invalid cell value or a
+     *         duplicate cell value in a row, column or minisquare.
+     */
+    public boolean load(final SudokuBoard board) {
+        Arrays.fill(rowMasks, 0L);
+        Arrays.fill(colMasks, 0L);
+        Arrays.fill(minisquareMasks, 0L);
+
+        final int n = geometry.getWidthHeight();
+
+        for (int cellIndex = 0;
+                cellIndex < geometry.getCellCount();
+                ++cellIndex) {
+
+            final int cellValue = board.getCell(cellIndex);
+
+            if (cellValue == Utils.UNUSED_CELL) {
+                continue;
+            }
+
+            if (cellValue < 1 || cellValue > n) {
+                return false;
+            }
+
+            if (!canPlace(cellIndex, cellValue)) {
+                return false;
+            }
+
+            add(cellIndex, cellValue);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the bitmask of all the cell values that may be put to the cell
+     * {@code cellIndex}.
+     *
+     * @param cellIndex the index of the target cell.
+     *
+     * @return the candidate bitmask.
+     */
+    public long getCandidates(final int cellIndex) {
+        return fullMask & ~(rowMasks[geometry.getRow(cellIndex)]
+                          | colMasks[geometry.getCol(cellIndex)]
+                          | minisquareMasks[geometry.getMinisquare(cellIndex)]);
+    }
+
+    /**
+     * Queries whether {@code cellValue} may be put to the cell
+     * {@code cellIndex}.
+     *
+     * @param cellIndex the index of the target cell.
+     * @param cellValue the cell value to query.
+     *
+     * @return {@code true} if and only if no row, column or minisquare
+     *         conflict arises.
+     */
+    public boolean canPlace(final int cellIndex, final int cellValue) {
+        return (getCandidates(cellIndex) & bit(cellValue)) != 0L;
+    }
+
+    /**
+     * Marks {@code cellValue} in the filters of the cell {@code cellIndex}.
+     *
+     * @param cellIndex the index of the target cell.
+     * @param cellValue the cell value to mark.
+     */
+    public void add(final int cellIndex, final int cellValue) {
+        final long bit = bit(cellValue);
+        rowMasks[geometry.getRow(cellIndex)] |= bit;
+        colMasks[geometry.getCol(cellIndex)] |= bit;
+        minisquareMasks[geometry.getMinisquare(cellIndex)] |= bit;
+    }
+
+    /**
+     * Unmarks {@code cellValue} in the filters of the cell {@code cellIndex}.
+     *
+     * @param cellIndex the index of the target cell.
+     * @param cellValue the cell value to unmark.
+     */
+    public void remove(final int cellIndex, final int cellValue) {
+        final long mask = ~bit(cellValue);
+        rowMasks[geometry.getRow(cellIndex)] &= mask;
+        colMasks[geometry.getCol(cellIndex)] &= mask;
+        minisquareMasks[geometry.getMinisquare(cellIndex)] &= mask;
+    }
+
+    public SudokuGeometry getGeometry() {
+        return geometry;
+    }
+
+    public long getFullMask() {
+        return fullMask;
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.jfr.SeedGenerationEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * This class provides facilities for partitioning the search space of a 
+ * sudoku board into seed boards. The search frontier is expanded 
+ * breadth-first: each expanded seed is replaced by one child seed per 
+ * candidate value of its empty cell with the fewest candidate values. Hence, 
+ * the returned seeds are pairwise disjoint, and every solution of the source 
+ * board extends exactly one of them. The candidate values are checked 
+ * incrementally against the {@link BitmaskFilters} of the parent seed, and 
+ * the seeds with an empty cell without candidate values are dropped, since 
+ * they have no solutions. Supports the boards of width/height up to 
+ * {@link BitmaskFilters#MAXIMUM_WIDTH_HEIGHT}.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class FrontierSudokuBoardSeedProvider {
+    
+    private FrontierSudokuBoardSeedProvider() {
+        
+    }
+    
+    /**
+     * Computes a list of disjoint seed sudoku boards covering the entire 
+     * search space of {@code sourceBoard}. The expansion stops as soon as 
+     * there are at least {@code requestedSeeds} seeds, so that the number of
+     * the seeds may exceed the requested number by less than the width/height
+     * of the board. There are fewer seeds than requested only if the search 
+     * space is too small.
+     * 
+     * @param sourceBoard    the source sudoku board. Not modified.
+     * @param requestedSeeds the requested number of seeds.
+     * 
+     * @return a list of seeds. Empty if the source board is invalid or turns
+     *         out to have no solutions.
+     */
+    public static List<SudokuBoard> computeSeeds(final SudokuBoard sourceBoard,
+                                                 final int requestedSeeds) {
+        
+        final SeedGenerationEvent event = new SeedGenerationEvent();
+        event.begin();
+        
+        final List<SudokuBoard> seeds = computeSeedsImpl(sourceBoard, 
+                                                         requestedSeeds);
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.provider = "frontier";
+            event.boardSize = sourceBoard.getWidthHeight();
+            event.clueCount = Utils.countClues(sourceBoard);
+            event.requestedSeeds = requestedSeeds;
+            event.generatedSeeds = seeds.size();
+            event.commit();
+        }
+        
+        return seeds;
+    }
+    
+    /**
+     * Implements the seed computation.
+     * 
+     * @param sourceBoard    the source sudoku board. Not modified.
+     * @param requestedSeeds the requested number of seeds.
+     * 
+     * @return a list of seeds.
+     */
+    private static List<SudokuBoard> computeSeedsImpl(
+            final SudokuBoard sourceBoard,
+            final int requestedSeeds) {
+        
+        final BitmaskFilters sourceFilters = 
+                new BitmaskFilters(sourceBoard.getWidthHeight());
+        
+        final List<SudokuBoard> seeds = new ArrayList<>();
+        
+        if (!sourceFilters.load(sourceBoard)) {
+            // Once here, the source board is invalid:
+            return seeds;
+        }
+        
+        final Deque<FrontierNode> frontier = new ArrayDeque<>();
+        final List<SudokuBoard> completeSeeds = new ArrayList<>();
+        
+        frontier.addLast(new FrontierNode(new SudokuBoard(sourceBoard), 
+                                          sourceFilters));
+        
+        while (!frontier.isEmpty() 
+                && frontier.size() + completeSeeds.size() < requestedSeeds) {
+            
+            final FrontierNode node = frontier.removeFirst();
+            final int cellIndex = selectCell(node);
+            
+            if (cellIndex == -1) {
+                // Once here, the node has no solutions. Drop it:
+                continue;
+            }
+            
+            if (cellIndex == node.filters.getGeometry().getCellCount()) {
+                // Once here, the node is a complete board and cannot be
+                // expanded any further:
+                completeSeeds.add(node.board);
+                continue;
+            }
+            
+            long candidates = node.filters.getCandidates(cellIndex);
+            
+            while (candidates != 0L) {
+                final int cellValue = 
+                        Long.numberOfTrailingZeros(candidates) + 1;
+                
+                candidates &= candidates - 1L;
+                
+                final SudokuBoard childBoard = new SudokuBoard(node.board);
+                final BitmaskFilters childFilters = 
+                        new BitmaskFilters(node.filters);
+                
+                childBoard.setCell(cellIndex, cellValue);
+                childFilters.add(cellIndex, cellValue);
+                
+                frontier.addLast(new FrontierNode(childBoard, childFilters));
+            }
+        }
+        
+        seeds.addAll(completeSeeds);
+        
+        for (final FrontierNode node : frontier) {
+            seeds.add(node.board);
+        }
+        
+        return seeds;
+    }
+    
+    /**
+     * Selects the empty cell with the fewest candidate values.
+     * 
+     * @param node the frontier node.
+     * 
+     * @return the index of the selected cell, -1 if some empty cell has no
+     *         candidate values, or the number of the cells if the board is 
+     *         complete.
+     */
+    private static int selectCell(final FrontierNode node) {
+        final int cellCount = node.filters.getGeometry().getCellCount();
+        int bestCellIndex = cellCount;
+        int bestCandidateCount = Integer.MAX_VALUE;
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            if (node.board.getCell(cellIndex) != Utils.UNUSED_CELL) {
+                continue;
+            }
+            
+            final int candidateCount = 
+                    Long.bitCount(node.filters.getCandidates(cellIndex));
+            
+            if (candidateCount == 0) {
+                return -1;
+            }
+            
+            if (bestCandidateCount > candidateCount) {
+                bestCandidateCount = candidateCount;
+                bestCellIndex = cellIndex;
+            }
+        }
+        
+        return bestCellIndex;
+    }
+    
+    /**
+     * This static inner class holds a partial assignment on the search 
+     * frontier along with its filters.
+     */
+    private static final class FrontierNode {
+        
+        /**
+         * The partially assigned board.
+         */
+        final SudokuBoard board;
+        
+        /**
+         * The filters of {@link #board}.
+         */
+        final BitmaskFilters filters;
+        
+        FrontierNode(final SudokuBoard board, final BitmaskFilters filters) {
+            this.board = board;
+            this.filters = filters;
+        }
+    }
+}
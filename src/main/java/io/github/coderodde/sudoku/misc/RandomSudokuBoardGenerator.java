@@ -1,13 +1,14 @@
 package io.github.coderodde.sudoku.misc;
 
 import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.jfr.GenerationEvent;
 import static io.github.coderodde.sudoku.misc.Utils.shuffle;
 import java.util.Random;
 
 /**
  * This class is responsible for randomly generating full sudoku boards.
  * 
- * @version 1.0.0 (Jun 22, 2025)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Jun 22, 2025)
  */
 public final class RandomSudokuBoardGenerator {
@@ -92,7 +93,21 @@ public final class RandomSudokuBoardGenerator {
      * @return a randomly  built sudoku board.
      */
     public SudokuBoard generateRandomSudokuBoard() {
+        final GenerationEvent event = new GenerationEvent();
+        event.begin();
+        
         generateRandomSudokuBoardImpl(board, 0, 0);
+        
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.generator = "backtracking";
+            event.boardSize = board.getWidthHeight();
+            event.clueCount = Utils.countClues(board);
+            event.threadCount = 1;
+            event.commit();
+        }
+        
         return board;
     }
     
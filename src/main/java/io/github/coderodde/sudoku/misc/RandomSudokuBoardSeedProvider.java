@@ -1,6 +1,7 @@
 package io.github.coderodde.sudoku.misc;
 
 import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.jfr.SeedGenerationEvent;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -11,7 +12,7 @@ import java.util.Set;
 /**
  * This class provides facilities for generating random sudoku board seeds.
  * 
- * @version 1.0.0 (Jun 23, 2025)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Jun 23, 2025)
  */
 public final class RandomSudokuBoardSeedProvider {
@@ -27,6 +28,43 @@ public final class RandomSudokuBoardSeedProvider {
     public static List<SudokuBoard> computeSeeds(final SudokuBoard sourceBoard,
                                                  final int requestedSeeds) {
         
+        final SeedGenerationEvent event = new SeedGenerationEvent();
+        event.begin();
+        
+        final List<SudokuBoard> seeds = computeSeedsImpl(sourceBoard, 
+                                                         requestedSeeds);
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.provider = "random";
+            event.boardSize = sourceBoard.getWidthHeight();
+            event.clueCount = Utils.countClues(sourceBoard);
+            event.requestedSeeds = requestedSeeds;
+            event.generatedSeeds = seeds.size();
+            event.commit();
+        }
+        
+        return seeds;
+    }
+    
+    /**
+     * Implements the seed computation.
+     * 
+     * @param sourceBoard    the source sudoku board.
+     * @param requestedSeeds the requested number of seeds.
+     * 
+     * @return a list of seeds.
+     */
+    private static List<SudokuBoard> computeSeedsImpl(
+            final SudokuBoard sourceBoard,
+            final int requestedSeeds) {
+        
+        // The seeds are checked only incrementally, so reject an invalid 
+        // source board up front:
+        if (!SudokuBoardVerifier.isValid(sourceBoard)) {
+            return new ArrayList<>();
+        }
+        
         // Get the list of all empty cells:
         final List<Point> emptyCellPoints = getEmptyCellPoints(sourceBoard);
         final Random random = new Random();
@@ -77,27 +115,32 @@ public final class RandomSudokuBoardSeedProvider {
         final int[] cellValues = getRandomCellValues(board.getWidthHeight());
         
         for (final int cellValue : cellValues) {
+            // Check that after new cell value the seed remains valid:
+            if (!SudokuBoardVerifier.canPlace(seed, 
+                                              targetPoint.x, 
+                                              targetPoint.y,
+                                              cellValue)) {
+                continue;
+            }
+            
             // Set the cell value:
             seed.set(targetPoint.x, 
                      targetPoint.y, 
                      cellValue);
             
-            // Check that after new cell value the seed remains valid:
-            if (SudokuBoardVerifier.isValid(seed) 
-                  && !currentSeeds.contains(seed)) {
-                
+            if (!currentSeeds.contains(seed)) {
                 seed.set(targetPoint.x, 
                          targetPoint.y, 
                          Utils.UNUSED_CELL);
                 
                 currentSeeds.add(seed);
                 return seed;
-            } else {
-                // Unset the cell value:
-                seed.set(targetPoint.x, 
-                         targetPoint.y, 
-                         Utils.UNUSED_CELL);
             }
+            
+            // Unset the cell value:
+            seed.set(targetPoint.x, 
+                     targetPoint.y, 
+                     Utils.UNUSED_CELL);
         }
         
         return null;
@@ -0,0 +1,473 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class computes canonical forms of sudoku boards under the
+ * validity-preserving symmetries of {@link SudokuTransformation}: relabeling,
+ * row and column permutations within the bands and stacks, band and stack
+ * permutations, and transposition.
+ * <p>
+ * Each row gets a signature that no symmetry changes: its clue count, the
+ * sorted clue counts of the columns of its clues and the sorted board-wide
+ * occurrence counts of its values. The columns get their signatures the
+ * same way. The rows are sorted by their signatures within each band and the
+ * bands by the signatures of their rows, and likewise the columns and the
+ * stacks. Finally, the values are relabeled in the order of their first
+ * occurrence in row-major order. If the signatures tie, all the orders
+ * consistent with the sorted signatures are tried in both orientations and
+ * the lexicographically smallest board wins, which makes the canonical form
+ * an invariant: the symmetric boards get the same canonical form. Since the
+ * number of such orders grows factorially, only up to
+ * {@link #MAXIMUM_CANDIDATES} of them are tried per orientation. Beyond that,
+ * the ties are broken by the line indices, and the canonical form is only
+ * some symmetric board; the symmetric boards may then get different
+ * canonical forms, which is still correct, but lowers the hit ratio of the
+ * caches using them.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuCanonicalizer {
+
+    /**
+     * The maximum number of the row/column orders tried per orientation.
+     */
+    static final int MAXIMUM_CANDIDATES = 512;
+
+    private SudokuCanonicalizer() {
+
+    }
+
+    /**
+     * Computes the transformation mapping {@code board} to its canonical
+     * form. The board must be valid.
+     *
+     * @param board the sudoku board. Remains intact.
+     * @return the canonicalizing transformation.
+     */
+    public static SudokuTransformation canonicalize(final SudokuBoard board) {
+        final int widthHeight = board.getWidthHeight();
+        final int[] cells = new int[widthHeight * widthHeight];
+
+        for (int cellIndex = 0; cellIndex < cells.length; ++cellIndex) {
+            cells[cellIndex] = board.getCell(cellIndex);
+        }
+
+        final Candidate straight =
+                new Orientation(cells, widthHeight, false).getBestCandidate();
+
+        final Candidate transposed =
+                new Orientation(cells, widthHeight, true).getBestCandidate();
+
+        return Arrays.compare(straight.cells, transposed.cells) <= 0 ?
+               straight.getTransformation() :
+               transposed.getTransformation();
+    }
+
+    /**
+     * Computes the canonical form of {@code board}.
+     *
+     * @param board the sudoku board. Remains intact.
+     * @return the canonical form.
+     */
+    public static SudokuBoard getCanonicalForm(final SudokuBoard board) {
+        return canonicalize(board).apply(board);
+    }
+
+    /**
+     * This class holds the line orders and the relabeling of a candidate 
+     * canonical form, and its cells.
+     */
+    private static final class Candidate {
+
+        final int[] relabeling;
+        final int[] rowOrder;
+        final int[] colOrder;
+        final boolean transpose;
+        final int[] cells;
+
+        Candidate(final int[] relabeling,
+                  final int[] rowOrder,
+                  final int[] colOrder,
+                  final boolean transpose,
+                  final int[] cells) {
+            this.relabeling = relabeling;
+            this.rowOrder = rowOrder;
+            this.colOrder = colOrder;
+            this.transpose = transpose;
+            this.cells = cells;
+        }
+
+        /**
+         * Builds the transformation producing this candidate.
+         */
+        SudokuTransformation getTransformation() {
+            // The view cell (x, y) is the board cell (y, x) if transposed:
+            return transpose ?
+                   new SudokuTransformation(relabeling,
+                                            colOrder,
+                                            rowOrder,
+                                            true) :
+                   new SudokuTransformation(relabeling,
+                                            rowOrder,
+                                            colOrder,
+                                            false);
+        }
+    }
+
+    /**
+     * This class canonicalizes a board in a single orientation. The view
+     * cell {@code (x, y)} is the board cell {@code (y, x)} if transposed, and
+     * {@code (x, y)} otherwise.
+     */
+    private static final class Orientation {
+
+        private final int[] cells;
+        private final int widthHeight;
+        private final int sqrtn;
+        private final boolean transpose;
+
+        Orientation(final int[] cells,
+                    final int widthHeight,
+                    final boolean transpose) {
+            this.cells = cells;
+            this.widthHeight = widthHeight;
+            this.sqrtn = (int) Math.sqrt(widthHeight);
+            this.transpose = transpose;
+        }
+
+        Candidate getBestCandidate() {
+            // BEGIN: Compute the signatures.
+            final int[] rowCounts = new int[widthHeight];
+            final int[] colCounts = new int[widthHeight];
+            final int[] valueCounts = new int[widthHeight + 1];
+
+            for (int y = 0; y < widthHeight; ++y) {
+                for (int x = 0; x < widthHeight; ++x) {
+                    final int cellValue = get(x, y);
+
+                    if (cellValue != Utils.UNUSED_CELL) {
+                        ++rowCounts[y];
+                        ++colCounts[x];
+                        ++valueCounts[cellValue];
+                    }
+                }
+            }
+
+            final int[][] rowKeys = new int[widthHeight][];
+            final int[][] colKeys = new int[widthHeight][];
+
+            for (int i = 0; i < widthHeight; ++i) {
+                rowKeys[i] = getKey(i, true, rowCounts, colCounts, valueCounts);
+                colKeys[i] = getKey(i, false, rowCounts, colCounts, valueCounts);
+            }
+            // END: Compute the signatures.
+
+            final List<int[]> rowOrders = getLineOrders(rowKeys);
+            final List<int[]> colOrders = getLineOrders(colKeys);
+
+            final boolean enumerate =
+                    (long) rowOrders.size() * colOrders.size()
+                    <= MAXIMUM_CANDIDATES;
+
+            Candidate best = null;
+
+            for (final int[] rowOrder : rowOrders) {
+                for (final int[] colOrder : colOrders) {
+                    final Candidate candidate = getCandidate(rowOrder,
+                                                             colOrder,
+                                                             best);
+                    if (candidate != null) {
+                        best = candidate;
+                    }
+
+                    if (!enumerate) {
+                        // Once here, there are too many ties. Settle for the
+                        // first candidate:
+                        return best;
+                    }
+                }
+            }
+
+            return best;
+        }
+
+        private int get(final int x, final int y) {
+            return transpose ?
+                   cells[x * widthHeight + y] :
+                   cells[y * widthHeight + x];
+        }
+
+        /**
+         * Computes the signature of a row or a column.
+         */
+        private int[] getKey(final int line,
+                             final boolean row,
+                             final int[] rowCounts,
+                             final int[] colCounts,
+                             final int[] valueCounts) {
+            final int count = row ? rowCounts[line] : colCounts[line];
+            final int[] crossCounts = new int[count];
+            final int[] occurrences = new int[count];
+            int i = 0;
+
+            for (int j = 0; j < widthHeight; ++j) {
+                final int cellValue = row ? get(j, line) : get(line, j);
+
+                if (cellValue != Utils.UNUSED_CELL) {
+                    crossCounts[i] = row ? colCounts[j] : rowCounts[j];
+                    occurrences[i] = valueCounts[cellValue];
+                    ++i;
+                }
+            }
+
+            Arrays.sort(crossCounts);
+            Arrays.sort(occurrences);
+
+            final int[] key = new int[1 + 2 * count];
+            key[0] = count;
+            System.arraycopy(crossCounts, 0, key, 1, count);
+            System.arraycopy(occurrences, 0, key, 1 + count, count);
+            return key;
+        }
+
+        /**
+         * Computes all the line orders consistent with the sorted
+         * signatures, or only the first one if there are more than
+         * {@link #MAXIMUM_CANDIDATES} of them.
+         */
+        private List<int[]> getLineOrders(final int[][] keys) {
+            final Comparator<Integer> lineComparator =
+                    (a, b) -> Arrays.compare(keys[a], keys[b]);
+
+            // BEGIN: Sort the lines within the bands, and the bands.
+            final Integer[][] bandLines = new Integer[sqrtn][sqrtn];
+
+            for (int band = 0; band < sqrtn; ++band) {
+                for (int i = 0; i < sqrtn; ++i) {
+                    bandLines[band][i] = band * sqrtn + i;
+                }
+
+                Arrays.sort(bandLines[band], lineComparator);
+            }
+
+            final Comparator<Integer> bandComparator = (a, b) -> {
+                for (int i = 0; i < sqrtn; ++i) {
+                    final int cmp = lineComparator.compare(bandLines[a][i],
+                                                           bandLines[b][i]);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                }
+
+                return 0;
+            };
+
+            final Integer[] bands = new Integer[sqrtn];
+
+            for (int band = 0; band < sqrtn; ++band) {
+                bands[band] = band;
+            }
+
+            Arrays.sort(bands, bandComparator);
+            // END: Sort the lines within the bands, and the bands.
+
+            // BEGIN: Collect the runs of the tied elements.
+            final List<Run> runs = new ArrayList<>();
+            long orderCount = 1L;
+
+            orderCount = addRuns(bands, bandComparator, runs, orderCount);
+
+            for (int band = 0; band < sqrtn; ++band) {
+                orderCount = addRuns(bandLines[band],
+                                     lineComparator,
+                                     runs,
+                                     orderCount);
+            }
+            // END: Collect the runs of the tied elements.
+
+            final List<int[]> orders = new ArrayList<>();
+
+            if (orderCount > MAXIMUM_CANDIDATES) {
+                orders.add(getLineOrder(bands, bandLines));
+            } else {
+                enumerateOrders(runs, 0, bands, bandLines, orders);
+            }
+
+            return orders;
+        }
+
+        /**
+         * Adds the runs of the tied elements of the sorted {@code array} to
+         * {@code runs}, and returns {@code orderCount} multiplied by the
+         * number of their permutations, saturated above
+         * {@link #MAXIMUM_CANDIDATES}.
+         */
+        private static long addRuns(final Integer[] array,
+                                    final Comparator<Integer> comparator,
+                                    final List<Run> runs,
+                                    long orderCount) {
+            int start = 0;
+
+            for (int i = 1; i <= array.length; ++i) {
+                if (i < array.length
+                        && comparator.compare(array[start], array[i]) == 0) {
+                    continue;
+                }
+
+                if (i - start > 1) {
+                    runs.add(new Run(array, start, i));
+
+                    for (int k = 2; k <= i - start; ++k) {
+                        orderCount = Math.min(orderCount * k,
+                                              MAXIMUM_CANDIDATES + 1L);
+                    }
+                }
+
+                start = i;
+            }
+
+            return orderCount;
+        }
+
+        /**
+         * Permutes the runs from {@code runIndex} onward in every possible
+         * way and adds the resulting line orders to {@code orders}.
+         */
+        private void enumerateOrders(final List<Run> runs,
+                                     final int runIndex,
+                                     final Integer[] bands,
+                                     final Integer[][] bandLines,
+                                     final List<int[]> orders) {
+            if (runIndex == runs.size()) {
+                orders.add(getLineOrder(bands, bandLines));
+                return;
+            }
+
+            final Run run = runs.get(runIndex);
+            permute(run, run.from, runs, runIndex, bands, bandLines, orders);
+        }
+
+        private void permute(final Run run,
+                             final int position,
+                             final List<Run> runs,
+                             final int runIndex,
+                             final Integer[] bands,
+                             final Integer[][] bandLines,
+                             final List<int[]> orders) {
+            if (position == run.to) {
+                enumerateOrders(runs, runIndex + 1, bands, bandLines, orders);
+                return;
+            }
+
+            for (int i = position; i < run.to; ++i) {
+                swap(run.array, position, i);
+                permute(run, position + 1, runs, runIndex, bands, bandLines,
+                        orders);
+                swap(run.array, position, i);
+            }
+        }
+
+        private int[] getLineOrder(final Integer[] bands,
+                                   final Integer[][] bandLines) {
+            final int[] order = new int[widthHeight];
+            int i = 0;
+
+            for (final int band : bands) {
+                for (final int line : bandLines[band]) {
+                    order[i++] = line;
+                }
+            }
+
+            return order;
+        }
+
+        /**
+         * Builds the candidate board with the given line orders, relabeling
+         * the values in the order of their first occurrence.
+         *
+         * @return the candidate, or {@code null} if it is not
+         *         lexicographically smaller than {@code best}.
+         */
+        private Candidate getCandidate(final int[] rowOrder,
+                                       final int[] colOrder,
+                                       final Candidate best) {
+            final int[] relabeling = new int[widthHeight + 1];
+            final int[] candidateCells = new int[widthHeight * widthHeight];
+            boolean smaller = best == null;
+            int nextLabel = 1;
+            int cellIndex = 0;
+
+            for (int y = 0; y < widthHeight; ++y) {
+                for (int x = 0; x < widthHeight; ++x) {
+                    final int cellValue = get(colOrder[x], rowOrder[y]);
+
+                    if (cellValue != Utils.UNUSED_CELL
+                            && relabeling[cellValue] == 0) {
+                        relabeling[cellValue] = nextLabel++;
+                    }
+
+                    final int label = relabeling[cellValue];
+
+                    if (!smaller) {
+                        if (label > best.cells[cellIndex]) {
+                            // Once here, the candidate loses. Stop early:
+                            return null;
+                        }
+
+                        smaller = label < best.cells[cellIndex];
+                    }
+
+                    candidateCells[cellIndex++] = label;
+                }
+            }
+
+            if (!smaller) {
+                // Once here, the candidate equals the best one:
+                return null;
+            }
+
+            // The values absent from the board keep their relative order:
+            for (int cellValue = 1; cellValue <= widthHeight; ++cellValue) {
+                if (relabeling[cellValue] == 0) {
+                    relabeling[cellValue] = nextLabel++;
+                }
+            }
+
+            return new Candidate(relabeling,
+                                 rowOrder,
+                                 colOrder,
+                                 transpose,
+                                 candidateCells);
+        }
+
+        private static void swap(final Integer[] array,
+                                 final int i,
+                                 final int j) {
+            final Integer tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    /**
+     * This class denotes a range of tied elements of an array.
+     */
+    private static final class Run {
+
+        final Integer[] array;
+        final int from;
+        final int to;
+
+        Run(final Integer[] array, final int from, final int to) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.coderodde.sudoku.misc;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class holds the precomputed cell index tables of a sudoku board of a
+ * particular width/height. The cells are indexed in row-major order, so that
+ * the cell {@code (x, y)} has the index {@code y * n + x}. The instances are
+ * immutable and shared between all the threads via {@link #of(int)}.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuGeometry {
+
+    /**
+     * Caches the geometries by their width/height.
+     */
+    private static final ConcurrentMap<Integer, SudokuGeometry> CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The width/height of the board.
+     */
+    private final int widthHeight;
+
+    /**
+     * The width/height of the minisquare.
+     */
+    private final int sqrtn;
+
+    /**
+     * Maps each cell index to its row index.
+     */
+    private final int[] cellRows;
+
+    /**
+     * Maps each cell index to its column index.
+     */
+    private final int[] cellCols;
+
+    /**
+     * Maps each cell index to its minisquare index.
+     */
+    private final int[] cellMinisquares;
+
+    /**
+     * The number of peers of each cell, i.e., the number of other cells that
+     * share a row, a column or a minisquare with it.
+     */
+    private final int peerCount;
+
+    /**
+     * The flattened peer table. The peers of the cell {@code c} occupy the
+     * indices {@code c * peerCount} through 
+     * {@code (c + 1) * peerCount - 1}.
+     */
+    private final int[] peers;
+
+    /**
+     * The flattened unit table. The units {@code 0, ..., n - 1} are the rows,
+     * the units {@code n, ..., 2n - 1} are the columns and the units
+     * {@code 2n, ..., 3n - 1} are the minisquares. The cells of the unit
+     * {@code u} occupy the indices {@code u * n} through 
+     * {@code (u + 1) * n - 1}.
+     */
+    private final int[] unitCells;
+
+    /**
+     * Constructs the geometry tables.
+     *
+     * @param widthHeight the width/height of the board.
+     */
+    private SudokuGeometry(final int widthHeight) {
+        this.widthHeight = widthHeight;
+        this.sqrtn = (int) Math.sqrt(widthHeight);
+
+        final int cellCount = widthHeight * widthHeight;
+
+        this.cellRows = new int[cellCount];
+        this.cellCols = new int[cellCount];
+        this.cellMinisquares = new int[cellCount];
+
+        for (int y = 0; y < widthHeight; ++y) {
+            for (int x = 0; x < widthHeight; ++x) {
+                final int cellIndex = y * widthHeight + x;
+
+                cellRows[cellIndex] = y;
+                cellCols[cellIndex] = x;
+                cellMinisquares[cellIndex] = (y / sqrtn) * sqrtn + x / sqrtn;
+            }
+        }
+
+        this.unitCells = new int[3 * cellCount];
+
+        final int[] unitSizes = new int[3 * widthHeight];
+
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            final int rowUnit = cellRows[cellIndex];
+            final int colUnit = widthHeight + cellCols[cellIndex];
+            final int minisquareUnit = 
+                    2 * widthHeight + cellMinisquares[cellIndex];
+
+            unitCells[rowUnit * widthHeight + unitSizes[rowUnit]++] = 
+                    cellIndex;
+
+            unitCells[colUnit * widthHeight + unitSizes[colUnit]++] = 
+                    cellIndex;
+
+            unitCells[minisquareUnit * widthHeight 
+                    + unitSizes[minisquareUnit]++] = cellIndex;
+        }
+
+        this.peerCount = 3 * widthHeight - 2 * sqrtn - 1;
+        this.peers = new int[cellCount * peerCount];
+
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            int peerIndex = cellIndex * peerCount;
+
+            for (int otherIndex = 0; otherIndex < cellCount; ++otherIndex) {
+                if (otherIndex != cellIndex
+                        && (cellRows[otherIndex] == cellRows[cellIndex]
+                         || cellCols[otherIndex] == cellCols[cellIndex]
+                         || cellMinisquares[otherIndex] ==
+                            cellMinisquares[cellIndex])) {
+                    peers[peerIndex++] = otherIndex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the geometry for the boards of width/height
+     * {@code widthHeight}.
+     *
+     * @param widthHeight the width/height of the board.
+     *
+     * @return the shared geometry.
+     */
+    public static SudokuGeometry of(final int widthHeight) {
+        Utils.checkWidthHeight(widthHeight);
+        return CACHE.computeIfAbsent(widthHeight, SudokuGeometry::new);
+    }
+
+    public int getWidthHeight() {
+        return widthHeight;
+    }
+
+    public int getMinisquareWidthHeight() {
+        return sqrtn;
+    }
+
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    public int getRow(final int cellIndex) {
+        return cellRows[cellIndex];
+    }
+
+    public int getCol(final int cellIndex) {
+        return cellCols[cellIndex];
+    }
+
+    public int getMinisquare(final int cellIndex) {
+        return cellMinisquares[cellIndex];
+    }
+
+    public int getPeerCount() {
+        return peerCount;
+    }
+
+    /**
+     * Returns the {@code i}th peer of the cell {@code cellIndex}.
+     *
+     * @param cellIndex the index of the cell.
+     * @param i         the index of the peer, between 0, inclusive, and
+     *                  {@link #getPeerCount()}, exclusive.
+     *
+     * @return the index of the peer cell.
+     */
+    public int getPeer(final int cellIndex, final int i) {
+        return peers[cellIndex * peerCount + i];
+    }
+
+    public int getUnitCount() {
+        return 3 * widthHeight;
+    }
+
+    /**
+     * Returns the {@code i}th cell of the unit {@code unit}.
+     *
+     * @param unit the index of the row, column or minisquare unit.
+     * @param i    the index of the cell within the unit, between 0,
+     *             inclusive, and the width/height, exclusive.
+     *
+     * @return the index of the cell.
+     */
+    public int getUnitCell(final int unit, final int i) {
+        return unitCells[unit * widthHeight + i];
+    }
+}
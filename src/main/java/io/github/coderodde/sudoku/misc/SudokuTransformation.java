@@ -0,0 +1,265 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements a validity-preserving transformation of sudoku 
+ * boards: a relabeling of the cell values, a permutation of the rows, a 
+ * permutation of the columns and an optional transposition. The cell 
+ * {@code (x, y)} of the transformed board holds the relabeled value of the 
+ * cell {@code (cols[u], rows[v])} of the source board, where {@code (u, v)}
+ * is {@code (y, x)} if the transformation transposes and {@code (x, y)} 
+ * otherwise. The row and column permutations produced by 
+ * {@link #random(int, RandomGenerator)} keep the bands and the stacks 
+ * together, so that the minisquares map to minisquares. The instances are 
+ * immutable.
+ * 
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuTransformation {
+    
+    /**
+     * Maps each cell value to its new value. The index 0 maps 
+     * {@link Utils#UNUSED_CELL} to itself.
+     */
+    private final int[] relabeling;
+    
+    /**
+     * Maps each row of the transformed board to a row of the source board.
+     */
+    private final int[] rows;
+    
+    /**
+     * Maps each column of the transformed board to a column of the source 
+     * board.
+     */
+    private final int[] cols;
+    
+    /**
+     * Whether to transpose.
+     */
+    private final boolean transpose;
+    
+    /**
+     * Constructs a transformation. The arrays are copied.
+     * 
+     * @param relabeling the new value of each cell value. Its length is the 
+     *                   width/height plus one, and it maps 0 to 0.
+     * @param rows       the source row of each row.
+     * @param cols       the source column of each column.
+     * @param transpose  whether to transpose.
+     */
+    public SudokuTransformation(final int[] relabeling,
+                                final int[] rows,
+                                final int[] cols,
+                                final boolean transpose) {
+        final int widthHeight = rows.length;
+        
+        Utils.checkWidthHeight(widthHeight);
+        checkPermutation(rows, 0, widthHeight, "rows");
+        checkPermutation(cols, 0, widthHeight, "cols");
+        
+        if (relabeling.length != widthHeight + 1 || relabeling[0] != 0) {
+            throw new IllegalArgumentException(
+                    "relabeling does not map 0 to 0");
+        }
+        
+        checkPermutation(relabeling, 1, widthHeight, "relabeling");
+        
+        this.relabeling = relabeling.clone();
+        this.rows = rows.clone();
+        this.cols = cols.clone();
+        this.transpose = transpose;
+    }
+    
+    /**
+     * Returns the identity transformation of the boards of width/height 
+     * {@code widthHeight}.
+     * 
+     * @param widthHeight the width/height of the boards.
+     * @return the identity transformation.
+     */
+    public static SudokuTransformation identity(final int widthHeight) {
+        Utils.checkWidthHeight(widthHeight);
+        
+        final int[] relabeling = new int[widthHeight + 1];
+        final int[] indices = new int[widthHeight];
+        
+        for (int i = 0; i < widthHeight; ++i) {
+            relabeling[i + 1] = i + 1;
+            indices[i] = i;
+        }
+        
+        return new SudokuTransformation(relabeling, indices, indices, false);
+    }
+    
+    /**
+     * Returns a uniformly random composition of a cell value relabeling, row
+     * swaps within the bands, column swaps within the stacks, band swaps, 
+     * stack swaps and a transposition.
+     * 
+     * @param widthHeight the width/height of the boards.
+     * @param random      the random number generator.
+     * @return the random transformation.
+     */
+    public static SudokuTransformation random(final int widthHeight,
+                                              final RandomGenerator random) {
+        Utils.checkWidthHeight(widthHeight);
+        
+        final int[] values = new int[widthHeight];
+        
+        for (int i = 0; i < widthHeight; ++i) {
+            values[i] = i + 1;
+        }
+        
+        Utils.shuffle(values, random);
+        
+        final int[] relabeling = new int[widthHeight + 1];
+        System.arraycopy(values, 0, relabeling, 1, widthHeight);
+        
+        return new SudokuTransformation(
+                relabeling,
+                getRandomBandPermutation(widthHeight, random),
+                getRandomBandPermutation(widthHeight, random),
+                random.nextBoolean());
+    }
+    
+    /**
+     * Applies this transformation to {@code board}.
+     * 
+     * @param board the source board. Remains intact.
+     * @return the transformed board.
+     */
+    public SudokuBoard apply(final SudokuBoard board) {
+        final int widthHeight = rows.length;
+        
+        if (board.getWidthHeight() != widthHeight) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "board.getWidthHeight()(%d) != widthHeight(%d)",
+                            board.getWidthHeight(),
+                            widthHeight));
+        }
+        
+        final SudokuBoard result = new SudokuBoard(widthHeight);
+        int cellIndex = 0;
+        
+        for (int y = 0; y < widthHeight; ++y) {
+            for (int x = 0; x < widthHeight; ++x) {
+                final int u = transpose ? y : x;
+                final int v = transpose ? x : y;
+                
+                result.setCell(cellIndex++, 
+                               relabeling[board.get(cols[u], rows[v])]);
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the transformation undoing this one.
+     * 
+     * @return the inverse transformation.
+     */
+    public SudokuTransformation inverse() {
+        final int widthHeight = rows.length;
+        final int[] inverseRelabeling = new int[widthHeight + 1];
+        final int[] inverseRows = new int[widthHeight];
+        final int[] inverseCols = new int[widthHeight];
+        
+        for (int i = 0; i < widthHeight; ++i) {
+            inverseRelabeling[relabeling[i + 1]] = i + 1;
+            inverseRows[rows[i]] = i;
+            inverseCols[cols[i]] = i;
+        }
+        
+        // Once transposed, the rows of the source come from the columns of 
+        // the transformed board, and vice versa:
+        return transpose ? 
+               new SudokuTransformation(inverseRelabeling, 
+                                        inverseCols, 
+                                        inverseRows,
+                                        true) :
+               new SudokuTransformation(inverseRelabeling,
+                                        inverseRows,
+                                        inverseCols,
+                                        false);
+    }
+    
+    public int getWidthHeight() {
+        return rows.length;
+    }
+    
+    /**
+     * Returns a random permutation of the rows or columns that keeps each 
+     * band or stack together.
+     * 
+     * @param widthHeight the width/height of the board.
+     * @param random      the random number generator.
+     * @return the permutation.
+     */
+    private static int[] getRandomBandPermutation(
+            final int widthHeight,
+            final RandomGenerator random) {
+        
+        final int sqrtn = (int) Math.sqrt(widthHeight);
+        final int[] bands = new int[sqrtn];
+        final int[] offsets = new int[sqrtn];
+        final int[] permutation = new int[widthHeight];
+        
+        for (int i = 0; i < sqrtn; ++i) {
+            bands[i] = i;
+        }
+        
+        Utils.shuffle(bands, random);
+        
+        for (int band = 0; band < sqrtn; ++band) {
+            for (int i = 0; i < sqrtn; ++i) {
+                offsets[i] = i;
+            }
+            
+            Utils.shuffle(offsets, random);
+            
+            for (int i = 0; i < sqrtn; ++i) {
+                permutation[band * sqrtn + i] = 
+                        bands[band] * sqrtn + offsets[i];
+            }
+        }
+        
+        return permutation;
+    }
+    
+    /**
+     * Makes sure that {@code array} holds a permutation of 
+     * {@code 0, ..., widthHeight - 1} shifted by {@code offset}, starting 
+     * from the index {@code offset}.
+     */
+    private static void checkPermutation(final int[] array,
+                                         final int offset,
+                                         final int widthHeight,
+                                         final String name) {
+        if (array.length != widthHeight + offset) {
+            throw new IllegalArgumentException(
+                    String.format("%s.length(%d) != %d", 
+                                  name, 
+                                  array.length,
+                                  widthHeight + offset));
+        }
+        
+        final boolean[] seen = new boolean[widthHeight];
+        
+        for (int i = offset; i < array.length; ++i) {
+            final int value = array[i] - offset;
+            
+            if (value < 0 || value >= widthHeight || seen[value]) {
+                throw new IllegalArgumentException(
+                        String.format("%s is not a permutation", name));
+            }
+            
+            seen[value] = true;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.jfr.GenerationEvent;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+/**
+ * This class generates full sudoku boards by applying random 
+ * {@link SudokuTransformation}s to a canonical base pattern. Unlike 
+ * {@link RandomSudokuBoardGenerator}, it never backtracks: each board is 
+ * produced in {@code O(n^2)} time for any width/height {@code n}, which makes
+ * it suitable for bulk generation of 49x49 and larger boards. The boards are
+ * not sampled uniformly from all the valid full boards, but only from the 
+ * orbit of the base pattern under the transformations.
+ * 
+ * @version 1.1.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class TransformingSudokuBoardGenerator {
+    
+    /**
+     * The canonical full board all the generated boards are derived from.
+     */
+    private final SudokuBoard basePattern;
+    
+    /**
+     * Constructs this generator.
+     * 
+     * @param widthHeight the width/height of the generated boards.
+     */
+    public TransformingSudokuBoardGenerator(final int widthHeight) {
+        Utils.checkWidthHeight(widthHeight);
+        this.basePattern = getBasePattern(widthHeight);
+    }
+    
+    /**
+     * Generates a random full sudoku board.
+     * 
+     * @param random the random number generator.
+     * @return a random full sudoku board.
+     */
+    public SudokuBoard generate(final RandomGenerator random) {
+        final GenerationEvent event = new GenerationEvent();
+        event.begin();
+        
+        final SudokuBoard board = 
+                SudokuTransformation.random(basePattern.getWidthHeight(), 
+                                            random)
+                                    .apply(basePattern);
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.generator = "transforming";
+            event.boardSize = board.getWidthHeight();
+            event.clueCount = board.getWidthHeight() * board.getWidthHeight();
+            event.threadCount = 1;
+            event.commit();
+        }
+        
+        return board;
+    }
+    
+    /**
+     * Returns a parallel stream of {@code count} random full sudoku boards. 
+     * Each board is generated by its own split of a {@link SplittableRandom}
+     * seeded with {@code seed}, so that the same seed produces the same 
+     * boards in the same encounter order regardless of the parallelism.
+     * 
+     * @param count the number of boards to generate.
+     * @param seed  the random seed.
+     * @return the stream of generated boards.
+     */
+    public Stream<SudokuBoard> generate(final long count, final long seed) {
+        if (count < 0L) {
+            throw new IllegalArgumentException(
+                    String.format("count(%d) < 0", count));
+        }
+        
+        return new SplittableRandom(seed).splits(count)
+                                         .parallel()
+                                         .map(this::generate);
+    }
+    
+    public int getWidthHeight() {
+        return basePattern.getWidthHeight();
+    }
+    
+    /**
+     * Builds the canonical base pattern in which each row is the previous 
+     * one shifted by the minisquare width/height, and each band is the 
+     * previous one shifted by one.
+     * 
+     * @param widthHeight the width/height of the board.
+     * @return the base pattern.
+     */
+    private static SudokuBoard getBasePattern(final int widthHeight) {
+        final SudokuBoard board = new SudokuBoard(widthHeight);
+        final int sqrtn = (int) Math.sqrt(widthHeight);
+        int cellIndex = 0;
+        
+        for (int y = 0; y < widthHeight; ++y) {
+            final int shift = sqrtn * (y % sqrtn) + y / sqrtn;
+            
+            for (int x = 0; x < widthHeight; ++x) {
+                board.setCell(cellIndex++, (shift + x) % widthHeight + 1);
+            }
+        }
+        
+        return board;
+    }
+}
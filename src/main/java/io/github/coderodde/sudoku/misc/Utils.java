@@ -2,11 +2,12 @@ package io.github.coderodde.sudoku.misc;
 
 import io.github.coderodde.sudoku.SudokuBoard;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * This class provides common utilities.
  * 
- * @version 1.0.0 (Jun 22, 2025)
+ * @version 1.1.0 (Oct 17, 2026)
  * @since 1.0.0 (Jun 22, 2025)
  */
 public final class Utils {
@@ -55,6 +56,18 @@ public final class Utils {
      * @param array the array to shuffle.
      */
     public static void shuffle(final int[] array, final Random random) {
+        shuffle(array, (RandomGenerator) random);
+    }
+    
+    /**
+     * Shuffles {@code array} using any random number generator, such as a 
+     * {@link java.util.SplittableRandom} split off for a parallel task.
+     * 
+     * @param array  the array to shuffle.
+     * @param random the random number generator.
+     */
+    public static void shuffle(final int[] array, 
+                               final RandomGenerator random) {
         for (int i = array.length - 1; i > 0; --i) {
             final int j = random.nextInt(i + 1);
             final int tmp = array[j];
@@ -72,12 +85,31 @@ public final class Utils {
         shuffle(array, new Random());
     }
     
+    /**
+     * Counts the non-empty cells of {@code board}.
+     * 
+     * @param board the sudoku board.
+     * @return the number of the clues.
+     */
+    public static int countClues(final SudokuBoard board) {
+        final int cellCount = board.getWidthHeight() * board.getWidthHeight();
+        int clueCount = 0;
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            if (board.getCell(cellIndex) != Utils.UNUSED_CELL) {
+                ++clueCount;
+            }
+        }
+        
+        return clueCount;
+    }
+    
     public static boolean isCompleteSudokuBoard(final SudokuBoard board) {
-        for (int y = 0; y < board.getWidthHeight(); ++y) {
-            for (int x = 0; x < board.getWidthHeight(); ++x) {
-                if (board.get(x, y) == Utils.UNUSED_CELL) {
-                    return false;
-                }
+        final int cellCount = board.getWidthHeight() * board.getWidthHeight();
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            if (board.getCell(cellIndex) == Utils.UNUSED_CELL) {
+                return false;
             }
         }
         
@@ -0,0 +1,221 @@
+package io.github.coderodde.sudoku.server;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class holds the statistics of a {@link SudokuHttpServer}. The counts
+ * cover the whole lifetime of the server, while the latency percentiles are
+ * computed over the most recent {@link #LATENCY_SAMPLE_SIZE} requests, so
+ * that they follow the current load.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class ServerStatistics {
+
+    /**
+     * The number of the most recent request latencies kept.
+     */
+    public static final int LATENCY_SAMPLE_SIZE = 1 << 14;
+
+    /**
+     * The percentiles reported by {@link #toJson()}.
+     */
+    private static final double[] REPORTED_PERCENTILES =
+            { 50.0, 90.0, 99.0, 99.9 };
+
+    /**
+     * The JSON keys of {@link #REPORTED_PERCENTILES}.
+     */
+    private static final String[] REPORTED_PERCENTILE_KEYS =
+            { "p50", "p90", "p99", "p999" };
+
+    /**
+     * The {@link System#nanoTime()} at the construction of this object.
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * The number of the answered solve requests.
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * The number of the puzzles in the answered solve requests.
+     */
+    private final LongAdder puzzles = new LongAdder();
+
+    /**
+     * The number of the solve requests rejected due to a full queue.
+     */
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    /**
+     * The number of the batches handed to the solver.
+     */
+    private final LongAdder batches = new LongAdder();
+
+    /**
+     * The ring buffer of the most recent request latencies in nanoseconds.
+     * Guarded by {@code this}.
+     */
+    private final long[] latencies = new long[LATENCY_SAMPLE_SIZE];
+
+    /**
+     * The number of the latencies ever recorded. Guarded by {@code this}.
+     */
+    private long latencyCount;
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getPuzzles() {
+        return puzzles.sum();
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the average number of the puzzles per batch handed to the
+     * solver. Exceeds one only if concurrent requests were coalesced.
+     *
+     * @return the average batch size, or {@code 0.0} if there were no
+     *         batches.
+     */
+    public double getAverageBatchSize() {
+        final long batchCount = batches.sum();
+        return batchCount == 0L ? 0.0 : (double) puzzles.sum() / batchCount;
+    }
+
+    /**
+     * Returns the number of the solved puzzles per second of the lifetime of
+     * the server.
+     *
+     * @return the throughput.
+     */
+    public double getPuzzlesPerSecond() {
+        final long nanos = System.nanoTime() - startTime;
+        return nanos <= 0L ? 0.0 : puzzles.sum() * 1e9 / nanos;
+    }
+
+    /**
+     * Returns the given percentile of the latencies of the most recent
+     * requests.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return the latency, or {@link Duration#ZERO} if no requests have been
+     *         answered.
+     */
+    public Duration getLatencyPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException(
+                    String.format(Locale.ROOT,
+                                  "percentile(%f) not in [0, 100]",
+                                  percentile));
+        }
+
+        return Duration.ofNanos(getPercentile(getSortedLatencies(),
+                                              percentile));
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    /**
+     * Returns these statistics as a JSON object.
+     *
+     * @return the JSON text.
+     */
+    String toJson() {
+        final long[] sortedLatencies = getSortedLatencies();
+        final StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format(
+                Locale.ROOT,
+                "{\"requests\":%d,\"puzzles\":%d,\"rejectedRequests\":%d," +
+                "\"batches\":%d,\"averageBatchSize\":%.3f," +
+                "\"puzzlesPerSecond\":%.3f,\"latencyMillis\":{",
+                getRequests(),
+                getPuzzles(),
+                getRejectedRequests(),
+                getBatches(),
+                getAverageBatchSize(),
+                getPuzzlesPerSecond()));
+
+        for (int i = 0; i < REPORTED_PERCENTILES.length; ++i) {
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "\"%s\":%.3f,",
+                    REPORTED_PERCENTILE_KEYS[i],
+                    getPercentile(sortedLatencies,
+                                  REPORTED_PERCENTILES[i]) / 1e6));
+        }
+
+        sb.append(String.format(
+                Locale.ROOT,
+                "\"max\":%.3f}}",
+                getPercentile(sortedLatencies, 100.0) / 1e6));
+
+        return sb.toString();
+    }
+
+    void recordRequest(final int puzzleCount, final long latencyNanos) {
+        requests.increment();
+        puzzles.add(puzzleCount);
+
+        synchronized (this) {
+            latencies[(int) (latencyCount++ % LATENCY_SAMPLE_SIZE)] =
+                    latencyNanos;
+        }
+    }
+
+    void recordRejection() {
+        rejectedRequests.increment();
+    }
+
+    void recordBatch() {
+        batches.increment();
+    }
+
+    private long[] getSortedLatencies() {
+        final long[] sortedLatencies;
+
+        synchronized (this) {
+            sortedLatencies =
+                    Arrays.copyOf(latencies,
+                                  (int) Math.min(latencyCount,
+                                                 LATENCY_SAMPLE_SIZE));
+        }
+
+        // Sort outside the lock, so that the recording never waits for it:
+        Arrays.sort(sortedLatencies);
+        return sortedLatencies;
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the sorted values.
+     */
+    private static long getPercentile(final long[] sortedValues,
+                                      final double percentile) {
+        if (sortedValues.length == 0) {
+            return 0L;
+        }
+
+        final int rank = (int) Math.ceil(percentile / 100.0
+                                       * sortedValues.length);
+
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,487 @@
+package io.github.coderodde.sudoku.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.coderodde.sudoku.BatchSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.io.SudokuBoardReader;
+import io.github.coderodde.sudoku.io.SudokuBoardWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * This class implements a sudoku solving service over HTTP, built on the
+ * HTTP server of the JDK and bound to the loopback address only. The service
+ * has two endpoints:
+ * <ul>
+ *   <li>{@code POST /solve} takes one or more puzzles, one per line in the
+ *       formats understood by {@link SudokuBoardReader}, and answers with a
+ *       line per puzzle in the formats of {@link SudokuBoardWriter}: the
+ *       solution, or an empty line if the puzzle is invalid or has no
+ *       solution.</li>
+ *   <li>{@code GET /stats} answers with the {@link ServerStatistics} as a
+ *       JSON object.</li>
+ * </ul>
+ * The requests are handled in virtual threads, which put their puzzles into
+ * a shared queue and wait for the solutions. A single dispatcher thread
+ * drains the queue into batches of up to the maximum batch size, so that the
+ * puzzles of concurrent requests are coalesced, and submits each puzzle of
+ * a batch to the worker pool of a shared {@link BatchSudokuSolver} without
+ * waiting for it. Hence, a slow puzzle holds only its own worker, and never
+ * the puzzles queued after it. The queue holds at most
+ * the queue capacity of puzzles; a request that does not fit is rejected
+ * right away with the status 429 instead of queueing without bound.
+ *
+ * @version 1.0.0 (Oct 17, 2026)
+ * @since 1.0.0 (Oct 17, 2026)
+ */
+public final class SudokuHttpServer implements AutoCloseable {
+
+    /**
+     * The default maximum number of the queued puzzles.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    /**
+     * The default maximum number of the puzzles per batch.
+     */
+    public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 256;
+
+    /**
+     * The maximum size of a request body in bytes.
+     */
+    private static final int MAXIMUM_REQUEST_SIZE = 16 << 20;
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+
+    /**
+     * The HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor running the request handlers.
+     */
+    private final ExecutorService handlerExecutor =
+            Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The solver of the batches.
+     */
+    private final BatchSudokuSolver solver;
+
+    /**
+     * The queued puzzles.
+     */
+    private final BlockingQueue<PendingPuzzle> queue =
+            new LinkedBlockingQueue<>();
+
+    /**
+     * The free slots of the queue. A request takes a slot per puzzle, and
+     * each slot is returned once its puzzle is solved.
+     */
+    private final Semaphore queueSlots;
+
+    /**
+     * The maximum number of the queued puzzles.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The maximum number of the puzzles per batch.
+     */
+    private final int maximumBatchSize;
+
+    /**
+     * The thread draining the queue into batches.
+     */
+    private final Thread dispatcher;
+
+    /**
+     * The statistics of this server.
+     */
+    private final ServerStatistics statistics = new ServerStatistics();
+
+    /**
+     * Whether this server is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs this server with a worker per available processor and the
+     * default settings.
+     *
+     * @param port the port to listen to, or {@code 0} for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public SudokuHttpServer(final int port) throws IOException {
+        this(port,
+             Runtime.getRuntime().availableProcessors(),
+             DEFAULT_QUEUE_CAPACITY,
+             DEFAULT_MAXIMUM_BATCH_SIZE,
+             SearchOptions.getDefault());
+    }
+
+    /**
+     * Constructs this server. The server does not accept requests before
+     * {@link #start()} is called.
+     *
+     * @param port             the port to listen to, or {@code 0} for any
+     *                         free port.
+     * @param numberOfThreads  the number of the solver threads.
+     * @param queueCapacity    the maximum number of the queued puzzles.
+     * @param maximumBatchSize the maximum number of the puzzles per batch.
+     * @param options          the search options.
+     * @throws IOException if the port cannot be bound.
+     */
+    public SudokuHttpServer(final int port,
+                            final int numberOfThreads,
+                            final int queueCapacity,
+                            final int maximumBatchSize,
+                            final SearchOptions options)
+            throws IOException {
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("queueCapacity(%d) < 1", queueCapacity));
+        }
+
+        if (maximumBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    String.format("maximumBatchSize(%d) < 1",
+                                  maximumBatchSize));
+        }
+
+        this.solver = new BatchSudokuSolver(
+                numberOfThreads,
+                Objects.requireNonNull(options, "options"));
+
+        this.queueCapacity = queueCapacity;
+        this.queueSlots = new Semaphore(queueCapacity);
+        this.maximumBatchSize = maximumBatchSize;
+        this.dispatcher = Thread.ofPlatform()
+                                .name("sudoku-dispatcher")
+                                .daemon()
+                                .unstarted(this::dispatch);
+
+        // Bind to the loopback address only:
+        this.server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                0);
+
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/stats", this::handleStats);
+        server.setExecutor(handlerExecutor);
+    }
+
+    /**
+     * Starts accepting the requests.
+     */
+    public void start() {
+        dispatcher.start();
+        server.start();
+    }
+
+    /**
+     * Returns the port this server listens to.
+     *
+     * @return the bound port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public ServerStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Stops accepting the requests, answers the queued and the running ones
+     * with the status 503 and shuts down the solver threads.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        server.stop(0);
+
+        // Shut down the solver first, so that nothing waits for the running
+        // searches:
+        solver.close();
+        dispatcher.interrupt();
+
+        try {
+            dispatcher.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Once here, nothing takes from the queue any more:
+        final List<PendingPuzzle> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+
+        for (final PendingPuzzle pendingPuzzle : abandoned) {
+            pendingPuzzle.solution.cancel(false);
+        }
+
+        // Interrupts the handlers still waiting for the abandoned searches:
+        handlerExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs the server on the loopback address until the process is killed.
+     *
+     * @param args the optional port, 8080 by default.
+     * @throws IOException if the port cannot be bound.
+     */
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        final SudokuHttpServer server = new SudokuHttpServer(port);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+
+        System.out.printf("Listening on http://%s:%d/%n",
+                          InetAddress.getLoopbackAddress().getHostAddress(),
+                          server.getPort());
+    }
+
+    /**
+     * Reserves a queue slot for each of the {@code puzzles} puzzles.
+     *
+     * @param puzzles the number of the puzzles.
+     * @return {@code true} if the slots were reserved, {@code false} if the
+     *         queue is too full.
+     */
+    boolean reserveQueueSlots(final int puzzles) {
+        return queueSlots.tryAcquire(puzzles);
+    }
+
+    /**
+     * Drains the queue into batches and submits them to the solver until
+     * this server is closed. Never waits for the solutions; the queue slots
+     * bound the number of the puzzles in flight.
+     */
+    private void dispatch() {
+        final List<PendingPuzzle> batch = new ArrayList<>(maximumBatchSize);
+
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (final InterruptedException ex) {
+                return;
+            }
+
+            // Coalesce whatever else has been queued meanwhile:
+            queue.drainTo(batch, maximumBatchSize - 1);
+            statistics.recordBatch();
+
+            for (final PendingPuzzle pendingPuzzle : batch) {
+                submit(pendingPuzzle);
+            }
+
+            batch.clear();
+        }
+    }
+
+    /**
+     * Submits {@code pendingPuzzle} to the solver. The solution completes
+     * the future of the puzzle from the worker thread and returns the queue
+     * slot of the puzzle.
+     */
+    private void submit(final PendingPuzzle pendingPuzzle) {
+        try {
+            solver.solveAsync(pendingPuzzle.puzzle)
+                  .whenComplete((solution, ex) -> {
+                      if (ex == null) {
+                          pendingPuzzle.solution.complete(solution);
+                      } else {
+                          pendingPuzzle.solution.completeExceptionally(ex);
+                      }
+
+                      queueSlots.release();
+                  });
+        } catch (final RejectedExecutionException ex) {
+            // Once here, the solver is closed:
+            pendingPuzzle.solution.completeExceptionally(ex);
+            queueSlots.release();
+        }
+    }
+
+    private void handleSolve(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final long startTime = System.nanoTime();
+
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendText(exchange, STATUS_METHOD_NOT_ALLOWED, "Use POST\n");
+                return;
+            }
+
+            final byte[] body = readBody(exchange.getRequestBody());
+
+            if (body == null) {
+                sendText(exchange,
+                         STATUS_PAYLOAD_TOO_LARGE,
+                         "Request body too large\n");
+                return;
+            }
+
+            final List<SudokuBoard> puzzles = new ArrayList<>();
+
+            try (final SudokuBoardReader reader =
+                    new SudokuBoardReader(ByteBuffer.wrap(body))) {
+
+                while (reader.hasNext()) {
+                    puzzles.add(reader.next());
+                }
+            } catch (final IllegalArgumentException ex) {
+                sendText(exchange, STATUS_BAD_REQUEST, ex.getMessage() + "\n");
+                return;
+            }
+
+            if (puzzles.isEmpty()) {
+                sendText(exchange, STATUS_BAD_REQUEST, "No puzzles\n");
+                return;
+            }
+
+            if (puzzles.size() > queueCapacity) {
+                sendText(exchange,
+                         STATUS_PAYLOAD_TOO_LARGE,
+                         String.format("More than %d puzzles%n",
+                                       queueCapacity));
+                return;
+            }
+
+            if (closed || !reserveQueueSlots(puzzles.size())) {
+                // Once here, the server is saturated. Push back instead of
+                // queueing:
+                statistics.recordRejection();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendText(exchange, STATUS_TOO_MANY_REQUESTS, "Queue full\n");
+                return;
+            }
+
+            final List<PendingPuzzle> pendingPuzzles =
+                    new ArrayList<>(puzzles.size());
+
+            for (final SudokuBoard puzzle : puzzles) {
+                final PendingPuzzle pendingPuzzle = new PendingPuzzle(puzzle);
+                pendingPuzzles.add(pendingPuzzle);
+                queue.add(pendingPuzzle);
+            }
+
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+            try (final SudokuBoardWriter writer =
+                    new SudokuBoardWriter(response)) {
+
+                for (final PendingPuzzle pendingPuzzle : pendingPuzzles) {
+                    writer.write(pendingPuzzle.solution.get());
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                sendText(exchange, STATUS_SERVICE_UNAVAILABLE, "Stopped\n");
+                return;
+            } catch (final CancellationException | ExecutionException ex) {
+                sendText(exchange, STATUS_SERVICE_UNAVAILABLE, "Stopped\n");
+                return;
+            }
+
+            send(exchange,
+                 STATUS_OK,
+                 "text/plain; charset=US-ASCII",
+                 response.toByteArray());
+
+            statistics.recordRequest(puzzles.size(),
+                                     System.nanoTime() - startTime);
+        }
+    }
+
+    private void handleStats(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendText(exchange, STATUS_METHOD_NOT_ALLOWED, "Use GET\n");
+                return;
+            }
+
+            send(exchange,
+                 STATUS_OK,
+                 "application/json",
+                 statistics.toJson().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Reads the entire request body.
+     *
+     * @param in the request body stream.
+     * @return the body, or {@code null} if it exceeds
+     *         {@link #MAXIMUM_REQUEST_SIZE}.
+     * @throws IOException if reading fails.
+     */
+    private static byte[] readBody(final InputStream in) throws IOException {
+        final byte[] body = in.readNBytes(MAXIMUM_REQUEST_SIZE + 1);
+        return body.length > MAXIMUM_REQUEST_SIZE ? null : body;
+    }
+
+    private static void sendText(final HttpExchange exchange,
+                                 final int status,
+                                 final String text) throws IOException {
+        send(exchange,
+             status,
+             "text/plain; charset=US-ASCII",
+             text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void send(final HttpExchange exchange,
+                             final int status,
+                             final String contentType,
+                             final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * This static inner class holds a queued puzzle along with the future of
+     * its solution.
+     */
+    private static final class PendingPuzzle {
+
+        private final SudokuBoard puzzle;
+        private final CompletableFuture<SudokuBoard> solution =
+                new CompletableFuture<>();
+
+        PendingPuzzle(final SudokuBoard puzzle) {
+            this.puzzle = puzzle;
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.github.coderodde.sudoku;
 
 import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
 import io.github.coderodde.sudoku.SudokuBoard;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 public final class SudokuBoardTest {
@@ -54,4 +57,72 @@ public final class SudokuBoardTest {
         
         assertFalse(SudokuBoardVerifier.isValid(board));
     }
+    
+    @Test
+    public void copyEqualsAndHashesLikeSource() {
+        final SudokuBoard board = new SudokuBoard(9);
+        
+        board.set(2, 7, 5);
+        board.set(8, 0, 9);
+        
+        final int hash = board.hashCode();
+        final SudokuBoard copy = new SudokuBoard(board);
+        
+        assertEquals(board, copy);
+        assertEquals(hash, copy.hashCode());
+        
+        copy.set(8, 0, 1);
+        
+        assertNotEquals(board, copy);
+        assertNotEquals(hash, copy.hashCode());
+        
+        copy.set(8, 0, 9);
+        
+        assertEquals(board, copy);
+        assertEquals(hash, copy.hashCode());
+    }
+    
+    @Test
+    public void storesLargeCellValues() {
+        final SudokuBoard board = new SudokuBoard(144);
+        
+        board.set(143, 143, 144);
+        board.setCell(0, 130);
+        
+        assertEquals(144, board.getCell(144 * 144 - 1));
+        assertEquals(130, board.get(0, 0));
+        assertEquals(board, new SudokuBoard(board));
+    }
+    
+    @Test
+    public void rendersOutOfRangeCellValues() {
+        final SudokuBoard board = new SudokuBoard(4);
+        
+        board.set(1, 0, -1);
+        board.set(3, 1, 10);
+        board.set(0, 3, -127);
+        
+        assertEquals("+-+-+-+-+\n"
+                   + "|0|-1|0|0|\n"
+                   + "+-+-+-+-+\n"
+                   + "|0|0|0|10|\n"
+                   + "+-+-+-+-+\n"
+                   + "|0|0|0|0|\n"
+                   + "+-+-+-+-+\n"
+                   + "|-127|0|0|0|\n"
+                   + "+-+-+-+-+",
+                   board.toString());
+        
+        final SudokuBoard large = new SudokuBoard(16);
+        
+        large.set(0, 0, -5);
+        large.set(1, 0, 100);
+        
+        assertTrue(large.toString().contains("\n|-5|100| 0|"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnCellValueNotFittingStorage() {
+        new SudokuBoard(9).set(0, 0, 128);
+    }
 }
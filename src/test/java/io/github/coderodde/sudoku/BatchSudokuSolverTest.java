@@ -0,0 +1,143 @@
+package io.github.coderodde.sudoku;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class BatchSudokuSolverTest {
+    
+    private static final SearchOptions OPTIONS = 
+            SearchOptions.getDefault()
+                         .withCellOrder(
+                            SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES)
+                         .withPropagation(true);
+
+    @Test
+    public void solvesAllInInputOrder() {
+        final List<SudokuBoard> puzzles = getPuzzles(40);
+        
+        try (final BatchSudokuSolver solver = 
+                new BatchSudokuSolver(3, OPTIONS)) {
+            
+            final List<SudokuBoard> solutions = solver.solveAll(puzzles);
+            
+            assertEquals(puzzles.size(), solutions.size());
+            
+            for (int i = 0; i < puzzles.size(); ++i) {
+                assertSolves(puzzles.get(i), solutions.get(i));
+            }
+        }
+    }
+    
+    @Test
+    public void solvesStreamInInputOrder() {
+        final List<SudokuBoard> puzzles = getPuzzles(40);
+        
+        try (final BatchSudokuSolver solver = 
+                new BatchSudokuSolver(3, OPTIONS)) {
+            
+            final List<SudokuBoard> solutions = 
+                    solver.solveAll(puzzles.stream())
+                          .collect(Collectors.toList());
+            
+            for (int i = 0; i < puzzles.size(); ++i) {
+                assertSolves(puzzles.get(i), solutions.get(i));
+            }
+        }
+    }
+    
+    @Test
+    public void solvesAllOnVirtualThreads() {
+        final List<SudokuBoard> puzzles = getPuzzles(40);
+        
+        try (final BatchSudokuSolver solver = 
+                new BatchSudokuSolver(3, 
+                                      OPTIONS, 
+                                      ExecutionMode.VIRTUAL_THREADS)) {
+            
+            final List<SudokuBoard> solutions = solver.solveAll(puzzles);
+            
+            for (int i = 0; i < puzzles.size(); ++i) {
+                assertSolves(puzzles.get(i), solutions.get(i));
+            }
+        }
+    }
+    
+    @Test
+    public void reportsEachPuzzleOnceInCompletionOrder() {
+        final List<SudokuBoard> puzzles = getPuzzles(40);
+        final SudokuBoard invalid = new SudokuBoard(9);
+        
+        invalid.set(0, 0, 1);
+        invalid.set(1, 0, 1);
+        puzzles.add(invalid);
+        
+        final boolean[] reported = new boolean[puzzles.size()];
+        
+        try (final BatchSudokuSolver solver = 
+                new BatchSudokuSolver(3, OPTIONS)) {
+            
+            solver.solveAll(puzzles, (index, puzzle, solution) -> {
+                assertFalse(reported[(int) index]);
+                assertSame(puzzles.get((int) index), puzzle);
+                reported[(int) index] = true;
+                
+                if (puzzle == invalid) {
+                    assertNull(solution);
+                } else {
+                    assertSolves(puzzle, solution);
+                }
+            });
+        }
+        
+        for (final boolean r : reported) {
+            assertTrue(r);
+        }
+    }
+    
+    @Test
+    public void solvesAsynchronously() throws Exception {
+        final List<SudokuBoard> puzzles = getPuzzles(20);
+        final List<CompletableFuture<SudokuBoard>> solutions = 
+                new ArrayList<>();
+        
+        final BatchSudokuSolver solver = new BatchSudokuSolver(3, OPTIONS);
+        
+        try {
+            for (final SudokuBoard puzzle : puzzles) {
+                solutions.add(solver.solveAsync(puzzle));
+            }
+            
+            for (int i = 0; i < puzzles.size(); ++i) {
+                assertSolves(puzzles.get(i), solutions.get(i).get());
+            }
+        } finally {
+            solver.close();
+        }
+        
+        try {
+            solver.solveAsync(puzzles.get(0));
+            fail("A closed solver accepted a puzzle");
+        } catch (final RejectedExecutionException ex) {
+            // Expected.
+        }
+    }
+    
+    private static List<SudokuBoard> getPuzzles(final int count) {
+        final List<SudokuBoard> puzzles = new ArrayList<>(count);
+        
+        for (int i = 0; i < count; ++i) {
+            puzzles.add(getPuzzle(i % 2 == 0 ? 9 : 16, 
+                                  i % 2 == 0 ? 50 : 120,
+                                  100L + i));
+        }
+        
+        return puzzles;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.coderodde.sudoku;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.misc.SudokuTransformation;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class CachingSudokuSolverTest {
+
+    @Test
+    public void hitsOnSymmetricPuzzles() {
+        final CachingSudokuSolver cache = 
+                new CachingSudokuSolver(new ParallelSudokuSolver(), 16);
+        
+        final SplittableRandom random = new SplittableRandom(3L);
+        final SudokuBoard puzzle = getPuzzle(9, 50, 1L);
+        final SudokuBoard copy = new SudokuBoard(puzzle);
+        
+        assertSolves(puzzle, 
+                     cache.solve(puzzle, 8, 2, SearchOptions.getDefault()));
+        
+        // The input is left intact:
+        assertEquals(copy, puzzle);
+        assertEquals(0L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+        
+        for (int i = 0; i < 10; ++i) {
+            final SudokuBoard symmetricPuzzle = 
+                    SudokuTransformation.random(9, random).apply(puzzle);
+            
+            final SolveResult result = 
+                    cache.solve(symmetricPuzzle, 
+                                8,
+                                2,
+                                SearchOptions.getDefault(),
+                                null,
+                                null);
+            
+            assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+            assertSolves(symmetricPuzzle, result.getSolution());
+        }
+        
+        assertEquals(10L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+        assertEquals(1, cache.size());
+        assertEquals(10.0 / 11.0, cache.getHitRatio(), 1e-9);
+    }
+    
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        final CachingSudokuSolver cache = 
+                new CachingSudokuSolver(new ParallelSudokuSolver(), 2, 1);
+        
+        final SudokuBoard puzzle1 = getPuzzle(9, 40, 1L);
+        final SudokuBoard puzzle2 = getPuzzle(16, 100, 2L);
+        final SudokuBoard puzzle3 = getPuzzle(16, 100, 4L);
+        
+        cache.solve(puzzle1, 8, 2, SearchOptions.getDefault());
+        cache.solve(puzzle2, 8, 2, SearchOptions.getDefault());
+        
+        // Touch the first puzzle, so that the second one is the eldest:
+        cache.solve(puzzle1, 8, 2, SearchOptions.getDefault());
+        cache.solve(puzzle3, 8, 2, SearchOptions.getDefault());
+        
+        assertEquals(1L, cache.getEvictions());
+        assertEquals(2, cache.size());
+        
+        cache.solve(puzzle1, 8, 2, SearchOptions.getDefault());
+        assertEquals(2L, cache.getHits());
+        
+        cache.solve(puzzle2, 8, 2, SearchOptions.getDefault());
+        assertEquals(2L, cache.getHits());
+        assertEquals(4L, cache.getMisses());
+    }
+    
+    @Test
+    public void doesNotCacheUnsolvablePuzzles() {
+        final CachingSudokuSolver cache = 
+                new CachingSudokuSolver(new ParallelSudokuSolver(), 4);
+        
+        final SudokuBoard board = new SudokuBoard(9);
+        
+        // The cell (8, 0) has no candidate values left:
+        for (int x = 0; x < 8; ++x) {
+            board.set(x, 0, x + 1);
+        }
+        
+        board.set(8, 5, 9);
+        
+        final SolveResult result = 
+                cache.solve(board, 8, 2, SearchOptions.getDefault(), 
+                            null, null);
+        
+        assertEquals(SolveResult.Status.UNSOLVABLE, result.getStatus());
+        assertEquals(0, cache.size());
+    }
+}
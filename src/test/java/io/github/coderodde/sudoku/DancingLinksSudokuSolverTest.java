@@ -0,0 +1,69 @@
+package io.github.coderodde.sudoku;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class DancingLinksSudokuSolverTest {
+
+    @Test
+    public void solves9x9Board() {
+        final SudokuBoard puzzle = getPuzzle(9, 60, 11L);
+        
+        assertSolves(puzzle, 
+                     new DancingLinksSudokuSolver().solve(puzzle, 4));
+    }
+
+    @Test
+    public void solves25x25Board() {
+        final SudokuBoard puzzle = getPuzzle(25, 300, 12L);
+        
+        assertSolves(puzzle,
+                     new DancingLinksSudokuSolver().solve(puzzle, 4));
+    }
+    
+    @Test
+    public void solvesInCallingThread() {
+        final SudokuBoard puzzle = getPuzzle(16, 120, 14L);
+        final SharedThreadState sharedThreadState = new SharedThreadState();
+        
+        assertSolves(puzzle,
+                     new DancingLinksSudokuSolver()
+                             .solveInCallingThread(puzzle, 
+                                                   sharedThreadState));
+        
+        final SudokuBoard unsolvable = new SudokuBoard(4);
+        
+        unsolvable.set(0, 0, 1);
+        unsolvable.set(1, 0, 2);
+        unsolvable.set(3, 1, 3);
+        unsolvable.set(3, 2, 4);
+        
+        assertNull(new DancingLinksSudokuSolver()
+                           .solveInCallingThread(unsolvable, 
+                                                 new SharedThreadState()));
+    }
+    
+    @Test
+    public void leavesInputIntact() {
+        final SudokuBoard puzzle = getPuzzle(16, 120, 13L);
+        final SudokuBoard copy = new SudokuBoard(puzzle);
+        
+        new DancingLinksSudokuSolver().solve(puzzle, 2);
+        
+        assertEquals(copy, puzzle);
+    }
+    
+    @Test
+    public void returnsNullOnUnsolvableBoard() {
+        final SudokuBoard board = new SudokuBoard(4);
+        
+        board.set(0, 0, 1);
+        board.set(1, 0, 2);
+        board.set(3, 1, 3);
+        board.set(3, 2, 4);
+        
+        assertNull(new DancingLinksSudokuSolver().solve(board, 2));
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.coderodde.sudoku;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.DistributedProtocol.Connection;
+import io.github.coderodde.sudoku.DistributedProtocol.Message;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class DistributedSudokuSolverTest {
+
+    @Test
+    public void solvesWithInProcessWorkers() throws Exception {
+        try (final DistributedSudokuSolver solver =
+                new DistributedSudokuSolver(0)) {
+
+            solver.start();
+
+            final List<DistributedSudokuWorker> workers =
+                    startWorkers(solver, 3);
+
+            try {
+                final SudokuBoard puzzle = getPuzzle(16, 100, 2L);
+                final SolveResult result =
+                        solver.solve(puzzle, 64, Duration.ofSeconds(60));
+
+                assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+                assertSolves(puzzle, result.getSolution());
+
+                // The following solves reuse the workers:
+                for (long seed = 1L; seed <= 3L; ++seed) {
+                    final SudokuBoard nextPuzzle = getPuzzle(9, 50, seed);
+
+                    assertSolves(nextPuzzle,
+                                 solver.solve(nextPuzzle,
+                                              Duration.ofSeconds(60))
+                                       .getSolution());
+                }
+            } finally {
+                closeWorkers(workers);
+            }
+        }
+    }
+
+    @Test
+    public void provesUnsolvableOnWorkers() throws Exception {
+        final SudokuBoard puzzle = new SudokuBoard(9);
+
+        // The cell (8, 0) has no candidate values left:
+        for (int x = 0; x < 8; ++x) {
+            puzzle.set(x, 0, x + 1);
+        }
+
+        puzzle.set(8, 1, 9);
+
+        try (final DistributedSudokuSolver solver =
+                new DistributedSudokuSolver(0)) {
+
+            solver.start();
+
+            final List<DistributedSudokuWorker> workers =
+                    startWorkers(solver, 2);
+
+            try {
+                // A single subproblem is the board itself, so that a worker
+                // has to exhaust it:
+                final SolveResult result =
+                        solver.solve(puzzle, 1, Duration.ofSeconds(60));
+
+                assertEquals(SolveResult.Status.UNSOLVABLE,
+                             result.getStatus());
+                assertNull(result.getSolution());
+
+                // The seed computation refutes it without the workers:
+                assertEquals(SolveResult.Status.UNSOLVABLE,
+                             solver.solve(puzzle, 64, Duration.ofSeconds(60))
+                                   .getStatus());
+            } finally {
+                closeWorkers(workers);
+            }
+        }
+    }
+
+    @Test
+    public void waitsForWorkers() throws Exception {
+        try (final DistributedSudokuSolver solver =
+                new DistributedSudokuSolver(0)) {
+
+            solver.start();
+
+            final SudokuBoard puzzle = getPuzzle(9, 50, 1L);
+
+            assertEquals(SolveResult.Status.TIMED_OUT,
+                         solver.solve(puzzle, Duration.ofMillis(100))
+                               .getStatus());
+
+            // A worker joining during the solve picks up the subproblems:
+            final List<DistributedSudokuWorker> workers = new ArrayList<>();
+            final Thread starter = new Thread(() -> {
+                try {
+                    Thread.sleep(100L);
+                } catch (final InterruptedException ex) {
+                    return;
+                }
+
+                workers.addAll(startWorkers(solver, 1));
+            });
+
+            starter.start();
+
+            try {
+                final SolveResult result =
+                        solver.solve(puzzle, Duration.ofSeconds(60));
+
+                assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+                assertSolves(puzzle, result.getSolution());
+            } finally {
+                starter.join();
+                closeWorkers(workers);
+            }
+        }
+    }
+
+    @Test
+    public void solvesWithWorkerProcesses() throws Exception {
+        final String java =
+                Path.of(System.getProperty("java.home"), "bin", "java")
+                    .toString();
+
+        final DistributedSudokuSolver solver = new DistributedSudokuSolver(0);
+        final List<Process> processes = new ArrayList<>();
+
+        try {
+            solver.start();
+
+            for (int i = 0; i < 2; ++i) {
+                processes.add(
+                        new ProcessBuilder(
+                                java,
+                                "-cp",
+                                System.getProperty("java.class.path"),
+                                DistributedSudokuWorker.class.getName(),
+                                Integer.toString(solver.getPort()),
+                                "1")
+                                .redirectOutput(
+                                        ProcessBuilder.Redirect.DISCARD)
+                                .redirectError(
+                                        ProcessBuilder.Redirect.INHERIT)
+                                .start());
+            }
+
+            final SudokuBoard puzzle = getPuzzle(16, 100, 4L);
+            final SolveResult result =
+                    solver.solve(puzzle, 64, Duration.ofSeconds(120));
+
+            assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+            assertSolves(puzzle, result.getSolution());
+        } finally {
+            // Closing the coordinator disconnects the workers, which then
+            // exit:
+            solver.close();
+
+            for (final Process process : processes) {
+                if (!process.waitFor(30L, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    fail("A worker process did not exit");
+                }
+
+                assertEquals(0, process.exitValue());
+            }
+        }
+    }
+
+    @Test
+    public void handsOutAbortedSubproblemAgain() throws Exception {
+        try (final DistributedSudokuSolver solver =
+                new DistributedSudokuSolver(0)) {
+
+            solver.start();
+
+            final SudokuBoard puzzle = getPuzzle(9, 50, 1L);
+            final CompletableFuture<SolveResult> future =
+                    CompletableFuture.supplyAsync(
+                            () -> solver.solve(puzzle,
+                                               1,
+                                               Duration.ofSeconds(60)));
+
+            try (final Connection connection =
+                    new Connection(
+                            SocketChannel.open(
+                                    new InetSocketAddress(
+                                            InetAddress.getLoopbackAddress(),
+                                            solver.getPort())))) {
+
+                connection.send(DistributedProtocol.READY,
+                                DistributedProtocol.NO_JOB);
+
+                final Message work = connection.receive();
+
+                assertEquals(DistributedProtocol.WORK, work.type);
+
+                // Give up the subproblem without being cancelled:
+                connection.send(DistributedProtocol.ABORTED, work.jobId);
+
+                final Message retry = connection.receive();
+
+                assertEquals(DistributedProtocol.WORK, retry.type);
+                assertEquals(work.jobId, retry.jobId);
+                assertEquals(work.board, retry.board);
+
+                connection.send(DistributedProtocol.SOLVED,
+                                retry.jobId,
+                                new ParallelSudokuSolver()
+                                        .solve(retry.board, 4));
+
+                final SolveResult result = future.get(60L, TimeUnit.SECONDS);
+
+                assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+                assertSolves(puzzle, result.getSolution());
+            }
+        }
+    }
+
+    private static List<DistributedSudokuWorker>
+        startWorkers(final DistributedSudokuSolver solver,
+                     final int numberOfWorkers) {
+
+        final List<DistributedSudokuWorker> workers = new ArrayList<>();
+
+        for (int i = 0; i < numberOfWorkers; ++i) {
+            final DistributedSudokuWorker worker =
+                    new DistributedSudokuWorker(
+                            new InetSocketAddress(
+                                    InetAddress.getLoopbackAddress(),
+                                    solver.getPort()),
+                            1,
+                            SearchOptions.getDefault());
+
+            workers.add(worker);
+            Thread.ofPlatform().daemon().start(worker);
+        }
+
+        return workers;
+    }
+
+    private static void closeWorkers(
+            final List<DistributedSudokuWorker> workers) {
+
+        for (final DistributedSudokuWorker worker : workers) {
+            worker.close();
+        }
+    }
+}
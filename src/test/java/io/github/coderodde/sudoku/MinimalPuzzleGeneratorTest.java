@@ -0,0 +1,71 @@
+package io.github.coderodde.sudoku;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class MinimalPuzzleGeneratorTest {
+    
+    @Test
+    public void generatesMinimalPuzzle() {
+        final SudokuBoard solution = getPuzzle(9, 0, 7L);
+        final SolutionCounter counter = new SolutionCounter(9);
+        
+        try (final MinimalPuzzleGenerator generator = 
+                new MinimalPuzzleGenerator(4)) {
+            
+            final SudokuBoard puzzle = 
+                    generator.generateMinimal(solution, new Random(7L));
+            
+            assertTrue(counter.hasUniqueSolution(puzzle));
+            
+            for (int cellIndex = 0; cellIndex < 81; ++cellIndex) {
+                final int cellValue = puzzle.getCell(cellIndex);
+                
+                if (cellValue == Utils.UNUSED_CELL) {
+                    continue;
+                }
+                
+                assertEquals(solution.getCell(cellIndex), cellValue);
+                
+                // No clue may be removed without losing the uniqueness:
+                puzzle.setCell(cellIndex, Utils.UNUSED_CELL);
+                assertEquals(2L, counter.countSolutions(puzzle, 2L));
+                puzzle.setCell(cellIndex, cellValue);
+            }
+        }
+    }
+    
+    @Test
+    public void stopsAtTargetClueCount() {
+        final SudokuBoard solution = getPuzzle(16, 0, 4L);
+        
+        try (final MinimalPuzzleGenerator generator = 
+                new MinimalPuzzleGenerator(4)) {
+            
+            final SudokuBoard puzzle = 
+                    generator.generate(solution, 150, new Random(4L));
+            
+            int clueCount = 0;
+            
+            for (int cellIndex = 0; cellIndex < 256; ++cellIndex) {
+                if (puzzle.getCell(cellIndex) != Utils.UNUSED_CELL) {
+                    ++clueCount;
+                }
+            }
+            
+            assertEquals(150, clueCount);
+            assertTrue(new SolutionCounter(16).hasUniqueSolution(puzzle));
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnAmbiguousBoard() {
+        try (final MinimalPuzzleGenerator generator = 
+                new MinimalPuzzleGenerator(2)) {
+            generator.generateMinimal(new SudokuBoard(9), new Random());
+        }
+    }
+}
@@ -0,0 +1,549 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.FrontierSudokuBoardSeedProvider;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardGenerator;
+import io.github.coderodde.sudoku.misc.RandomSudokuBoardPruner;
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import io.github.coderodde.sudoku.misc.Utils;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class ParallelSudokuSolverTest {
+
+    @Test
+    public void solves9x9Board() {
+        final SudokuBoard puzzle = getPuzzle(9, 50, 1L);
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle), 
+                                                 32, 
+                                                 4);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solves16x16Board() {
+        final SudokuBoard puzzle = getPuzzle(16, 100, 2L);
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle), 
+                                                 64, 
+                                                 4);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solves16x16BoardOnVirtualThreads() {
+        final SudokuBoard puzzle = getPuzzle(16, 100, 2L);
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver(ExecutionMode.VIRTUAL_THREADS)
+                        .solve(new SudokuBoard(puzzle), 64, 4);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solves16x16BoardViaForkJoin() {
+        final SudokuBoard puzzle = getPuzzle(16, 100, 3L);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        
+        try {
+            final SudokuBoard solution = 
+                    new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                     pool,
+                                                     3);
+            
+            assertSolves(puzzle, solution);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void solves16x16BoardViaMinimumRemainingValues() {
+        final SudokuBoard puzzle = getPuzzle(16, 150, 4L);
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder
+                                             .MINIMUM_REMAINING_VALUES);
+        
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 64,
+                                                 4,
+                                                 options);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solves9x9BoardViaLeastConstrainingValue() {
+        final SudokuBoard puzzle = getPuzzle(9, 55, 5L);
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder
+                                             .MINIMUM_REMAINING_VALUES)
+                             .withValueOrder(
+                                SearchOptions.ValueOrder.LEAST_CONSTRAINING);
+        
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 32,
+                                                 4,
+                                                 options);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solvesHard9x9BoardViaPropagation() {
+        final SudokuBoard puzzle = getHardPuzzle();
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder
+                                             .MINIMUM_REMAINING_VALUES)
+                             .withPropagation(true);
+        
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 32,
+                                                 4,
+                                                 options);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void solves16x16BoardWithLubyRestarts() {
+        final SudokuBoard puzzle = getPuzzle(16, 100, 2L);
+        final SolverStatistics statistics = new SolverStatistics();
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withRestarts(SearchOptions.RestartPolicy.LUBY,
+                                           4L)
+                             .withValueHints(true);
+        
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 1,
+                                                 1,
+                                                 options,
+                                                 null,
+                                                 null,
+                                                 statistics);
+        
+        assertSolves(puzzle, result.getSolution());
+        assertTrue(statistics.getRestarts() > 0L);
+    }
+    
+    @Test
+    public void solves25x25BoardWithGeometricRestarts() {
+        final SudokuBoard puzzle = getPuzzle(25, 250, 1L);
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder
+                                             .MINIMUM_REMAINING_VALUES)
+                             .withPropagation(true)
+                             .withRestarts(
+                                SearchOptions.RestartPolicy.GEOMETRIC,
+                                16L);
+        
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 16,
+                                                 2,
+                                                 options);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test
+    public void countsSolutionsOfEmpty4x4Board() {
+        final ParallelSudokuSolver solver = new ParallelSudokuSolver();
+        
+        assertEquals(288L, solver.countSolutions(new SudokuBoard(4), 1000L, 4));
+        assertEquals(288L, solver.countSolutions(new SudokuBoard(4), 1000L, 1));
+    }
+    
+    @Test
+    public void stopsCountingAtLimit() {
+        assertEquals(100L, 
+                     new ParallelSudokuSolver()
+                             .countSolutions(new SudokuBoard(9), 100L, 4));
+    }
+    
+    @Test
+    public void checksUniqueness() {
+        final ParallelSudokuSolver solver = new ParallelSudokuSolver();
+        final SudokuBoard puzzle = getHardPuzzle();
+        final SudokuBoard copy = new SudokuBoard(puzzle);
+        
+        assertTrue(solver.hasUniqueSolution(puzzle));
+        assertEquals(copy, puzzle);
+        assertFalse(solver.hasUniqueSolution(getPuzzle(9, 70, 1L)));
+        
+        final SudokuBoard unsolvable = new SudokuBoard(9);
+        
+        for (int x = 0; x < 8; ++x) {
+            unsolvable.set(x, 0, x + 1);
+        }
+        
+        unsolvable.set(8, 5, 9);
+        
+        assertEquals(0L, solver.countSolutions(unsolvable, 2L));
+    }
+    
+    @Test
+    public void solvesEmpty36x36Board() {
+        final SudokuBoard puzzle = new SudokuBoard(36);
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder
+                                             .MINIMUM_REMAINING_VALUES)
+                             .withPropagation(true);
+        
+        final SudokuBoard solution = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(puzzle),
+                                                 8,
+                                                 2,
+                                                 options);
+        
+        assertSolves(puzzle, solution);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnInvalidBoard() {
+        final SudokuBoard board = new SudokuBoard(4);
+        board.set(0, 0, 1);
+        board.set(1, 0, 1);
+        
+        new ParallelSudokuSolver().solve(board, 4, 2);
+    }
+    
+    @Test
+    public void returnsSolvedResult() {
+        final SudokuBoard puzzle = getPuzzle(9, 50, 6L);
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(puzzle,
+                                                 32,
+                                                 4,
+                                                 SearchOptions.getDefault(),
+                                                 Duration.ofSeconds(60));
+        
+        assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+        assertSolves(puzzle, result.getSolution());
+        assertFalse(result.getElapsedTime().isNegative());
+    }
+    
+    @Test
+    public void returnsUnsolvableResult() {
+        final SudokuBoard puzzle = new SudokuBoard(9);
+        
+        // The cell (8, 0) has no candidate values left:
+        for (int x = 0; x < 8; ++x) {
+            puzzle.set(x, 0, x + 1);
+        }
+        
+        puzzle.set(8, 5, 9);
+        
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(puzzle,
+                                                 32,
+                                                 4,
+                                                 SearchOptions.getDefault(),
+                                                 Duration.ofSeconds(60));
+        
+        assertEquals(SolveResult.Status.UNSOLVABLE, result.getStatus());
+        assertNull(result.getSolution());
+    }
+    
+    @Test
+    public void returnsTimedOutResult() {
+        // The row-major search does not finish an empty 64x64 board in time:
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(64),
+                                                 8,
+                                                 2,
+                                                 SearchOptions.getDefault(),
+                                                 Duration.ofMillis(200));
+        
+        assertEquals(SolveResult.Status.TIMED_OUT, result.getStatus());
+        assertNull(result.getSolution());
+        assertTrue(result.getElapsedTime().compareTo(
+                Duration.ofMillis(200)) >= 0);
+    }
+    
+    @Test
+    public void returnsTimedOutResultViaForkJoin() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        
+        try {
+            final SolveResult result = 
+                    new ParallelSudokuSolver().solve(new SudokuBoard(64),
+                                                     pool,
+                                                     2,
+                                                     SearchOptions.getDefault(),
+                                                     Duration.ofMillis(200),
+                                                     null);
+            
+            assertEquals(SolveResult.Status.TIMED_OUT, result.getStatus());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    public void returnsCancelledResult() throws InterruptedException {
+        final CancellationToken token = new CancellationToken();
+        final Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+            } catch (final InterruptedException ex) {
+                return;
+            }
+            
+            token.cancel();
+        });
+        
+        canceller.start();
+        
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(new SudokuBoard(64),
+                                                 8,
+                                                 2,
+                                                 SearchOptions.getDefault(),
+                                                 token);
+        
+        canceller.join();
+        
+        assertEquals(SolveResult.Status.CANCELLED, result.getStatus());
+        
+        // A cancelled token cancels the later solves right away:
+        assertEquals(SolveResult.Status.CANCELLED,
+                     new ParallelSudokuSolver()
+                             .solve(new SudokuBoard(64),
+                                    8,
+                                    2,
+                                    SearchOptions.getDefault(),
+                                    token)
+                             .getStatus());
+    }
+    
+    @Test
+    public void racesPortfolio() {
+        final SudokuBoard puzzle = getHardPuzzle();
+        final SudokuBoard copy = new SudokuBoard(puzzle);
+        final SolveResult result = 
+                new ParallelSudokuSolver().solvePortfolio(puzzle, 
+                                                          null, 
+                                                          null);
+        
+        assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+        assertNotNull(result.getWinningStrategy());
+        assertEquals(copy, puzzle);
+        assertSolves(puzzle, result.getSolution());
+    }
+    
+    @Test
+    public void reportsWinningStrategy() {
+        final SudokuBoard puzzle = getPuzzle(16, 100, 2L);
+        final SolveResult result = 
+                new ParallelSudokuSolver(ExecutionMode.VIRTUAL_THREADS)
+                        .solvePortfolio(
+                                puzzle, 
+                                List.of(PortfolioStrategy.DANCING_LINKS),
+                                Duration.ofSeconds(60),
+                                null);
+        
+        assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+        assertEquals(PortfolioStrategy.DANCING_LINKS, 
+                     result.getWinningStrategy());
+        
+        assertSolves(puzzle, result.getSolution());
+    }
+    
+    @Test
+    public void provesUnsolvableViaPortfolio() {
+        final SudokuBoard puzzle = new SudokuBoard(9);
+        
+        for (int x = 0; x < 8; ++x) {
+            puzzle.set(x, 0, x + 1);
+        }
+        
+        puzzle.set(8, 5, 9);
+        
+        final SolveResult result = 
+                new ParallelSudokuSolver().solvePortfolio(puzzle, 
+                                                          null, 
+                                                          null);
+        
+        assertEquals(SolveResult.Status.UNSOLVABLE, result.getStatus());
+        assertNull(result.getSolution());
+        assertNotNull(result.getWinningStrategy());
+    }
+    
+    @Test
+    public void cancelsPortfolio() {
+        final CancellationToken token = new CancellationToken();
+        token.cancel();
+        
+        final SolveResult result = 
+                new ParallelSudokuSolver().solvePortfolio(new SudokuBoard(16),
+                                                          null, 
+                                                          token);
+        
+        assertEquals(SolveResult.Status.CANCELLED, result.getStatus());
+        assertNull(result.getWinningStrategy());
+    }
+    
+    @Test
+    public void collectsStatistics() {
+        final SudokuBoard puzzle = new SudokuBoard(16);
+        final SolverStatistics statistics = new SolverStatistics();
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(puzzle,
+                                                 32,
+                                                 4,
+                                                 SearchOptions.getDefault(),
+                                                 null,
+                                                 null,
+                                                 statistics);
+        
+        assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+        assertSame(statistics, result.getStatistics());
+        assertTrue(statistics.isFinished());
+        assertNotNull(statistics.getTimeToFirstSolution());
+        assertTrue(statistics.getNodes() > 0L);
+        assertTrue(statistics.getMaximumDepth() > 0);
+        assertTrue(statistics.getSeedsConsumed() > 0L);
+        
+        // Each seed is either consumed or skipped:
+        assertEquals(FrontierSudokuBoardSeedProvider
+                             .computeSeeds(new SudokuBoard(16), 32)
+                             .size(),
+                     statistics.getSeedsConsumed() 
+                   + statistics.getSeedsSkipped());
+        
+        assertTrue(statistics.getWorkerStatistics().size() <= 4);
+        
+        long nodes = 0L;
+        
+        for (final SolverStatistics.WorkerStatistics worker 
+                : statistics.getWorkerStatistics()) {
+            nodes += worker.getNodes();
+        }
+        
+        assertEquals(statistics.getNodes(), nodes);
+    }
+    
+    @Test
+    public void readsStatisticsLive() throws InterruptedException {
+        final CancellationToken token = new CancellationToken();
+        final SolverStatistics statistics = new SolverStatistics();
+        final Thread solver = new Thread(() -> {
+            new ParallelSudokuSolver().solve(new SudokuBoard(64),
+                                             8,
+                                             2,
+                                             SearchOptions.getDefault(),
+                                             null,
+                                             token,
+                                             statistics);
+        });
+        
+        solver.start();
+        
+        try {
+            // Wait until the workers flush their first counts:
+            while (statistics.getNodes() == 0L) {
+                Thread.sleep(10L);
+            }
+            
+            assertFalse(statistics.isFinished());
+            assertNull(statistics.getTimeToFirstSolution());
+        } finally {
+            token.cancel();
+            solver.join();
+        }
+        
+        assertTrue(statistics.isFinished());
+        assertTrue(statistics.getBacktracks() > 0L);
+    }
+    
+    @Test
+    public void collectsStatisticsViaForkJoin() {
+        final SudokuBoard puzzle = new SudokuBoard(16);
+        final SolverStatistics statistics = new SolverStatistics();
+        final SolveResult result = 
+                new ParallelSudokuSolver().solve(puzzle,
+                                                 ForkJoinPool.commonPool(),
+                                                 2,
+                                                 SearchOptions.getDefault(),
+                                                 null,
+                                                 null,
+                                                 statistics);
+        
+        assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+        assertTrue(statistics.getMaximumDepth() >= 2);
+        assertNotNull(statistics.getTimeToFirstSolution());
+    }
+    
+    private static SudokuBoard getHardPuzzle() {
+        final int[][] rows = {
+            { 8, 0, 0, 0, 0, 0, 0, 0, 0 },
+            { 0, 0, 3, 6, 0, 0, 0, 0, 0 },
+            { 0, 7, 0, 0, 9, 0, 2, 0, 0 },
+            { 0, 5, 0, 0, 0, 7, 0, 0, 0 },
+            { 0, 0, 0, 0, 4, 5, 7, 0, 0 },
+            { 0, 0, 0, 1, 0, 0, 0, 3, 0 },
+            { 0, 0, 1, 0, 0, 0, 0, 6, 8 },
+            { 0, 0, 8, 5, 0, 0, 0, 1, 0 },
+            { 0, 9, 0, 0, 0, 0, 4, 0, 0 },
+        };
+        
+        final SudokuBoard puzzle = new SudokuBoard(9);
+        
+        for (int y = 0; y < 9; ++y) {
+            for (int x = 0; x < 9; ++x) {
+                puzzle.set(x, y, rows[y][x]);
+            }
+        }
+        
+        return puzzle;
+    }
+    
+    public static SudokuBoard getPuzzle(final int widthHeight,
+                                        final int cellsToPrune,
+                                        final long seed) {
+        final Random random = new Random(seed);
+        final SudokuBoard board = 
+                new RandomSudokuBoardGenerator(widthHeight, random)
+                        .generateRandomSudokuBoard();
+        
+        RandomSudokuBoardPruner.prune(board, cellsToPrune, random);
+        return board;
+    }
+    
+    public static void assertSolves(final SudokuBoard puzzle, 
+                                    final SudokuBoard solution) {
+        assertNotNull(solution);
+        assertTrue(SudokuBoardVerifier.isValid(solution));
+        assertTrue(Utils.isCompleteSudokuBoard(solution));
+        
+        for (int y = 0; y < puzzle.getWidthHeight(); ++y) {
+            for (int x = 0; x < puzzle.getWidthHeight(); ++x) {
+                if (puzzle.get(x, y) != Utils.UNUSED_CELL) {
+                    assertEquals(puzzle.get(x, y), solution.get(x, y));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.coderodde.sudoku;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SearchOptionsTest {
+
+    @Test
+    public void followsLubySequence() {
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withRestarts(SearchOptions.RestartPolicy.LUBY, 
+                                           10L);
+        
+        final long[] expected = { 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8 };
+        
+        for (int attempt = 0; attempt < expected.length; ++attempt) {
+            assertEquals(10L * expected[attempt], 
+                         options.getNodeLimit(attempt));
+        }
+        
+        assertEquals(Long.MAX_VALUE, 
+                     SearchOptions.getDefault()
+                                  .withRestarts(
+                                          SearchOptions.RestartPolicy.LUBY, 
+                                          Long.MAX_VALUE / 2L)
+                                  .getNodeLimit(2));
+    }
+    
+    @Test
+    public void growsGeometrically() {
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withRestarts(
+                                     SearchOptions.RestartPolicy.GEOMETRIC, 
+                                     100L);
+        
+        assertEquals(100L, options.getNodeLimit(0));
+        assertEquals(150L, options.getNodeLimit(1));
+        assertEquals(225L, options.getNodeLimit(2));
+        assertEquals(Long.MAX_VALUE, options.getNodeLimit(1000));
+        assertEquals(Long.MAX_VALUE, 
+                     SearchOptions.getDefault().getNodeLimit(0));
+    }
+    
+    @Test
+    public void keepsAllOptionsInCopies() {
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withRestarts(
+                                     SearchOptions.RestartPolicy.GEOMETRIC, 
+                                     64L)
+                             .withValueHints(true)
+                             .withPropagation(true)
+                             .withCellOrder(
+                                     SearchOptions.CellOrder
+                                                  .MINIMUM_REMAINING_VALUES)
+                             .withValueOrder(SearchOptions.ValueOrder.RANDOM);
+        
+        assertEquals(SearchOptions.RestartPolicy.GEOMETRIC, 
+                     options.getRestartPolicy());
+        assertEquals(64L, options.getRestartScale());
+        assertTrue(options.isValueHintingEnabled());
+        assertTrue(options.isPropagationEnabled());
+        assertEquals(SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES, 
+                     options.getCellOrder());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnNonPositiveRestartScale() {
+        SearchOptions.getDefault()
+                     .withRestarts(SearchOptions.RestartPolicy.LUBY, 0L);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.coderodde.sudoku;
+
+import io.github.coderodde.sudoku.misc.SudokuBoardVerifier;
+import io.github.coderodde.sudoku.misc.Utils;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SearchStateTest {
+
+    @Test
+    public void propagationSolvesEasyBoardAndUndoRestoresIt() {
+        final SudokuBoard puzzle = 
+                ParallelSudokuSolverTest.getPuzzle(16, 40, 7L);
+        
+        final SudokuBoard board = new SudokuBoard(puzzle);
+        final SearchState state = new SearchState(16, true);
+        
+        assertTrue(state.load(board));
+        assertTrue(state.propagate());
+        assertTrue(Utils.isCompleteSudokuBoard(board));
+        assertTrue(SudokuBoardVerifier.isValid(board));
+        assertEquals(0, state.getEmptyCellCount());
+        
+        state.undoTo(0);
+        
+        assertEquals(puzzle, board);
+        assertEquals(40, state.getEmptyCellCount());
+    }
+    
+    @Test
+    public void propagationDetectsContradiction() {
+        final SudokuBoard board = new SudokuBoard(4);
+        
+        // The cell (3, 0) cannot hold any value:
+        board.set(0, 0, 1);
+        board.set(1, 0, 2);
+        board.set(3, 1, 3);
+        board.set(3, 2, 4);
+        
+        final SearchState state = new SearchState(4, false);
+        
+        assertTrue(state.load(board));
+        assertFalse(state.propagate());
+    }
+    
+    @Test
+    public void minimumRemainingValuesCellHasFewestCandidates() {
+        final SudokuBoard board = 
+                ParallelSudokuSolverTest.getPuzzle(9, 60, 8L);
+        
+        final SearchState state = new SearchState(9, true);
+        
+        assertTrue(state.load(board));
+        
+        final int selected = state.selectMinimumRemainingValuesCell();
+        final int selectedCount = Long.bitCount(state.getCandidates(selected));
+        
+        for (int cellIndex = 0; cellIndex < 81; ++cellIndex) {
+            if (state.getCellValue(cellIndex) == Utils.UNUSED_CELL) {
+                assertTrue(selectedCount <= 
+                           Long.bitCount(state.getCandidates(cellIndex)));
+            }
+        }
+    }
+}
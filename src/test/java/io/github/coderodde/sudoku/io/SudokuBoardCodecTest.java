@@ -0,0 +1,108 @@
+package io.github.coderodde.sudoku.io;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SudokuBoardCodecTest {
+    
+    @Test
+    public void packsCellsTightly() {
+        assertEquals(4 + 41, SudokuBoardCodec.getEncodedSize(9));
+        assertEquals(4 + 160, SudokuBoardCodec.getEncodedSize(16));
+        assertEquals(4 + 391, SudokuBoardCodec.getEncodedSize(25));
+        assertEquals(4 + 3584, SudokuBoardCodec.getEncodedSize(64));
+    }
+    
+    @Test
+    public void decodesWhatItEncodes() {
+        final List<SudokuBoard> boards = new ArrayList<>();
+        
+        for (int i = 0; i < 12; ++i) {
+            final int n = i % 3 == 0 ? 4 : (i % 3 == 1 ? 9 : 16);
+            boards.add(getPuzzle(n, n * n / 2, 300L + i));
+        }
+        
+        boards.add(new SudokuBoard(25));
+        boards.add(getPuzzle(25, 0, 1L));
+        
+        for (final ByteBuffer buffer : 
+                new ByteBuffer[] { ByteBuffer.allocate(1 << 14),
+                                   ByteBuffer.allocateDirect(1 << 14) }) {
+            
+            for (final SudokuBoard board : boards) {
+                final int position = buffer.position();
+                SudokuBoardCodec.encode(board, buffer);
+                
+                assertEquals(
+                        SudokuBoardCodec.getEncodedSize(
+                                board.getWidthHeight()),
+                        buffer.position() - position);
+            }
+            
+            buffer.flip();
+            
+            for (final SudokuBoard board : boards) {
+                assertEquals(board, SudokuBoardCodec.decode(buffer));
+            }
+            
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+    
+    @Test
+    public void leavesIncompleteRecordsUnconsumed() {
+        final SudokuBoard board = getPuzzle(9, 40, 1L);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        
+        SudokuBoardCodec.encode(board, buffer);
+        buffer.flip();
+        buffer.limit(1);
+        
+        assertEquals(-1, SudokuBoardCodec.peekEncodedSize(buffer));
+        
+        buffer.limit(20);
+        
+        assertEquals(45, SudokuBoardCodec.peekEncodedSize(buffer));
+        
+        try {
+            SudokuBoardCodec.decode(buffer);
+            fail("Decoded an incomplete record");
+        } catch (final BufferUnderflowException ex) {
+            assertEquals(0, buffer.position());
+        }
+        
+        buffer.limit(45);
+        
+        assertEquals(board, SudokuBoardCodec.decode(buffer));
+    }
+    
+    @Test
+    public void writesNothingOnOverflow() {
+        final ByteBuffer buffer = ByteBuffer.allocate(44);
+        
+        try {
+            SudokuBoardCodec.encode(getPuzzle(9, 40, 1L), buffer);
+            fail("Encoded into a short buffer");
+        } catch (final BufferOverflowException ex) {
+            assertEquals(0, buffer.position());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnCorruptClueCount() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        
+        SudokuBoardCodec.encode(getPuzzle(9, 40, 1L), buffer);
+        buffer.put(3, (byte) (buffer.get(3) + 1));
+        buffer.flip();
+        
+        SudokuBoardCodec.decode(buffer);
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.coderodde.sudoku.io;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class SudokuBoardReaderTest {
+    
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void readsWhatWriterWrites() throws IOException {
+        final List<SudokuBoard> puzzles = new ArrayList<>();
+        
+        for (int i = 0; i < 30; ++i) {
+            final int n = i % 3 == 0 ? 4 : (i % 3 == 1 ? 9 : 16);
+            puzzles.add(getPuzzle(n, n * n / 2, 200L + i));
+        }
+        
+        final Path path = folder.newFile().toPath();
+        
+        try (final SudokuBoardWriter writer = new SudokuBoardWriter(path)) {
+            for (final SudokuBoard puzzle : puzzles) {
+                writer.write(puzzle);
+            }
+        }
+        
+        // A small window forces the lines to cross the window ends:
+        try (final SudokuBoardReader reader = 
+                new SudokuBoardReader(path, 1000L)) {
+            
+            assertEquals(puzzles, 
+                         reader.stream().collect(Collectors.toList()));
+        }
+    }
+    
+    @Test
+    public void readsBothFormats() throws IOException {
+        final String compact = 
+                "53..7....6..195....98....6.8...6...34..8.3..17...2...6"
+              + ".6....28....419..5....8..79";
+        
+        final StringBuilder delimited = new StringBuilder("16");
+        
+        for (int i = 1; i < 256; ++i) {
+            delimited.append(i % 2 == 0 ? "\t." : ", 0");
+        }
+        
+        final Path path = folder.newFile().toPath();
+        
+        Files.writeString(path, 
+                          "# comment\r\n" 
+                        + compact.replace('.', '0') + "\r\n\n"
+                        + delimited + "\n"
+                        + compact,
+                          StandardCharsets.US_ASCII);
+        
+        try (final SudokuBoardReader reader = new SudokuBoardReader(path)) {
+            final SudokuBoard first = reader.next();
+            final SudokuBoard second = reader.next();
+            final SudokuBoard third = reader.next();
+            
+            assertFalse(reader.hasNext());
+            assertEquals(first, third);
+            assertEquals(9, first.getWidthHeight());
+            assertEquals(5, first.get(0, 0));
+            assertEquals(0, first.get(2, 0));
+            assertEquals(9, first.get(8, 8));
+            assertEquals(16, second.getWidthHeight());
+            assertEquals(16, second.get(0, 0));
+            
+            for (int cellIndex = 1; cellIndex < 256; ++cellIndex) {
+                assertEquals(0, second.getCell(cellIndex));
+            }
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnMalformedLine() throws IOException {
+        final Path path = folder.newFile().toPath();
+        Files.writeString(path, "123\n", StandardCharsets.US_ASCII);
+        
+        try (final SudokuBoardReader reader = new SudokuBoardReader(path)) {
+            reader.next();
+        }
+    }
+    
+    @Test
+    public void asciiArt() {
+        final SudokuBoard board = new SudokuBoard(4);
+        board.set(0, 0, 1);
+        board.set(3, 3, 4);
+        
+        assertEquals("+-+-+-+-+\n"
+                   + "|1|0|0|0|\n"
+                   + "+-+-+-+-+\n"
+                   + "|0|0|0|0|\n"
+                   + "+-+-+-+-+\n"
+                   + "|0|0|0|0|\n"
+                   + "+-+-+-+-+\n"
+                   + "|0|0|0|4|\n"
+                   + "+-+-+-+-+",
+                   board.toString());
+        
+        final SudokuBoard large = new SudokuBoard(16);
+        large.set(1, 0, 7);
+        large.set(2, 0, 16);
+        
+        assertTrue(large.toString().startsWith("+--+--+"));
+        assertTrue(large.toString().contains("\n| 0| 7|16| 0|"));
+    }
+}
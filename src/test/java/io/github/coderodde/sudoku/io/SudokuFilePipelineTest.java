@@ -0,0 +1,75 @@
+package io.github.coderodde.sudoku.io;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.BatchSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class SudokuFilePipelineTest {
+    
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void solvesFileInInputOrder() throws IOException {
+        final List<SudokuBoard> puzzles = new ArrayList<>();
+        
+        for (int i = 0; i < 50; ++i) {
+            puzzles.add(getPuzzle(i % 2 == 0 ? 9 : 16, 
+                                  i % 2 == 0 ? 50 : 120, 
+                                  100L + i));
+        }
+        
+        final SudokuBoard invalid = new SudokuBoard(9);
+        invalid.set(0, 0, 1);
+        invalid.set(1, 0, 1);
+        puzzles.add(invalid);
+        
+        final Path input = folder.newFile().toPath();
+        final Path output = folder.newFile().toPath();
+        
+        try (final SudokuBoardWriter writer = new SudokuBoardWriter(input)) {
+            for (final SudokuBoard puzzle : puzzles) {
+                writer.write(puzzle);
+            }
+        }
+        
+        final SearchOptions options = 
+                SearchOptions.getDefault()
+                             .withCellOrder(
+                                SearchOptions.CellOrder.MINIMUM_REMAINING_VALUES)
+                             .withPropagation(true);
+        
+        try (final BatchSudokuSolver solver = 
+                new BatchSudokuSolver(3, options)) {
+            
+            assertEquals(puzzles.size(), 
+                         SudokuFilePipeline.solveFile(input, output, solver));
+        }
+        
+        final List<String> lines = 
+                Files.readAllLines(output, StandardCharsets.US_ASCII);
+        
+        assertEquals(puzzles.size(), lines.size());
+        assertEquals("", lines.get(lines.size() - 1));
+        
+        try (final SudokuBoardReader reader = new SudokuBoardReader(output)) {
+            for (int i = 0; i < puzzles.size() - 1; ++i) {
+                assertSolves(puzzles.get(i), reader.next());
+            }
+            
+            assertFalse(reader.hasNext());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.coderodde.sudoku.jfr;
+
+import io.github.coderodde.sudoku.CancellationToken;
+import io.github.coderodde.sudoku.MinimalPuzzleGenerator;
+import io.github.coderodde.sudoku.ParallelSudokuSolver;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SolveResult;
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.misc.TransformingSudokuBoardGenerator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SudokuEventsTest {
+
+    @Test
+    public void recordsSolveLifecycle() throws Exception {
+        final List<RecordedEvent> events;
+        
+        try (final Recording recording = new Recording()) {
+            recording.enable("io.github.coderodde.sudoku.*");
+            recording.start();
+            
+            final SudokuBoard board = 
+                    new TransformingSudokuBoardGenerator(9)
+                            .generate(new SplittableRandom(1L));
+            
+            try (final MinimalPuzzleGenerator generator = 
+                    new MinimalPuzzleGenerator(2)) {
+                
+                final SudokuBoard puzzle = 
+                        generator.generateMinimal(board, new Random(1L));
+                
+                final SolveResult result = 
+                        new ParallelSudokuSolver()
+                                .solve(puzzle,
+                                       16,
+                                       2,
+                                       SearchOptions.getDefault(),
+                                       null,
+                                       null);
+                
+                assertEquals(SolveResult.Status.SOLVED, result.getStatus());
+            }
+            
+            final CancellationToken token = new CancellationToken();
+            token.cancel();
+            
+            new ParallelSudokuSolver().solve(new SudokuBoard(16),
+                                             16,
+                                             2,
+                                             SearchOptions.getDefault(),
+                                             token);
+            
+            recording.stop();
+            
+            final Path file = Files.createTempFile("sudoku", ".jfr");
+            
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+        
+        final List<String> names = 
+                events.stream()
+                      .map(event -> event.getEventType().getName())
+                      .collect(Collectors.toList());
+        
+        assertTrue(names.contains("io.github.coderodde.sudoku.Generation"));
+        assertTrue(names.contains("io.github.coderodde.sudoku.Solve"));
+        assertTrue(names.contains("io.github.coderodde.sudoku.SeedGeneration"));
+        assertTrue(names.contains("io.github.coderodde.sudoku.Worker"));
+        assertTrue(names.contains(
+                "io.github.coderodde.sudoku.SolutionPublished"));
+        
+        assertTrue(names.contains("io.github.coderodde.sudoku.Cancellation"));
+        
+        for (final RecordedEvent event : events) {
+            if (event.getEventType()
+                     .getName()
+                     .equals("io.github.coderodde.sudoku.Solve") 
+                    && event.getString("status").equals("SOLVED")) {
+                
+                assertEquals(9, event.getInt("boardSize"));
+                assertEquals(2, event.getInt("threadCount"));
+                assertTrue(event.getInt("clueCount") < 81);
+            }
+        }
+    }
+}
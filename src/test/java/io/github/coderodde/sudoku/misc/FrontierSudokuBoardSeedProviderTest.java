@@ -0,0 +1,113 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class FrontierSudokuBoardSeedProviderTest {
+
+    @Test
+    public void seedsPartitionSolutions() {
+        final SudokuBoard board = new SudokuBoard(4);
+        board.set(0, 0, 1);
+        board.set(3, 3, 4);
+        
+        final List<SudokuBoard> solutions = new ArrayList<>();
+        collectSolutions(board, 0, solutions);
+        
+        final List<SudokuBoard> seeds = 
+                FrontierSudokuBoardSeedProvider.computeSeeds(board, 10);
+        
+        assertTrue(seeds.size() >= 10);
+        
+        for (final SudokuBoard seed : seeds) {
+            assertTrue(SudokuBoardVerifier.isValid(seed));
+            assertExtends(board, seed);
+        }
+        
+        // Each solution must extend exactly one seed:
+        for (final SudokuBoard solution : solutions) {
+            int extendedSeeds = 0;
+            
+            for (final SudokuBoard seed : seeds) {
+                if (extendsBoard(seed, solution)) {
+                    ++extendedSeeds;
+                }
+            }
+            
+            assertEquals(1, extendedSeeds);
+        }
+    }
+    
+    @Test
+    public void returnsSourceWhenSingleSeedRequested() {
+        final SudokuBoard board = new SudokuBoard(9);
+        board.set(4, 4, 5);
+        
+        final List<SudokuBoard> seeds = 
+                FrontierSudokuBoardSeedProvider.computeSeeds(board, 1);
+        
+        assertEquals(1, seeds.size());
+        assertEquals(board, seeds.get(0));
+        assertNotSame(board, seeds.get(0));
+    }
+    
+    @Test
+    public void returnsNoSeedsForInvalidBoard() {
+        final SudokuBoard board = new SudokuBoard(9);
+        board.set(0, 0, 3);
+        board.set(8, 0, 3);
+        
+        assertTrue(FrontierSudokuBoardSeedProvider.computeSeeds(board, 16)
+                                                  .isEmpty());
+    }
+    
+    private static void assertExtends(final SudokuBoard board, 
+                                      final SudokuBoard extension) {
+        assertTrue(extendsBoard(board, extension));
+    }
+    
+    private static boolean extendsBoard(final SudokuBoard board, 
+                                        final SudokuBoard extension) {
+        final int cellCount = board.getWidthHeight() * board.getWidthHeight();
+        
+        for (int cellIndex = 0; cellIndex < cellCount; ++cellIndex) {
+            final int cellValue = board.getCell(cellIndex);
+            
+            if (cellValue != Utils.UNUSED_CELL 
+                    && cellValue != extension.getCell(cellIndex)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static void collectSolutions(final SudokuBoard board,
+                                         final int cellIndex,
+                                         final List<SudokuBoard> solutions) {
+        final int n = board.getWidthHeight();
+        
+        if (cellIndex == n * n) {
+            solutions.add(new SudokuBoard(board));
+            return;
+        }
+        
+        if (board.getCell(cellIndex) != Utils.UNUSED_CELL) {
+            collectSolutions(board, cellIndex + 1, solutions);
+            return;
+        }
+        
+        for (int cellValue = 1; cellValue <= n; ++cellValue) {
+            board.setCell(cellIndex, cellValue);
+            
+            if (SudokuBoardVerifier.isValid(board)) {
+                collectSolutions(board, cellIndex + 1, solutions);
+            }
+        }
+        
+        board.setCell(cellIndex, Utils.UNUSED_CELL);
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SudokuBoardVerifierTest {
+
+    @Test
+    public void detectsClashes() {
+        final SudokuBoard board = new SudokuBoard(9);
+        assertTrue(SudokuBoardVerifier.isValid(board));
+        
+        board.set(0, 0, 5);
+        board.set(8, 8, 5);
+        assertTrue(SudokuBoardVerifier.isValid(board));
+        
+        // Row clash:
+        board.set(4, 0, 5);
+        assertFalse(SudokuBoardVerifier.isValid(board));
+        board.set(4, 0, Utils.UNUSED_CELL);
+        
+        // Column clash:
+        board.set(0, 4, 5);
+        assertFalse(SudokuBoardVerifier.isValid(board));
+        board.set(0, 4, Utils.UNUSED_CELL);
+        
+        // Minisquare clash:
+        board.set(1, 1, 5);
+        assertFalse(SudokuBoardVerifier.isValid(board));
+        board.set(1, 1, Utils.UNUSED_CELL);
+        
+        // Out of range:
+        board.set(3, 3, 10);
+        assertFalse(SudokuBoardVerifier.isValid(board));
+    }
+    
+    @Test
+    public void canPlaceAgreesWithIsValid() {
+        final SplittableRandom random = new SplittableRandom(3L);
+        final SudokuBoard board = 
+                new TransformingSudokuBoardGenerator(16).generate(random);
+        
+        RandomSudokuBoardPruner.prune(board, 
+                                      128, 
+                                      new Random(3L));
+        
+        for (int y = 0; y < 16; ++y) {
+            for (int x = 0; x < 16; ++x) {
+                final int cellValue = board.get(x, y);
+                
+                for (int value = 0; value <= 17; ++value) {
+                    board.set(x, y, value);
+                    
+                    assertEquals(
+                            value != Utils.UNUSED_CELL
+                            && SudokuBoardVerifier.isValid(board),
+                            SudokuBoardVerifier.canPlace(board, x, y, value));
+                }
+                
+                board.set(x, y, cellValue);
+            }
+        }
+    }
+    
+    @Test
+    public void verifiesLargeBoardsInParallel() {
+        final SplittableRandom random = new SplittableRandom(11L);
+        final SudokuBoard board = 
+                new TransformingSudokuBoardGenerator(81).generate(random);
+        
+        assertTrue(SudokuBoardVerifier.isValidParallel(board));
+        assertTrue(SudokuBoardVerifier.isValid(board));
+        
+        // Duplicate a value in the first row:
+        final int cellValue = board.get(0, 0);
+        board.set(0, 0, board.get(9, 0));
+        assertFalse(SudokuBoardVerifier.isValidParallel(board));
+        assertFalse(SudokuBoardVerifier.isValid(board));
+        
+        board.set(0, 0, cellValue);
+        assertTrue(SudokuBoardVerifier.isValidParallel(board));
+    }
+    
+    @Test
+    public void verifiesBatches() {
+        final List<SudokuBoard> boards = 
+                new TransformingSudokuBoardGenerator(25).generate(200L, 1L)
+                                                        .toList();
+        
+        assertTrue(SudokuBoardVerifier.areAllValid(boards));
+        
+        boards.get(117).set(0, 0, boards.get(117).get(1, 0));
+        assertFalse(SudokuBoardVerifier.areAllValid(boards));
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.coderodde.sudoku.misc;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SudokuCanonicalizerTest {
+
+    @Test
+    public void canonicalFormIsSymmetricToBoard() {
+        final SudokuBoard puzzle = getPuzzle(16, 120, 2L);
+        final SudokuTransformation transformation = 
+                SudokuCanonicalizer.canonicalize(puzzle);
+        
+        final SudokuBoard canonicalForm = transformation.apply(puzzle);
+        
+        assertTrue(SudokuBoardVerifier.isValid(canonicalForm));
+        assertEquals(Utils.countClues(puzzle), 
+                     Utils.countClues(canonicalForm));
+        
+        assertEquals(puzzle, transformation.inverse().apply(canonicalForm));
+    }
+    
+    @Test
+    public void symmetricPuzzlesShareCanonicalForm() {
+        final SplittableRandom random = new SplittableRandom(7L);
+        
+        for (final long seed : new long[]{ 1L, 2L, 3L }) {
+            final SudokuBoard puzzle = getPuzzle(9, 50, seed);
+            final SudokuBoard canonicalForm = 
+                    SudokuCanonicalizer.getCanonicalForm(puzzle);
+            
+            for (int i = 0; i < 20; ++i) {
+                final SudokuBoard symmetricPuzzle = 
+                        SudokuTransformation.random(9, random).apply(puzzle);
+                
+                assertEquals(
+                        canonicalForm, 
+                        SudokuCanonicalizer.getCanonicalForm(symmetricPuzzle));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.coderodde.sudoku.misc;
+
+import io.github.coderodde.sudoku.SudokuBoard;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TransformingSudokuBoardGeneratorTest {
+
+    @Test
+    public void generatesFullValidBoards() {
+        final SplittableRandom random = new SplittableRandom(13L);
+        
+        for (final int widthHeight : new int[]{ 4, 9, 16, 25, 49 }) {
+            final TransformingSudokuBoardGenerator generator = 
+                    new TransformingSudokuBoardGenerator(widthHeight);
+            
+            for (int i = 0; i < 5; ++i) {
+                final SudokuBoard board = generator.generate(random);
+                
+                assertEquals(widthHeight, board.getWidthHeight());
+                assertTrue(Utils.isCompleteSudokuBoard(board));
+                assertTrue(SudokuBoardVerifier.isValid(board));
+            }
+        }
+    }
+    
+    @Test
+    public void streamIsDeterministic() {
+        final TransformingSudokuBoardGenerator generator = 
+                new TransformingSudokuBoardGenerator(16);
+        
+        final List<SudokuBoard> boards1 = generator.generate(100L, 7L)
+                                                   .toList();
+        
+        final List<SudokuBoard> boards2 = generator.generate(100L, 7L)
+                                                   .toList();
+        
+        assertEquals(100, boards1.size());
+        assertEquals(boards1, boards2);
+        
+        for (final SudokuBoard board : boards1) {
+            assertTrue(SudokuBoardVerifier.isValid(board));
+        }
+    }
+    
+    @Test
+    public void inverseRestoresBoard() {
+        final SplittableRandom random = new SplittableRandom(5L);
+        final SudokuBoard board = 
+                new TransformingSudokuBoardGenerator(9).generate(random);
+        
+        // Leave some blanks in order to test partial boards as well:
+        for (int i = 0; i < 81; i += 3) {
+            board.setCell(i, Utils.UNUSED_CELL);
+        }
+        
+        for (int i = 0; i < 20; ++i) {
+            final SudokuTransformation transformation = 
+                    SudokuTransformation.random(9, random);
+            
+            final SudokuBoard transformed = transformation.apply(board);
+            
+            assertTrue(SudokuBoardVerifier.isValid(transformed));
+            assertEquals(board, transformation.inverse().apply(transformed));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.coderodde.sudoku.server;
+
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.assertSolves;
+import static io.github.coderodde.sudoku.ParallelSudokuSolverTest.getPuzzle;
+import io.github.coderodde.sudoku.SearchOptions;
+import io.github.coderodde.sudoku.SudokuBoard;
+import io.github.coderodde.sudoku.io.SudokuBoardReader;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SudokuHttpServerTest {
+    
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+    
+    @Test
+    public void solvesBatchedRequests() throws Exception {
+        try (final SudokuHttpServer server = 
+                new SudokuHttpServer(0, 2, 64, 16, SearchOptions.getDefault())) {
+            
+            server.start();
+            
+            final List<List<SudokuBoard>> requests = new ArrayList<>();
+            final List<CompletableFuture<HttpResponse<String>>> responses = 
+                    new ArrayList<>();
+            
+            for (int i = 0; i < 8; ++i) {
+                final List<SudokuBoard> puzzles = new ArrayList<>();
+                final StringBuilder body = new StringBuilder();
+                
+                for (int j = 0; j < 3; ++j) {
+                    final SudokuBoard puzzle = 
+                            getPuzzle(9, 45, 100L * i + j);
+                    
+                    puzzles.add(puzzle);
+                    body.append(toLine(puzzle)).append('\n');
+                }
+                
+                // Invalid and malformed lines are answered with empty ones:
+                final SudokuBoard invalid = new SudokuBoard(9);
+                invalid.set(0, 0, 1);
+                invalid.set(1, 0, 1);
+                puzzles.add(null);
+                body.append(toLine(invalid)).append('\n');
+                
+                requests.add(puzzles);
+                responses.add(CLIENT.sendAsync(
+                        post(server, "/solve", body.toString()),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            
+            for (int i = 0; i < requests.size(); ++i) {
+                final HttpResponse<String> response = responses.get(i).get();
+                
+                assertEquals(200, response.statusCode());
+                
+                final String[] lines = response.body().split("\n", -1);
+                final List<SudokuBoard> puzzles = requests.get(i);
+                
+                assertEquals(puzzles.size() + 1, lines.length);
+                
+                for (int j = 0; j < puzzles.size(); ++j) {
+                    if (puzzles.get(j) == null) {
+                        assertEquals("", lines[j]);
+                    } else {
+                        assertSolves(puzzles.get(j), parse(lines[j]));
+                    }
+                }
+            }
+            
+            final ServerStatistics statistics = server.getStatistics();
+            
+            assertEquals(8L, statistics.getRequests());
+            assertEquals(32L, statistics.getPuzzles());
+            assertTrue(statistics.getBatches() <= 32L);
+            assertTrue(statistics.getLatencyPercentile(99.0).toNanos() > 0L);
+            
+            final HttpResponse<String> stats = 
+                    CLIENT.send(HttpRequest.newBuilder(uri(server, "/stats"))
+                                           .build(),
+                                HttpResponse.BodyHandlers.ofString());
+            
+            assertEquals(200, stats.statusCode());
+            assertTrue(stats.body().contains("\"requests\":8,"));
+            assertTrue(stats.body().contains("\"p999\":"));
+        }
+    }
+    
+    @Test
+    public void rejectsWhenSaturated() throws Exception {
+        try (final SudokuHttpServer server = 
+                new SudokuHttpServer(0, 1, 4, 4, SearchOptions.getDefault())) {
+            
+            server.start();
+            
+            final String body = toLine(getPuzzle(9, 45, 1L)) + "\n";
+            
+            // Occupy the entire queue:
+            assertTrue(server.reserveQueueSlots(4));
+            
+            final HttpResponse<String> response = 
+                    CLIENT.send(post(server, "/solve", body),
+                                HttpResponse.BodyHandlers.ofString());
+            
+            assertEquals(429, response.statusCode());
+            assertEquals(1L, server.getStatistics().getRejectedRequests());
+            
+            assertEquals(400, 
+                         CLIENT.send(post(server, "/solve", "12345\n"),
+                                     HttpResponse.BodyHandlers.ofString())
+                               .statusCode());
+            
+            assertEquals(405, 
+                         CLIENT.send(HttpRequest.newBuilder(
+                                             uri(server, "/solve")).build(),
+                                     HttpResponse.BodyHandlers.ofString())
+                               .statusCode());
+        }
+    }
+    
+    private static HttpRequest post(final SudokuHttpServer server,
+                                    final String path,
+                                    final String body) {
+        return HttpRequest.newBuilder(uri(server, path))
+                          .POST(HttpRequest.BodyPublishers.ofString(body))
+                          .build();
+    }
+    
+    private static URI uri(final SudokuHttpServer server, final String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+    
+    private static String toLine(final SudokuBoard board) {
+        final StringBuilder sb = new StringBuilder();
+        
+        for (int cellIndex = 0; cellIndex < 81; ++cellIndex) {
+            sb.append(board.getCell(cellIndex));
+        }
+        
+        return sb.toString();
+    }
+    
+    private static SudokuBoard parse(final String line) throws IOException {
+        try (final SudokuBoardReader reader = 
+                new SudokuBoardReader(
+                        ByteBuffer.wrap(
+                                line.getBytes(StandardCharsets.US_ASCII)))) {
+            return reader.next();
+        }
+    }
+}